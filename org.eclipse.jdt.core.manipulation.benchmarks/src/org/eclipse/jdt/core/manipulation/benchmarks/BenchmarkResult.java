@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.osgi.framework.Bundle;
+
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * The measurements of a benchmark. The result is written as one line of JSON, so that the
+ * results of different versions can be compared with standard tools.
+ */
+public final class BenchmarkResult {
+
+	private static final String MANIPULATION_BUNDLE= "org.eclipse.jdt.core.manipulation";
+
+	private final String fName;
+	private final int fIterations;
+	private final long fOperations;
+	private final long fTime;
+	private final long fAllocatedBytes;
+	private final long fCollections;
+	private final long fCollectionTime;
+
+	BenchmarkResult(String name, int iterations, long operations, long time, long allocatedBytes, long collections, long collectionTime) {
+		fName= name;
+		fIterations= iterations;
+		fOperations= operations;
+		fTime= time;
+		fAllocatedBytes= allocatedBytes;
+		fCollections= collections;
+		fCollectionTime= collectionTime;
+	}
+
+	public String getName() {
+		return fName;
+	}
+
+	public long getOperations() {
+		return fOperations;
+	}
+
+	/**
+	 * @return the operations per second
+	 */
+	public double getThroughput() {
+		return fTime == 0 ? 0 : fOperations * 1e9 / fTime;
+	}
+
+	/**
+	 * @return the allocated bytes per operation
+	 */
+	public double getAllocatedBytesPerOperation() {
+		return fOperations == 0 ? 0 : (double) fAllocatedBytes / fOperations;
+	}
+
+	/**
+	 * @return the allocated megabytes per second
+	 */
+	public double getAllocationRate() {
+		return fTime == 0 ? 0 : fAllocatedBytes * 1e9 / fTime / (1024 * 1024);
+	}
+
+	public String toJson() {
+		Bundle bundle= Platform.getBundle(MANIPULATION_BUNDLE);
+		String version= bundle != null ? bundle.getVersion().toString() : "";
+		return String.format(Locale.ROOT,
+				"{\"benchmark\":\"%s\",\"version\":\"%s\",\"iterations\":%d,\"operations\":%d,\"timeNs\":%d,\"opsPerSecond\":%.3f,\"allocatedBytes\":%d,\"bytesPerOp\":%.1f,\"allocationRateMBPerSecond\":%.3f,\"gcCount\":%d,\"gcTimeMs\":%d}",
+				fName, version, fIterations, fOperations, fTime, getThroughput(), fAllocatedBytes, getAllocatedBytesPerOperation(), getAllocationRate(), fCollections, fCollectionTime);
+	}
+
+	/**
+	 * Appends the result as a line of JSON to the given file.
+	 *
+	 * @param file the file to append to, it is created if it does not exist
+	 * @throws IOException if the file cannot be written
+	 */
+	public void appendTo(Path file) throws IOException {
+		Path parent= file.toAbsolutePath().getParent();
+		if (parent != null)
+			Files.createDirectories(parent);
+		Files.write(file, Collections.singletonList(toJson()), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	@Override
+	public String toString() {
+		return toJson();
+	}
+}
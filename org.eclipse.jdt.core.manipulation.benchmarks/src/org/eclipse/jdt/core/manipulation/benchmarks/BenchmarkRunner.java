@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Runs a workload in the calling thread and measures it the way JMH measures in throughput
+ * mode with the GC profiler: warm-up iterations that are not measured are followed by the
+ * measured iterations. Besides the time, the bytes allocated by the calling thread and the
+ * garbage collections during the measured iterations are recorded.
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * A workload to measure.
+	 */
+	public interface Workload {
+
+		/**
+		 * Runs the workload once.
+		 *
+		 * @return the number of operations that were performed
+		 * @throws Exception if the workload fails
+		 */
+		int run() throws Exception;
+	}
+
+	private static final ThreadMXBean fgThreads= (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private final int fWarmupIterations;
+	private final int fIterations;
+
+	public BenchmarkRunner(int warmupIterations, int iterations) {
+		fWarmupIterations= warmupIterations;
+		fIterations= iterations;
+		if (fgThreads.isThreadAllocatedMemorySupported() && !fgThreads.isThreadAllocatedMemoryEnabled())
+			fgThreads.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	public BenchmarkResult run(String name, Workload workload) throws Exception {
+		for (int i= 0; i < fWarmupIterations; i++) {
+			workload.run();
+		}
+
+		long threadId= Thread.currentThread().getId();
+		long operations= 0;
+		long time= 0;
+		long allocated= 0;
+		long collections= 0;
+		long collectionTime= 0;
+		for (int i= 0; i < fIterations; i++) {
+			long collectionsBefore= getCollectionCount();
+			long collectionTimeBefore= getCollectionTime();
+			long allocatedBefore= getAllocatedBytes(threadId);
+			long start= System.nanoTime();
+
+			operations+= workload.run();
+
+			time+= System.nanoTime() - start;
+			allocated+= getAllocatedBytes(threadId) - allocatedBefore;
+			collections+= getCollectionCount() - collectionsBefore;
+			collectionTime+= getCollectionTime() - collectionTimeBefore;
+		}
+		return new BenchmarkResult(name, fIterations, operations, time, allocated, collections, collectionTime);
+	}
+
+	private static long getAllocatedBytes(long threadId) {
+		if (!fgThreads.isThreadAllocatedMemoryEnabled())
+			return 0;
+		return fgThreads.getThreadAllocatedBytes(threadId);
+	}
+
+	private static long getCollectionCount() {
+		long count= 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+			count+= Math.max(0, bean.getCollectionCount());
+		return count;
+	}
+
+	private static long getCollectionTime() {
+		long time= 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+			time+= Math.max(0, bean.getCollectionTime());
+		return time;
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.templates.ContextTypeRegistry;
+import org.eclipse.text.templates.TemplatePersistenceData;
+import org.eclipse.text.templates.TemplateStoreCore;
+
+import org.eclipse.jface.text.templates.Template;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
+
+import org.eclipse.jdt.launching.JavaRuntime;
+
+import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
+
+/**
+ * A generated Java project in the workspace, set up without the Java UI. The code templates
+ * that the Java UI contributes are replaced by the ones used by the benchmarks.
+ */
+public final class BenchmarkWorkspace {
+
+	private static final String BUNDLE_ID= "org.eclipse.jdt.core.manipulation.benchmarks";
+
+	private final IJavaProject fProject;
+	private final List<ICompilationUnit> fCompilationUnits= new ArrayList<>();
+	private final boolean fOwnsPreferenceNode;
+	private final TemplateStoreCore fOldTemplateStore;
+	private final ContextTypeRegistry fOldContextTypeRegistry;
+
+	/**
+	 * Creates a project with the given number of packages and types.
+	 *
+	 * @param name the name of the project
+	 * @param packages the number of packages
+	 * @param typesPerPackage the number of types in each package
+	 * @throws CoreException if the project cannot be created
+	 */
+	public BenchmarkWorkspace(String name, int packages, int typesPerPackage) throws CoreException {
+		fOwnsPreferenceNode= JavaManipulation.getPreferenceNodeId() == null;
+		if (fOwnsPreferenceNode)
+			JavaManipulation.setPreferenceNodeId(BUNDLE_ID);
+		fOldTemplateStore= JavaManipulation.getCodeTemplateStore();
+		fOldContextTypeRegistry= JavaManipulation.getCodeTemplateContextRegistry();
+		installCodeTemplates();
+
+		IProject project= ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+		project.create(null);
+		project.open(null);
+		IProjectDescription description= project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+
+		IFolder src= project.getFolder("src");
+		src.create(true, true, null);
+		fProject= JavaCore.create(project);
+		fProject.setRawClasspath(new IClasspathEntry[] { JavaCore.newSourceEntry(src.getFullPath()), JavaRuntime.getDefaultJREContainerEntry() }, project.getFullPath().append("bin"), null);
+		Map<String, String> options= fProject.getOptions(false);
+		JavaCore.setComplianceOptions(JavaCore.VERSION_11, options);
+		fProject.setOptions(options);
+
+		IPackageFragmentRoot root= fProject.getPackageFragmentRoot(src);
+		for (int p= 0; p < packages; p++) {
+			IPackageFragment pack= root.createPackageFragment("p" + p, false, null);
+			for (int t= 0; t < typesPerPackage; t++) {
+				String typeName= "C" + t;
+				fCompilationUnits.add(pack.createCompilationUnit(typeName + ".java", createSource(p, typeName), false, null));
+			}
+		}
+		waitUntilReady();
+	}
+
+	public IJavaProject getProject() {
+		return fProject;
+	}
+
+	public ICompilationUnit[] getCompilationUnits() {
+		return fCompilationUnits.toArray(new ICompilationUnit[fCompilationUnits.size()]);
+	}
+
+	/**
+	 * Deletes the project and restores the code templates.
+	 *
+	 * @throws CoreException if the project cannot be deleted
+	 */
+	public void dispose() throws CoreException {
+		try {
+			fProject.getProject().delete(IResource.FORCE | IResource.ALWAYS_DELETE_PROJECT_CONTENT, null);
+		} finally {
+			JavaManipulation.setCodeTemplateStore(fOldTemplateStore);
+			JavaManipulation.setCodeTemplateContextRegistry(fOldContextTypeRegistry);
+			if (fOwnsPreferenceNode)
+				JavaManipulation.setPreferenceNodeId(null);
+		}
+	}
+
+	private static void installCodeTemplates() {
+		ContextTypeRegistry registry= new ContextTypeRegistry();
+		CodeTemplateContextType.registerContextTypes(registry);
+		TemplateStoreCore store= new TemplateStoreCore(InstanceScope.INSTANCE.getNode(BUNDLE_ID), "codeTemplates") {
+			@Override
+			public void add(TemplatePersistenceData data) {
+				// keep the id, the code templates are looked up by id
+				internalAdd(data);
+			}
+		};
+		store.add(new TemplatePersistenceData(new Template("methodcomment", "", CodeTemplateContextType.METHODCOMMENT_CONTEXTTYPE, "/**\n * ${tags}\n */", false), true, CodeTemplateContextType.METHODCOMMENT_ID));
+		store.add(new TemplatePersistenceData(new Template("methodbody", "", CodeTemplateContextType.METHODBODY_CONTEXTTYPE, "// ${todo} Auto-generated method stub\n${body_statement}", false), true, CodeTemplateContextType.METHODSTUB_ID));
+		JavaManipulation.setCodeTemplateContextRegistry(registry);
+		JavaManipulation.setCodeTemplateStore(store);
+	}
+
+	private static void waitUntilReady() throws CoreException {
+		try {
+			Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// a search that waits for the indexer
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, "XXXXXXXXX".toCharArray(), SearchPattern.R_EXACT_MATCH,
+				IJavaSearchConstants.CLASS, SearchEngine.createJavaSearchScope(new IJavaElement[0]), new TypeNameRequestor() {
+					// ignore the matches
+				}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+	}
+
+	private static String createSource(int p, String typeName) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p").append(p).append(";\n");
+		buf.append("import java.util.*;\n");
+		buf.append("public class ").append(typeName).append(" {\n");
+		buf.append("    private List<String> fNames= new ArrayList<>();\n");
+		buf.append("    private long fCount= 10l;\n");
+		buf.append("    public int compute(int a, Map<String, Integer> map) {\n");
+		buf.append("        int sum= 0;\n");
+		buf.append("        for (int i= 0; i < a; i++) {\n");
+		buf.append("            String key= \"k\" + i;\n");
+		buf.append("            Integer value= map.get(key);\n");
+		buf.append("            if (value != null)\n");
+		buf.append("                sum+= value.intValue();\n");
+		buf.append("        }\n");
+		buf.append("        return sum + fNames.size();\n");
+		buf.append("    }\n");
+		buf.append("    public String describe(Object o) throws Exception {\n");
+		buf.append("        if (o instanceof ").append(typeName).append(")\n");
+		buf.append("            return fNames.toString() + fCount;\n");
+		buf.append("        return String.valueOf(o);\n");
+		buf.append("    }\n");
+		if (p > 0) {
+			buf.append("    public p").append(p - 1).append('.').append(typeName).append(" previous() {\n");
+			buf.append("        return new p").append(p - 1).append('.').append(typeName).append("();\n");
+			buf.append("    }\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringSessionDescriptor;
+import org.eclipse.ltk.core.refactoring.history.IRefactoringHistoryService;
+import org.eclipse.ltk.core.refactoring.history.RefactoringHistory;
+import org.eclipse.ltk.internal.core.refactoring.history.DefaultRefactoringDescriptor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
+import org.eclipse.jdt.internal.corext.fix.CodeStyleFixCore;
+import org.eclipse.jdt.internal.corext.fix.VariableDeclarationFixCore;
+
+/**
+ * Benchmarks of hot paths of <code>org.eclipse.jdt.core.manipulation</code> on a generated
+ * project. They run headless, without the workbench. Each benchmark appends its result as a
+ * line of JSON to the file given by the system property {@value #RESULTS_PROPERTY}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CoreManipulationBenchmarks {
+
+	public static final String RESULTS_PROPERTY= "org.eclipse.jdt.core.manipulation.benchmarks.results";
+
+	private static final int PACKAGES= 10;
+	private static final int TYPES_PER_PACKAGE= 20;
+	private static final int DESCRIPTORS= 1000;
+
+	private static final BenchmarkRunner RUNNER= new BenchmarkRunner(5, 10);
+
+	private static BenchmarkWorkspace fgWorkspace;
+	private static CompilationUnit[] fgASTs;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		fgWorkspace= new BenchmarkWorkspace("Benchmarks", PACKAGES, TYPES_PER_PACKAGE);
+		fgASTs= createASTs(fgWorkspace.getCompilationUnits());
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		fgASTs= null;
+		if (fgWorkspace != null) {
+			fgWorkspace.dispose();
+			fgWorkspace= null;
+		}
+	}
+
+	@Test
+	public void cleanUps() throws Exception {
+		report(RUNNER.run("cleanUps", () -> {
+			int changes= 0;
+			for (CompilationUnit ast : fgASTs) {
+				ICleanUpFixCore codeStyle= CodeStyleFixCore.createCleanUp(ast, true, true, false, true, true, false, false, false);
+				if (codeStyle != null && codeStyle.createChange(new NullProgressMonitor()) != null)
+					changes++;
+				ICleanUpFixCore variables= VariableDeclarationFixCore.createCleanUp(ast, true, true, true);
+				if (variables != null && variables.createChange(new NullProgressMonitor()) != null)
+					changes++;
+			}
+			return changes;
+		}));
+	}
+
+	@Test
+	public void codeGeneration() throws Exception {
+		List<MethodDeclaration> methods= new ArrayList<>();
+		for (CompilationUnit ast : fgASTs) {
+			ast.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					methods.add(node);
+					return false;
+				}
+			});
+		}
+		report(RUNNER.run("codeGeneration", () -> {
+			for (MethodDeclaration method : methods) {
+				ICompilationUnit cu= (ICompilationUnit) ((CompilationUnit) method.getRoot()).getJavaElement();
+				String typeName= cu.findPrimaryType().getElementName();
+				assertTrue(StubUtility.getMethodComment(cu, typeName, method, false, null, null, null, false, "\n") != null);
+				assertTrue(StubUtility.getMethodBodyContent(false, cu.getJavaProject(), typeName, method.getName().getIdentifier(), "return 0;", "\n") != null);
+			}
+			return methods.size();
+		}));
+	}
+
+	@Test
+	public void organizeImports() throws Exception {
+		IChooseImportQuery query= (openChoices, ranges) -> {
+			TypeNameMatch[] result= new TypeNameMatch[openChoices.length];
+			for (int i= 0; i < openChoices.length; i++)
+				result[i]= openChoices[i][0];
+			return result;
+		};
+		ICompilationUnit[] units= fgWorkspace.getCompilationUnits();
+		report(RUNNER.run("organizeImports", () -> {
+			for (ICompilationUnit cu : units) {
+				// creates the AST and the edit, the compilation unit is not changed
+				new OrganizeImportsOperation(cu, null, true, false, true, query).createTextEdit(new NullProgressMonitor());
+			}
+			return units.length;
+		}));
+	}
+
+	@Test
+	public void refactoringHistory() throws Exception {
+		IRefactoringHistoryService service= RefactoringCore.getHistoryService();
+		RefactoringSessionDescriptor session= new RefactoringSessionDescriptor(createDescriptors(), RefactoringSessionDescriptor.VERSION_1_0, null);
+		report(RUNNER.run("refactoringHistory", () -> {
+			ByteArrayOutputStream out= new ByteArrayOutputStream();
+			service.writeRefactoringSession(session, out, true);
+			RefactoringHistory history= service.readRefactoringHistory(new ByteArrayInputStream(out.toByteArray()), RefactoringDescriptor.NONE);
+			assertEquals(DESCRIPTORS, history.getDescriptors().length);
+			return DESCRIPTORS;
+		}));
+	}
+
+	@Test
+	public void scopeAnalysis() throws Exception {
+		report(RUNNER.run("scopeAnalysis", () -> {
+			int[] queries= new int[1];
+			for (CompilationUnit ast : fgASTs) {
+				ScopeAnalyzer analyzer= new ScopeAnalyzer(ast);
+				ast.accept(new ASTVisitor() {
+					@Override
+					public boolean visit(MethodDeclaration node) {
+						if (node.getBody() != null)
+							ASTNodes.getLocalVariableIdentifiers(node.getBody(), true);
+						return true;
+					}
+
+					@Override
+					public boolean visit(SimpleName node) {
+						if (ASTNodes.getParent(node, MethodDeclaration.class) != null) {
+							analyzer.getDeclarationsInScope(node, ScopeAnalyzer.VARIABLES | ScopeAnalyzer.METHODS | ScopeAnalyzer.TYPES | ScopeAnalyzer.CHECK_VISIBILITY);
+							queries[0]++;
+						}
+						return false;
+					}
+				});
+			}
+			return queries[0];
+		}));
+	}
+
+	private static void report(BenchmarkResult result) throws Exception {
+		assertTrue(result.getName() + " did not perform any operation", result.getOperations() > 0);
+		String file= System.getProperty(RESULTS_PROPERTY);
+		Path path= file != null ? Paths.get(file) : Paths.get("benchmark-results.jsonl");
+		result.appendTo(path);
+	}
+
+	private static CompilationUnit[] createASTs(ICompilationUnit[] units) {
+		List<CompilationUnit> result= new ArrayList<>();
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(fgWorkspace.getProject());
+		parser.setResolveBindings(true);
+		parser.createASTs(units, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				result.add(ast);
+			}
+		}, new NullProgressMonitor());
+		return result.toArray(new CompilationUnit[result.size()]);
+	}
+
+	private static RefactoringDescriptor[] createDescriptors() throws Exception {
+		ICompilationUnit[] units= fgWorkspace.getCompilationUnits();
+		String project= fgWorkspace.getProject().getElementName();
+		RefactoringDescriptor[] result= new RefactoringDescriptor[DESCRIPTORS];
+		for (int i= 0; i < DESCRIPTORS; i++) {
+			IMethod[] methods= units[i % units.length].findPrimaryType().getMethods();
+			IMethod method= methods[i % methods.length];
+			Map<String, String> arguments= new HashMap<>();
+			arguments.put("input", method.getHandleIdentifier());
+			arguments.put("name", method.getElementName() + i);
+			arguments.put("references", "true");
+			result[i]= new DefaultRefactoringDescriptor(IJavaRefactorings.RENAME_METHOD, project, "Rename method " + method.getElementName(), null, arguments, RefactoringDescriptor.STRUCTURAL_CHANGE);
+		}
+		return result;
+	}
+}
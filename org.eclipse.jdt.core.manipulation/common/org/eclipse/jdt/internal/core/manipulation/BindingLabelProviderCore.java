@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,7 +34,7 @@ public class BindingLabelProviderCore {
 
 
 
-	private static void getFieldLabel(IVariableBinding binding, long flags, StringBuffer buffer) {
+	private static void getFieldLabel(IVariableBinding binding, long flags, StringBuilder buffer) {
 		if (((flags & JavaElementLabelsCore.F_PRE_TYPE_SIGNATURE) != 0) && !binding.isEnumConstant()) {
 			getTypeLabel(binding.getType(), (flags & JavaElementLabelsCore.T_TYPE_PARAMETERS), buffer);
 			buffer.append(' ');
@@ -63,7 +63,7 @@ public class BindingLabelProviderCore {
 		}
 	}
 
-	private static void getLocalVariableLabel(IVariableBinding binding, long flags, StringBuffer buffer) {
+	private static void getLocalVariableLabel(IVariableBinding binding, long flags, StringBuilder buffer) {
 		if (((flags & JavaElementLabelsCore.F_PRE_TYPE_SIGNATURE) != 0)) {
 			getTypeLabel(binding.getType(), (flags & JavaElementLabelsCore.T_TYPE_PARAMETERS), buffer);
 			buffer.append(' ');
@@ -82,14 +82,14 @@ public class BindingLabelProviderCore {
 		}
 	}
 
-	private static void appendDimensions(int dim, StringBuffer buffer) {
+	private static void appendDimensions(int dim, StringBuilder buffer) {
 		for (int i=0 ; i < dim; i++) {
 			buffer.append('[').append(']');
 		}
 	}
 
 
-	private static void getMethodLabel(IMethodBinding binding, long flags, StringBuffer buffer) {
+	private static void getMethodLabel(IMethodBinding binding, long flags, StringBuilder buffer) {
 		// return type
 		if ((flags & JavaElementLabelsCore.M_PRE_TYPE_PARAMETERS) != 0) {
 			if (binding.isGenericMethod()) {
@@ -181,7 +181,7 @@ public class BindingLabelProviderCore {
 	}
 
 
-	private static void getTypeLabel(ITypeBinding binding, long flags, StringBuffer buffer) {
+	private static void getTypeLabel(ITypeBinding binding, long flags, StringBuilder buffer) {
 		if ((flags & JavaElementLabelsCore.T_FULLY_QUALIFIED) != 0) {
 			final IPackageBinding pack= binding.getPackage();
 			if (pack != null && !pack.isUnnamed()) {
@@ -232,7 +232,7 @@ public class BindingLabelProviderCore {
 						baseType= binding.getSuperclass();
 					}
 					if (baseType != null) {
-						StringBuffer anonymBaseType= new StringBuffer();
+						StringBuilder anonymBaseType= new StringBuilder();
 						getTypeLabel(baseType, flags & JavaElementLabelsCore.T_TYPE_PARAMETERS, anonymBaseType);
 						buffer.append(Messages.format(JavaElementLabelsMessages.JavaElementLabels_anonym_type, anonymBaseType.toString()));
 					} else {
@@ -274,7 +274,7 @@ public class BindingLabelProviderCore {
 		}
 	}
 
-	private static void getTypeArgumentsLabel(ITypeBinding[] typeArgs, long flags, StringBuffer buf) {
+	private static void getTypeArgumentsLabel(ITypeBinding[] typeArgs, long flags, StringBuilder buf) {
 		if (typeArgs.length > 0) {
 			buf.append('<');
 			for (int i = 0; i < typeArgs.length; i++) {
@@ -288,7 +288,7 @@ public class BindingLabelProviderCore {
 	}
 
 
-	private static void getTypeParametersLabel(ITypeBinding[] typeParameters, StringBuffer buffer) {
+	private static void getTypeParametersLabel(ITypeBinding[] typeParameters, StringBuilder buffer) {
 		if (typeParameters.length > 0) {
 			buffer.append('<');
 			for (int index= 0; index < typeParameters.length; index++) {
@@ -301,7 +301,7 @@ public class BindingLabelProviderCore {
 		}
 	}
 
-	private static void getModuleLabel(IModuleBinding moduleBinding, @SuppressWarnings("unused") long flags, StringBuffer buffer) {
+	private static void getModuleLabel(IModuleBinding moduleBinding, @SuppressWarnings("unused") long flags, StringBuilder buffer) {
 		buffer.append(moduleBinding.getName());
 	}
 
@@ -312,7 +312,7 @@ public class BindingLabelProviderCore {
 	 * @return the label of the binding
 	 */
 	public static String getBindingLabel(IBinding binding, long flags) {
-		StringBuffer buffer= new StringBuffer(60);
+		StringBuilder buffer= new StringBuilder(60);
 		if (binding instanceof ITypeBinding) {
 			getTypeLabel(((ITypeBinding) binding), flags, buffer);
 		} else if (binding instanceof IMethodBinding) {
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateException;
+import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
+
+/**
+ * Caches the code template stores of projects and the translated patterns of code templates.
+ * <p>
+ * The template store of a project is reused as long as the project specific templates in the
+ * project preferences do not change and {@link #invalidate(IProject)} is not called. Translated
+ * patterns are keyed by the pattern and the line delimiter, so changed templates never see a
+ * stale translation. {@link #translate(String, String)} returns a copy that can be resolved
+ * without affecting the cache.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class CodeTemplateCache {
+
+	private static final int MAX_PROJECTS= 20;
+	private static final int MAX_TRANSLATIONS= 200;
+
+	private static final class ProjectEntry {
+		final String fPreference;
+		final ProjectTemplateStore fStore;
+
+		ProjectEntry(String preference, ProjectTemplateStore store) {
+			fPreference= preference;
+			fStore= store;
+		}
+	}
+
+	private static final class TranslationKey {
+		final String fPattern;
+		final String fLineDelimiter;
+
+		TranslationKey(String pattern, String lineDelimiter) {
+			fPattern= pattern;
+			fLineDelimiter= lineDelimiter;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fPattern.hashCode() + Objects.hashCode(fLineDelimiter);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TranslationKey))
+				return false;
+			TranslationKey other= (TranslationKey) obj;
+			return fPattern.equals(other.fPattern) && Objects.equals(fLineDelimiter, other.fLineDelimiter);
+		}
+	}
+
+	private static final Map<IProject, ProjectEntry> fgProjectStores= new LinkedHashMap<IProject, ProjectEntry>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IProject, ProjectEntry> eldest) {
+			return size() > MAX_PROJECTS;
+		}
+	};
+
+	private static final Map<TranslationKey, TemplateBuffer> fgTranslations= new LinkedHashMap<TranslationKey, TemplateBuffer>(64, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TranslationKey, TemplateBuffer> eldest) {
+			return size() > MAX_TRANSLATIONS;
+		}
+	};
+
+	private CodeTemplateCache() {
+	}
+
+	/**
+	 * Returns the loaded template store of a project.
+	 *
+	 * @param project the project
+	 * @return the template store of the project
+	 */
+	public static ProjectTemplateStore getProjectTemplateStore(IProject project) {
+		String preference= ProjectTemplateStore.getProjectSpecificTemplates(project);
+		synchronized (fgProjectStores) {
+			ProjectEntry entry= fgProjectStores.get(project);
+			if (entry != null && Objects.equals(entry.fPreference, preference))
+				return entry.fStore;
+		}
+
+		ProjectTemplateStore store= new ProjectTemplateStore(project);
+		try {
+			store.load();
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+		}
+		synchronized (fgProjectStores) {
+			fgProjectStores.put(project, new ProjectEntry(preference, store));
+		}
+		return store;
+	}
+
+	/**
+	 * Forgets the template store of a project.
+	 *
+	 * @param project the project, or <code>null</code> to forget the stores of all projects
+	 */
+	public static void invalidate(IProject project) {
+		synchronized (fgProjectStores) {
+			if (project == null)
+				fgProjectStores.clear();
+			else
+				fgProjectStores.remove(project);
+		}
+	}
+
+	/**
+	 * Converts the line delimiters of a pattern and translates it.
+	 *
+	 * @param pattern the pattern
+	 * @param lineDelimiter the line delimiter to use
+	 * @return a new template buffer with unresolved variables
+	 * @throws TemplateException if the pattern has invalid syntax
+	 */
+	public static TemplateBuffer translate(String pattern, String lineDelimiter) throws TemplateException {
+		TranslationKey key= new TranslationKey(pattern, lineDelimiter);
+		TemplateBuffer translation;
+		synchronized (fgTranslations) {
+			translation= fgTranslations.get(key);
+		}
+		if (translation == null) {
+			translation= new TemplateTranslator().translate(CodeTemplateContext.changeLineDelimiter(pattern, lineDelimiter));
+			synchronized (fgTranslations) {
+				fgTranslations.put(key, translation);
+			}
+		}
+		return copy(translation);
+	}
+
+	private static TemplateBuffer copy(TemplateBuffer buffer) {
+		TemplateVariable[] variables= buffer.getVariables();
+		TemplateVariable[] copies= new TemplateVariable[variables.length];
+		for (int i= 0; i < variables.length; i++) {
+			TemplateVariable variable= variables[i];
+			copies[i]= new TemplateVariable(variable.getVariableType(), variable.getName(), variable.getOffsets().clone());
+		}
+		return new TemplateBuffer(buffer.getString(), copies);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.manipulation;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -27,7 +30,7 @@ import org.eclipse.jface.text.templates.Template;
 import org.eclipse.jface.text.templates.TemplateBuffer;
 import org.eclipse.jface.text.templates.TemplateContext;
 import org.eclipse.jface.text.templates.TemplateException;
-import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
 import org.eclipse.jface.text.templates.TemplateVariableResolver;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -63,26 +66,90 @@ public class CodeTemplateContext extends TemplateContext {
 	@Override
 	public TemplateBuffer evaluate(Template template) throws BadLocationException, TemplateException {
 		// test that all variables are defined
+		Set<String> contextVariableTypes= new HashSet<>();
 		Iterator<TemplateVariableResolver> iterator= getContextType().resolvers();
 		while (iterator.hasNext()) {
 			TemplateVariableResolver var= iterator.next();
 			if (var instanceof CodeTemplateContextType.CodeTemplateVariableResolver) {
 				Assert.isNotNull(getVariable(var.getType()), "Variable " + var.getType() + "not defined"); //$NON-NLS-1$ //$NON-NLS-2$
+				if (var.getClass() == CodeTemplateContextType.CodeTemplateVariableResolver.class) {
+					contextVariableTypes.add(var.getType());
+				}
 			}
 		}
 
 		if (!canEvaluate(template))
 			return null;
 
-		String pattern= changeLineDelimiter(template.getPattern(), fLineDelimiter);
-
-		TemplateTranslator translator= new TemplateTranslator();
-		TemplateBuffer buffer= translator.translate(pattern);
-		getContextType().resolve(buffer, this);
+		TemplateBuffer buffer= CodeTemplateCache.translate(template.getPattern(), fLineDelimiter);
+		if (!resolveContextVariables(buffer, contextVariableTypes)) {
+			getContextType().resolve(buffer, this);
+		}
 		return buffer;
 	}
 
-	private static String changeLineDelimiter(String code, String lineDelim) {
+	/**
+	 * Resolves the variables of a buffer if all of them are replaced by the value set on this
+	 * context. This gives the same result as {@link org.eclipse.jface.text.templates.TemplateContextType#resolve(TemplateBuffer, TemplateContext)},
+	 * but does not need to apply text edits to a document.
+	 *
+	 * @param buffer the buffer with unresolved variables
+	 * @param contextVariableTypes the types of the variables that are replaced by the value set on
+	 *            this context
+	 * @return <code>true</code> if the variables have been resolved, <code>false</code> if
+	 *         the buffer contains other variables
+	 */
+	private boolean resolveContextVariables(TemplateBuffer buffer, Set<String> contextVariableTypes) {
+		TemplateVariable[] variables= buffer.getVariables();
+		int count= 0;
+		for (TemplateVariable variable : variables) {
+			if (!contextVariableTypes.contains(variable.getType()))
+				return false;
+			count+= variable.getOffsets().length;
+		}
+
+		// all occurrences, sorted by offset: the offset in the upper bits, the variable index in the lower bits
+		long[] occurrences= new long[count];
+		int k= 0;
+		for (int i= 0; i < variables.length; i++) {
+			for (int offset : variables[i].getOffsets())
+				occurrences[k++]= ((long) offset << 32) | i;
+		}
+		Arrays.sort(occurrences);
+
+		String string= buffer.getString();
+		StringBuilder result= new StringBuilder(string.length() + 16 * count);
+		int[][] newOffsets= new int[variables.length][];
+		int[] found= new int[variables.length];
+		for (int i= 0; i < variables.length; i++) {
+			TemplateVariable variable= variables[i];
+			newOffsets[i]= new int[variable.getOffsets().length];
+			String value= getVariable(variable.getType());
+			if (value != null)
+				variable.setValues(new String[] { value });
+			variable.setUnambiguous(false);
+			variable.setResolved(true);
+		}
+
+		int last= 0;
+		for (long occurrence : occurrences) {
+			int offset= (int) (occurrence >>> 32);
+			int index= (int) occurrence;
+			TemplateVariable variable= variables[index];
+			result.append(string, last, offset);
+			newOffsets[index][found[index]++]= result.length();
+			result.append(variable.getDefaultValue());
+			last= offset + variable.getInitialLength();
+		}
+		result.append(string, last, string.length());
+
+		for (int i= 0; i < variables.length; i++)
+			variables[i].setOffsets(newOffsets[i]);
+		buffer.setContent(result.toString(), variables);
+		return true;
+	}
+
+	static String changeLineDelimiter(String code, String lineDelim) {
 		try {
 			ILineTracker tracker= new DefaultLineTracker();
 			tracker.set(code);
@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Caches the labels of Java elements, keyed by the element handle and the rendering flags.
+ * Resolved handles are equal to the unresolved ones, so their binding key is part of the key.
+ * <p>
+ * All caches share a model generation that is incremented by every Java element delta that
+ * is not the delta of a reconciled working copy. A cache forgets all its labels when the
+ * generation or the settings of the labels change. A reconciled working copy only removes the
+ * labels of the elements in its compilation unit. A label is only cached if no delta arrived
+ * while it was computed. String labels equal to a label already in the cache share its instance.
+ * The caches are only used while the listener is installed by {@link JavaManipulationPlugin},
+ * otherwise the labels are computed on every request.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @param <T> the type of the labels
+ */
+public final class JavaElementLabelCache<T> {
+
+	/**
+	 * Computes a label that is not in the cache.
+	 *
+	 * @param <T> the type of the labels
+	 */
+	public interface ILabelComputer<T> {
+
+		/**
+		 * @param element the element to render
+		 * @param flags the rendering flags
+		 * @return the label of the element
+		 */
+		T computeLabel(IJavaElement element, long flags);
+	}
+
+	private static final int MAX_LABELS= 10000;
+
+	private static final AtomicLong fgModelGeneration= new AtomicLong();
+
+	/**
+	 * Incremented by every reconciled working copy, after the labels of its compilation unit are
+	 * removed from all caches.
+	 */
+	private static final AtomicLong fgReconcileCount= new AtomicLong();
+
+	private static final CopyOnWriteArrayList<JavaElementLabelCache<?>> fgCaches= new CopyOnWriteArrayList<>();
+
+	private static final IElementChangedListener fgListener= event -> {
+		if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+			Set<ICompilationUnit> units= new HashSet<>();
+			collectCompilationUnits(event.getDelta(), units);
+			for (JavaElementLabelCache<?> cache : fgCaches) {
+				cache.removeLabels(units);
+			}
+			fgReconcileCount.incrementAndGet();
+		} else {
+			fgModelGeneration.incrementAndGet();
+		}
+	};
+
+	private static volatile boolean fgInstalled;
+
+	private static final class Key {
+		final IJavaElement fElement;
+		final String fResolvedKey;
+		final long fFlags;
+
+		Key(IJavaElement element, long flags) {
+			fElement= element;
+			fResolvedKey= getResolvedKey(element);
+			fFlags= flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * fElement.hashCode() + Objects.hashCode(fResolvedKey)) + Long.hashCode(fFlags);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fFlags == other.fFlags && fElement.equals(other.fElement) && Objects.equals(fResolvedKey, other.fResolvedKey);
+		}
+
+		private static String getResolvedKey(IJavaElement element) {
+			switch (element.getElementType()) {
+				case IJavaElement.TYPE:
+					IType type= (IType) element;
+					return type.isResolved() ? type.getKey() : null;
+				case IJavaElement.METHOD:
+					IMethod method= (IMethod) element;
+					return method.isResolved() ? method.getKey() : null;
+				case IJavaElement.FIELD:
+					IField field= (IField) element;
+					return field.isResolved() ? field.getKey() : null;
+				default:
+					return null;
+			}
+		}
+	}
+
+	private final Map<Key, T> fLabels= new LinkedHashMap<Key, T>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, T> eldest) {
+			if (size() <= MAX_LABELS)
+				return false;
+			removeFromUnit(eldest.getKey());
+			return true;
+		}
+	};
+
+	/**
+	 * The keys of the cached labels of the elements in a compilation unit.
+	 */
+	private final Map<ICompilationUnit, Set<Key>> fUnitKeys= new HashMap<>();
+
+	private final Map<T, T> fInterned= new HashMap<>();
+
+	private long fGeneration= -1;
+
+	private Object fSettings;
+
+	/**
+	 * Creates a cache that is notified of reconciled working copies. The cache is never
+	 * released, it is meant to be kept in a static field.
+	 */
+	public JavaElementLabelCache() {
+		fgCaches.add(this);
+	}
+
+	/**
+	 * Starts to track the changes of the Java model. Called when the plug-in is started.
+	 */
+	static void install() {
+		JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		fgInstalled= true;
+	}
+
+	/**
+	 * Stops to track the changes of the Java model. Called when the plug-in is stopped.
+	 */
+	static void uninstall() {
+		fgInstalled= false;
+		JavaCore.removeElementChangedListener(fgListener);
+		fgModelGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Returns the cached label of an element or computes it. Labels that can be modified by the
+	 * caller must be copied.
+	 *
+	 * @param element the element to render
+	 * @param flags the rendering flags
+	 * @param settings the settings that influence the labels besides the flags, compared with
+	 *            {@link Object#equals(Object)}, or <code>null</code>
+	 * @param computer computes the label if it is not cached
+	 * @return the label of the element
+	 */
+	public T getLabel(IJavaElement element, long flags, Object settings, ILabelComputer<T> computer) {
+		if (!fgInstalled)
+			return computer.computeLabel(element, flags);
+
+		long generation= fgModelGeneration.get();
+		long reconcileCount= fgReconcileCount.get();
+		Key key= new Key(element, flags);
+		synchronized (this) {
+			if (fGeneration != generation || !Objects.equals(fSettings, settings)) {
+				clear();
+				fGeneration= generation;
+				fSettings= settings;
+			} else {
+				T label= fLabels.get(key);
+				if (label != null)
+					return label;
+			}
+		}
+
+		T label= computer.computeLabel(element, flags);
+		synchronized (this) {
+			if (fGeneration == generation && fgModelGeneration.get() == generation && fgReconcileCount.get() == reconcileCount && Objects.equals(fSettings, settings)) {
+				if (label instanceof String) { // other labels are not compared by value
+					if (fInterned.size() >= MAX_LABELS)
+						fInterned.clear();
+					T interned= fInterned.putIfAbsent(label, label);
+					if (interned != null)
+						label= interned;
+				}
+				if (fLabels.put(key, label) == null) {
+					ICompilationUnit unit= getCompilationUnit(element);
+					if (unit != null)
+						fUnitKeys.computeIfAbsent(unit, u -> new HashSet<>()).add(key);
+				}
+			}
+		}
+		return label;
+	}
+
+	private void clear() {
+		fLabels.clear();
+		fUnitKeys.clear();
+		fInterned.clear();
+	}
+
+	private synchronized void removeLabels(Set<ICompilationUnit> units) {
+		for (ICompilationUnit unit : units) {
+			Set<Key> keys= fUnitKeys.remove(unit);
+			if (keys != null)
+				fLabels.keySet().removeAll(keys);
+		}
+	}
+
+	private void removeFromUnit(Key key) {
+		ICompilationUnit unit= getCompilationUnit(key.fElement);
+		if (unit == null)
+			return;
+		Set<Key> keys= fUnitKeys.get(unit);
+		if (keys != null) {
+			keys.remove(key);
+			if (keys.isEmpty())
+				fUnitKeys.remove(unit);
+		}
+	}
+
+	private static ICompilationUnit getCompilationUnit(IJavaElement element) {
+		IJavaElement unit= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return unit != null ? ((ICompilationUnit) unit).getPrimary() : null;
+	}
+
+	private static void collectCompilationUnits(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			units.add(((ICompilationUnit) element).getPrimary());
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectCompilationUnits(child, units);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -364,6 +364,8 @@ public final class JavaElementLabelsCore {
 	 */
 	public final static String DEFAULT_PACKAGE= JavaElementLabelsMessages.JavaElementLabels_default_package;
 
+	private final static JavaElementLabelCache<String> fgLabelCache= new JavaElementLabelCache<>();
+
 	private JavaElementLabelsCore() {
 	}
 
@@ -398,9 +400,11 @@ public final class JavaElementLabelsCore {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		return fgLabelCache.getLabel(element, flags, null, (e, f) -> {
+			StringBuilder result= new StringBuilder();
+			new JavaElementLabelComposerCore(result).appendElementLabel(e, f);
+			return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		});
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,10 +58,12 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	@Override
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
+		JavaElementLabelCache.install();
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		JavaElementLabelCache.uninstall();
 		super.stop(context);
 		fgDefault= null;
 	}
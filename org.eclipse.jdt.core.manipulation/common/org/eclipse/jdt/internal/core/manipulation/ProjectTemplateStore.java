@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,9 +45,11 @@ public final class ProjectTemplateStore {
 
 	private final TemplateStoreCore fInstanceStore;
 	private final TemplateStoreCore fProjectStore;
+	private final IProject fProject;
 
 	public ProjectTemplateStore(IProject project) {
 		fInstanceStore= JavaManipulation.getCodeTemplateStore();
+		fProject= project;
 		if (project == null) {
 			fProjectStore= null;
 		} else {
@@ -92,8 +94,16 @@ public final class ProjectTemplateStore {
 		}
 	}
 
+	/**
+	 * @param project the project
+	 * @return the serialized project specific templates of the project, or <code>null</code>
+	 */
+	static String getProjectSpecificTemplates(IProject project) {
+		return new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
+	}
+
 	public static boolean hasProjectSpecificTempates(IProject project) {
-		String pref= new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
+		String pref= getProjectSpecificTemplates(project);
 		if (pref != null && pref.trim().length() > 0) {
 			Reader input= new StringReader(pref);
 			TemplateReaderWriter reader= new TemplateReaderWriter();
@@ -187,6 +197,7 @@ public final class ProjectTemplateStore {
 		} else {
 			fProjectStore.save();
 		}
+		CodeTemplateCache.invalidate(fProject);
 	}
 
 	public void revertChanges() throws IOException {
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.QualifiedName;
+
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+
+/**
+ * Occurrences of bindings in a single AST, computed at most once per binding.
+ * <p>
+ * The index is bound to one {@link CompilationUnit}. The first query for a binding runs an
+ * {@link OccurrencesFinder} over the AST, later queries for any occurrence of the same binding are
+ * answered from the index. A new index has to be created whenever the AST changes.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class OccurrencesIndex {
+
+	private static final OccurrenceLocation[] NO_OCCURRENCES= new OccurrenceLocation[0];
+
+	private final CompilationUnit fRoot;
+
+	private final Map<String, OccurrenceLocation[]> fOccurrences= new HashMap<>();
+
+	public OccurrencesIndex(CompilationUnit root) {
+		fRoot= root;
+	}
+
+	/**
+	 * Returns the AST this index has been created for.
+	 *
+	 * @return the AST root
+	 */
+	public CompilationUnit getASTRoot() {
+		return fRoot;
+	}
+
+	/**
+	 * Returns the occurrences of the binding referenced by the given name.
+	 *
+	 * @param selectedNode the selected name, must be part of {@link #getASTRoot()}
+	 * @return the occurrences or <code>null</code> if there are none
+	 */
+	public OccurrenceLocation[] getOccurrences(Name selectedNode) {
+		String key= getIndexKey(selectedNode);
+		if (key == null)
+			return computeOccurrences(selectedNode);
+
+		OccurrenceLocation[] locations;
+		synchronized (fOccurrences) {
+			locations= fOccurrences.get(key);
+		}
+		if (locations == null) {
+			locations= computeOccurrences(selectedNode);
+			if (locations == null)
+				locations= NO_OCCURRENCES;
+			synchronized (fOccurrences) {
+				fOccurrences.put(key, locations);
+			}
+		}
+		return locations.length == 0 ? null : locations;
+	}
+
+	/**
+	 * Returns the number of bindings whose occurrences are currently indexed.
+	 *
+	 * @return the number of indexed bindings
+	 */
+	public int size() {
+		synchronized (fOccurrences) {
+			return fOccurrences.size();
+		}
+	}
+
+	private OccurrenceLocation[] computeOccurrences(Name selectedNode) {
+		OccurrencesFinder finder= new OccurrencesFinder();
+		if (finder.initialize(fRoot, selectedNode) != null)
+			return null;
+		return finder.getOccurrences();
+	}
+
+	/*
+	 * Names selected in static imports also find all static methods of the same name, so their
+	 * occurrences differ from the ones of the binding and are not shared.
+	 */
+	private static String getIndexKey(Name name) {
+		ASTNode parent= name.getParent();
+		if (parent instanceof QualifiedName) {
+			ASTNode importDeclaration= parent.getParent();
+			if (importDeclaration instanceof ImportDeclaration && ((ImportDeclaration) importDeclaration).isStatic())
+				return null;
+		}
+		IBinding binding= name.resolveBinding();
+		if (binding == null)
+			return null;
+		return getBindingDeclaration(binding).getKey();
+	}
+
+	private static IBinding getBindingDeclaration(IBinding binding) {
+		switch (binding.getKind()) {
+			case IBinding.TYPE :
+				return ((ITypeBinding)binding).getTypeDeclaration();
+			case IBinding.METHOD :
+				return ((IMethodBinding)binding).getMethodDeclaration();
+			case IBinding.VARIABLE :
+				return ((IVariableBinding)binding).getVariableDeclaration();
+			default:
+				return binding;
+		}
+	}
+}
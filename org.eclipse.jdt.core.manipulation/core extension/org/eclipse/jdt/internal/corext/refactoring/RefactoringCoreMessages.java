@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1609,6 +1609,8 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String RefactoringSearchEngine_searching_referenced_types;
 
+	public static String RenameAnalyzeUtil_creating_working_copies;
+
 	public static String RenameAnalyzeUtil_reference_shadowed;
 
 	public static String RenameAnalyzeUtil_shadows;
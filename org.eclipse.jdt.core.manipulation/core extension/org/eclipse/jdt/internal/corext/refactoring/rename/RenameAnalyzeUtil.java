@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,13 +19,25 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IResource;
 
@@ -41,7 +53,9 @@ import org.eclipse.ltk.core.refactoring.TextChange;
 import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.JavaModelException;
@@ -49,16 +63,21 @@ import org.eclipse.jdt.core.SourceRange;
 import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.VariableDeclaration;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
 import org.eclipse.jdt.core.search.MethodDeclarationMatch;
+import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
@@ -152,21 +171,44 @@ public class RenameAnalyzeUtil {
 		}
 	}
 
+	/** Minimal number of compilation units for which new working copies are created concurrently */
+	private static final int PARALLEL_THRESHOLD= 16;
+
+	/** Number of compilation units handled together by one worker */
+	private static final int BATCH_SIZE= 32;
+
 	private RenameAnalyzeUtil() {
 		//no instance
 	}
 
 	public static RefactoringStatus analyzeRenameChanges(TextChangeManager manager,  SearchResultGroup[] oldOccurrences, SearchResultGroup[] newOccurrences) {
 		RefactoringStatus result= new RefactoringStatus();
+		Map<IResource, Set<Integer>> newOffsets= new HashMap<>(newOccurrences.length);
+		for (SearchResultGroup newGroup : newOccurrences) {
+			Set<Integer> offsets= newOffsets.computeIfAbsent(newGroup.getResource(), resource -> new HashSet<>());
+			for (SearchMatch newMatch : newGroup.getSearchResults()) {
+				offsets.add(Integer.valueOf(newMatch.getOffset()));
+			}
+		}
 		for (SearchResultGroup oldGroup : oldOccurrences) {
 			SearchMatch[] oldSearchResults= oldGroup.getSearchResults();
 			ICompilationUnit cunit= oldGroup.getCompilationUnit();
 			if (cunit == null)
 				continue;
+			Set<Integer> offsets= newOffsets.get(oldGroup.getResource());
+			Map<IRegion, Integer> offsetUpdates= null;
 			for (SearchMatch oldSearchResult : oldSearchResults) {
-				if (! RenameAnalyzeUtil.existsInNewOccurrences(oldSearchResult, newOccurrences, manager)){
+				if (offsets == null) {
 					addShadowsError(cunit, oldSearchResult, result);
+					continue;
 				}
+				if (offsetUpdates == null) {
+					TextChange change= getTextChange(oldSearchResult, manager);
+					offsetUpdates= change == null ? new HashMap<>() : getEditChangeRegionUpdates(change);
+				}
+				Integer updatedOffset= offsetUpdates.get(new Region(oldSearchResult.getOffset(), oldSearchResult.getLength()));
+				if (updatedOffset == null || !offsets.contains(updatedOffset))
+					addShadowsError(cunit, oldSearchResult, result);
 			}
 		}
 		return result;
@@ -182,6 +224,9 @@ public class RenameAnalyzeUtil {
 	}
 
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, SubProgressMonitor pm) throws CoreException {
+		if (compilationUnitsToModify.length >= PARALLEL_THRESHOLD && Runtime.getRuntime().availableProcessors() > 1)
+			return createNewWorkingCopiesConcurrently(compilationUnitsToModify, manager, owner, pm);
+
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
 		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
 		for (int i= 0; i < compilationUnitsToModify.length; i++) {
@@ -194,41 +239,192 @@ public class RenameAnalyzeUtil {
 
 	public static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChangeManager manager,
 			WorkingCopyOwner owner, SubProgressMonitor pm) throws CoreException {
+		return createWorkingCopy(cu, manager.get(cu), owner, pm);
+	}
+
+	private static ICompilationUnit createWorkingCopy(ICompilationUnit cu, TextChange change, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
-		String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
+		String previewContent= change.getPreviewContent(new NullProgressMonitor());
 		newWc.getBuffer().setContents(previewContent);
 		newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
 		return newWc;
 	}
 
-	private static boolean existsInNewOccurrences(SearchMatch searchResult, SearchResultGroup[] newOccurrences, TextChangeManager manager) {
-		SearchResultGroup newGroup= findOccurrenceGroup(searchResult.getResource(), newOccurrences);
-		if (newGroup == null)
-			return false;
+	/**
+	 * Creates the new working copies in batches that are reconciled concurrently in jobs. If
+	 * a working copy cannot be created, all working copies created so far are discarded.
+	 *
+	 * @param compilationUnitsToModify the compilation units
+	 * @param manager the text change manager holding the changes of the compilation units
+	 * @param owner the owner of the new working copies
+	 * @param pm the progress monitor, only accessed from the calling thread
+	 * @return the new working copies, in the order of the compilation units
+	 * @throws CoreException if a working copy cannot be created
+	 */
+	private static ICompilationUnit[] createNewWorkingCopiesConcurrently(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		int count= compilationUnitsToModify.length;
+		pm.beginTask("", count); //$NON-NLS-1$
+		// the manager creates missing changes, so look them up in this thread
+		TextChange[] changes= new TextChange[count];
+		for (int i= 0; i < count; i++) {
+			changes[i]= manager.get(compilationUnitsToModify[i]);
+		}
+		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[count];
+		AtomicBoolean aborted= new AtomicBoolean();
+		AtomicReference<Throwable> failure= new AtomicReference<>();
+		AtomicInteger created= new AtomicInteger();
+		IProgressMonitor workerMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return aborted.get();
+			}
+		};
+
+		int batches= (count + BATCH_SIZE - 1) / BATCH_SIZE;
+		AtomicInteger nextBatch= new AtomicInteger();
+		int workers= Math.min(batches, Runtime.getRuntime().availableProcessors());
+		CountDownLatch finished= new CountDownLatch(workers);
+		for (int w= 0; w < workers; w++) {
+			Job job= new Job(RefactoringCoreMessages.RenameAnalyzeUtil_creating_working_copies) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						int batch;
+						while ((batch= nextBatch.getAndIncrement()) < batches) {
+							int to= Math.min((batch + 1) * BATCH_SIZE, count);
+							for (int i= batch * BATCH_SIZE; i < to && !aborted.get(); i++) {
+								newWorkingCopies[i]= createWorkingCopy(compilationUnitsToModify[i], changes[i], owner, workerMonitor);
+								created.incrementAndGet();
+							}
+						}
+					} catch (CoreException | RuntimeException | Error e) {
+						if (!(e instanceof OperationCanceledException))
+							failure.compareAndSet(null, e);
+						aborted.set(true);
+					} finally {
+						finished.countDown();
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
 
-		IRegion oldEditRange= getCorrespondingEditChangeRange(searchResult, manager);
-		if (oldEditRange == null)
-			return false;
+		boolean interrupted= false;
+		int worked= 0;
+		try {
+			while (true) {
+				try {
+					if (finished.await(100, TimeUnit.MILLISECONDS))
+						break;
+				} catch (InterruptedException e) {
+					// keep waiting, no working copy must be created after this call
+					interrupted= true;
+					aborted.set(true);
+				}
+				if (pm.isCanceled())
+					aborted.set(true);
+				int done= created.get();
+				pm.worked(done - worked);
+				worked= done;
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+			Throwable e= failure.get();
+			if (e instanceof CoreException)
+				throw (CoreException) e;
+			if (e instanceof RuntimeException)
+				throw (RuntimeException) e;
+			if (e instanceof Error)
+				throw (Error) e;
+			if (aborted.get() || pm.isCanceled())
+				throw new OperationCanceledException();
+			return newWorkingCopies;
+		} catch (CoreException | RuntimeException | Error e) {
+			for (ICompilationUnit newWorkingCopy : newWorkingCopies) {
+				if (newWorkingCopy != null)
+					newWorkingCopy.discardWorkingCopy();
+			}
+			throw e;
+		} finally {
+			pm.done();
+		}
+	}
 
-		int oldRangeOffset = oldEditRange.getOffset();
-		for (SearchMatch newSearchResult : newGroup.getSearchResults()) {
-			if (newSearchResult.getOffset() == oldRangeOffset)
-				return true;
+	/**
+	 * Finds the references to a variable in new working copies by creating their ASTs in
+	 * batches. This replaces a reference search for the compilation units that have working
+	 * copies, matches in these compilation units can be filtered from a search of the
+	 * remaining compilation units.
+	 *
+	 * @param newWorkingCopies the new working copies, all with the same owner
+	 * @param owner the owner of the working copies
+	 * @param field the field in the new working copy of its declaring compilation unit
+	 * @param pm the progress monitor
+	 * @return the references, grouped by compilation unit
+	 */
+	public static SearchResultGroup[] findNewReferences(ICompilationUnit[] newWorkingCopies, WorkingCopyOwner owner, IField field, IProgressMonitor pm) {
+		Map<IJavaProject, List<ICompilationUnit>> byProject= new HashMap<>();
+		for (ICompilationUnit wc : newWorkingCopies) {
+			byProject.computeIfAbsent(wc.getJavaProject(), project -> new ArrayList<>()).add(wc);
+		}
+		pm.beginTask("", newWorkingCopies.length); //$NON-NLS-1$
+		try {
+			List<SearchResultGroup> result= new ArrayList<>();
+			ASTRequestor requestor= new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					SearchResultGroup group= collectReferences(source, ast, field);
+					if (group != null)
+						result.add(group);
+				}
+			};
+			for (Entry<IJavaProject, List<ICompilationUnit>> entry : byProject.entrySet()) {
+				List<ICompilationUnit> units= entry.getValue();
+				for (int start= 0; start < units.size(); start+= BATCH_SIZE) {
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+					List<ICompilationUnit> batch= units.subList(start, Math.min(start + BATCH_SIZE, units.size()));
+					ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+					parser.setResolveBindings(true);
+					parser.setProject(entry.getKey());
+					parser.setWorkingCopyOwner(owner);
+					parser.createASTs(batch.toArray(new ICompilationUnit[batch.size()]), new String[0], requestor, new SubProgressMonitor(pm, batch.size()));
+				}
+			}
+			return result.toArray(new SearchResultGroup[result.size()]);
+		} finally {
+			pm.done();
 		}
-		return false;
 	}
 
-	private static IRegion getCorrespondingEditChangeRange(SearchMatch searchResult, TextChangeManager manager) {
-		TextChange change= getTextChange(searchResult, manager);
-		if (change == null)
+	private static SearchResultGroup collectReferences(ICompilationUnit wc, CompilationUnit ast, IField field) {
+		List<SearchMatch> matches= new ArrayList<>();
+		ast.accept(new ASTVisitor(true) {
+			@Override
+			public boolean visit(SimpleName node) {
+				if (node.isDeclaration())
+					return false;
+				IBinding binding= node.resolveBinding();
+				if (binding instanceof IVariableBinding && field.equals(((IVariableBinding) binding).getVariableDeclaration().getJavaElement())) {
+					int offset= node.getStartPosition();
+					IJavaElement element= null;
+					try {
+						element= wc.getElementAt(offset);
+					} catch (JavaModelException e) {
+						// use the compilation unit
+					}
+					boolean insideDocComment= ASTNodes.getParent(node, Javadoc.class) != null;
+					matches.add(new FieldReferenceMatch(element == null ? wc : element, SearchMatch.A_ACCURATE, offset, node.getLength(),
+							true, false, insideDocComment, SearchEngine.getDefaultSearchParticipant(), wc.getResource()));
+				}
+				return false;
+			}
+		});
+		if (matches.isEmpty())
 			return null;
-
-		IRegion oldMatchRange= createTextRange(searchResult);
-		for (TextEditChangeGroup editChange : change.getTextEditChangeGroups()) {
-			if (oldMatchRange.equals(editChange.getRegion()))
-				return TextEdit.getCoverage(change.getPreviewEdits(editChange.getTextEdits()));
-		}
-		return null;
+		return new SearchResultGroup(wc.getResource(), matches.toArray(new SearchMatch[matches.size()]));
 	}
 
 	private static TextChange getTextChange(SearchMatch searchResult, TextChangeManager manager) {
@@ -238,18 +434,6 @@ public class RenameAnalyzeUtil {
 		return manager.get(cu);
 	}
 
-	private static IRegion createTextRange(SearchMatch searchResult) {
-		return new Region(searchResult.getOffset(), searchResult.getLength());
-	}
-
-	private static SearchResultGroup findOccurrenceGroup(IResource resource, SearchResultGroup[] newOccurrences) {
-		for (SearchResultGroup newOccurrence : newOccurrences) {
-			if (newOccurrence.getResource().equals(resource))
-				return newOccurrence;
-		}
-		return null;
-	}
-
 //--- find missing changes in BOTH directions
 
 	//TODO: Currently filters out declarations (MethodDeclarationMatch, FieldDeclarationMatch).
@@ -323,6 +507,27 @@ public class RenameAnalyzeUtil {
 		return updatedOffsets;
 	}
 
+	/**
+	 *
+	 * @param change
+	 * @return Map &lt;IRegion oldRegion, Integer updatedOffset&gt;
+	 */
+	private static Map<IRegion, Integer> getEditChangeRegionUpdates(TextChange change) {
+		TextEditChangeGroup[] editChanges= change.getTextEditChangeGroups();
+		Map<IRegion, Integer> regionUpdates= new HashMap<>(editChanges.length);
+		for (TextEditChangeGroup editChange : editChanges) {
+			IRegion oldRegion= editChange.getRegion();
+			if (oldRegion == null)
+				continue;
+			IRegion updatedRegion= TextEdit.getCoverage(change.getPreviewEdits(editChange.getTextEdits()));
+			if (updatedRegion == null)
+				continue;
+
+			regionUpdates.putIfAbsent(new Region(oldRegion.getOffset(), oldRegion.getLength()), updatedRegion.getOffset());
+		}
+		return regionUpdates;
+	}
+
 	/**
 	 *
 	 * @param change
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,8 @@ public abstract class TType {
 	private String fBindingKey;
 	private int fModifiers;
 	private int fFlags;
+	/** Ordinal assigned by the last type set environment that saw this type */
+	private int fTypeSetOrdinal= -1;
 
 	/**
 	 * Creates a new type with the given environment as an owner.
@@ -142,6 +144,26 @@ public abstract class TType {
 		return fEnvironment;
 	}
 
+	/**
+	 * Returns the ordinal last assigned to this type by a type set
+	 * environment. Type set environments must check that the ordinal
+	 * belongs to them.
+	 *
+	 * @return the ordinal, or <code>-1</code> if none has been assigned
+	 */
+	public int getTypeSetOrdinal() {
+		return fTypeSetOrdinal;
+	}
+
+	/**
+	 * Remembers the ordinal of this type in a type set environment.
+	 *
+	 * @param ordinal the ordinal
+	 */
+	public void setTypeSetOrdinal(int ordinal) {
+		fTypeSetOrdinal= ordinal;
+	}
+
 	/**
 	 * Returns the key of the binding from which this type
 	 * got constructed.
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.preference.PreferenceStore;
+import org.eclipse.jface.util.PropertyChangeEvent;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.rules.ICharacterScanner;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.IWordDetector;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.Token;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.text.JavaTextTools;
+
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule;
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule.CharacterBuffer;
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule.WordMatcher;
+import org.eclipse.jdt.internal.ui.text.java.JavaCodeScanner;
+
+/**
+ * Tests that {@link CombinedWordRule} returns the same tokens whether it matches the words with
+ * its word automaton or looks up the buffered words.
+ */
+public class CombinedWordRuleTest {
+
+	private static final IToken KEYWORD= new Token("keyword");
+	private static final IToken NEW_KEYWORD= new Token("newKeyword");
+	private static final IToken RETURN= new Token("return");
+	private static final IToken OTHER= new Token("other");
+	private static final IToken DEFAULT= new Token("default");
+
+	private static final class JavaWordDetector implements IWordDetector {
+		@Override
+		public boolean isWordPart(char c) {
+			return Character.isJavaIdentifierPart(c);
+		}
+
+		@Override
+		public boolean isWordStart(char c) {
+			return Character.isJavaIdentifierStart(c);
+		}
+	}
+
+	/**
+	 * A matcher that keeps the default evaluation and is matched by the word automaton.
+	 */
+	private static class Matcher extends WordMatcher {
+		boolean fAccepted= true;
+
+		@Override
+		protected IToken adaptToken(IToken token) {
+			return fAccepted ? token : DEFAULT;
+		}
+	}
+
+	/**
+	 * A matcher that overrides the evaluation, which makes the rule look up the buffered word.
+	 */
+	private static final class LookupMatcher extends Matcher {
+		@Override
+		public IToken evaluate(ICharacterScanner scanner, CharacterBuffer word) {
+			return super.evaluate(scanner, word);
+		}
+	}
+
+	private JavaTextTools fTextTools;
+
+	@After
+	public void tearDown() {
+		if (fTextTools != null)
+			fTextTools.dispose();
+	}
+
+	private static Matcher[] createMatchers(boolean lookup, boolean versionMatch, String... extraWords) {
+		Matcher versioned= lookup ? new LookupMatcher() : new Matcher();
+		versioned.fAccepted= versionMatch;
+		versioned.addWord("assert", NEW_KEYWORD);
+		versioned.addWord("enum", NEW_KEYWORD);
+
+		Matcher returnMatcher= lookup ? new LookupMatcher() : new Matcher();
+		returnMatcher.addWord("return", RETURN);
+
+		Matcher keywords= lookup ? new LookupMatcher() : new Matcher();
+		for (String word : new String[] { "i", "in", "int", "interface", "enum", "class" })
+			keywords.addWord(word, KEYWORD);
+		for (String word : extraWords)
+			keywords.addWord(word, KEYWORD);
+
+		Matcher others= lookup ? new LookupMatcher() : new Matcher();
+		others.addWord("interface", OTHER);
+		others.addWord("inter", OTHER);
+		return new Matcher[] { versioned, returnMatcher, keywords, others };
+	}
+
+	private static List<String> scan(boolean lookup, boolean versionMatch, IToken defaultToken, String text, int offset, int length, String... extraWords) {
+		Matcher[] matchers= createMatchers(lookup, versionMatch, extraWords);
+		CombinedWordRule rule= new CombinedWordRule(new JavaWordDetector(), defaultToken);
+		for (Matcher matcher : matchers)
+			rule.addWordMatcher(matcher);
+
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(new IRule[] { rule });
+		scanner.setDefaultReturnToken(new Token("char"));
+		scanner.setRange(new Document(text), offset, length);
+
+		List<String> tokens= new ArrayList<>();
+		for (IToken token= scanner.nextToken(); !token.isEOF(); token= scanner.nextToken())
+			tokens.add(token.getData() + "@" + scanner.getTokenOffset() + "+" + scanner.getTokenLength());
+		return tokens;
+	}
+
+	private static List<String> assertSameTokens(String text, int offset, int length, boolean versionMatch, IToken defaultToken, String... extraWords) {
+		List<String> expected= scan(true, versionMatch, defaultToken, text, offset, length, extraWords);
+		List<String> actual= scan(false, versionMatch, defaultToken, text, offset, length, extraWords);
+		assertEquals(text, expected, actual);
+		return actual;
+	}
+
+	private static List<String> assertSameTokens(String text, String... extraWords) {
+		assertSameTokens(text, 0, text.length(), true, Token.UNDEFINED, extraWords);
+		assertSameTokens(text, 0, text.length(), false, Token.UNDEFINED, extraWords);
+		assertSameTokens(text, 0, text.length(), false, DEFAULT, extraWords);
+		return assertSameTokens(text, 0, text.length(), true, DEFAULT, extraWords);
+	}
+
+	@Test
+	public void prefixes() {
+		List<String> tokens= assertSameTokens("i in int inte inter interface interfaces");
+		assertEquals("keyword@0+1", tokens.get(0));
+		assertEquals("keyword@2+2", tokens.get(2));
+		assertEquals("keyword@5+3", tokens.get(4));
+		assertEquals("default@9+4", tokens.get(6));
+		assertEquals("other@14+5", tokens.get(8));
+		assertEquals("keyword@20+9", tokens.get(10));
+		assertEquals("default@30+10", tokens.get(12));
+	}
+
+	@Test
+	public void wordsAtBufferEnd() {
+		List<String> tokens= assertSameTokens("x=return");
+		assertEquals("return@2+6", tokens.get(tokens.size() - 1));
+
+		assertSameTokens("retur");
+		assertSameTokens("i");
+
+		// the range ends within a word
+		String text= "interface";
+		for (int length= 1; length <= text.length(); length++) {
+			assertSameTokens(text, 0, length, true, DEFAULT);
+			assertSameTokens(text, 0, length, true, Token.UNDEFINED);
+		}
+		assertEquals("[keyword@0+3]", assertSameTokens(text, 0, 3, true, DEFAULT).toString());
+		assertEquals("[default@0+4]", assertSameTokens(text, 0, 4, true, DEFAULT).toString());
+		assertEquals("[other@0+5]", assertSameTokens(text, 0, 5, true, DEFAULT).toString());
+	}
+
+	@Test
+	public void versionDependentWords() {
+		String text= "assert enum enumeration class";
+		List<String> tokens= assertSameTokens(text, 0, text.length(), true, DEFAULT);
+		assertEquals("[newKeyword@0+6, char@6+1, newKeyword@7+4, char@11+1, default@12+11, char@23+1, keyword@24+5]", tokens.toString());
+
+		// a rejected word is not looked up in the later matchers
+		tokens= assertSameTokens(text, 0, text.length(), false, DEFAULT);
+		assertEquals("[default@0+6, char@6+1, default@7+4, char@11+1, default@12+11, char@23+1, keyword@24+5]", tokens.toString());
+	}
+
+	@Test
+	public void nonAsciiWords() {
+		assertSameTokens("intä über int");
+		// words the automaton cannot hold make the rule look up the buffered words
+		List<String> tokens= assertSameTokens("größe int", "größe");
+		assertEquals("keyword@0+5", tokens.get(0));
+		assertEquals("keyword@6+3", tokens.get(2));
+	}
+
+	@Test
+	public void changedWords() {
+		Matcher matcher= new Matcher();
+		matcher.addWord("int", KEYWORD);
+		CombinedWordRule rule= new CombinedWordRule(new JavaWordDetector(), matcher, DEFAULT);
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(new IRule[] { rule });
+
+		Document document= new Document("long");
+		scanner.setRange(document, 0, document.getLength());
+		assertSame(DEFAULT, scanner.nextToken());
+
+		matcher.addWord("long", KEYWORD);
+		scanner.setRange(document, 0, document.getLength());
+		assertSame(KEYWORD, scanner.nextToken());
+
+		matcher.clearWords();
+		scanner.setRange(document, 0, document.getLength());
+		assertSame(DEFAULT, scanner.nextToken());
+	}
+
+	private IToken scanWord(JavaCodeScanner scanner, String text, String word) {
+		Document document= new Document(text);
+		int offset= text.indexOf(word);
+		scanner.setRange(document, 0, document.getLength());
+		for (IToken token= scanner.nextToken(); !token.isEOF(); token= scanner.nextToken()) {
+			if (scanner.getTokenOffset() == offset) {
+				assertEquals(word, word.length(), scanner.getTokenLength());
+				return token;
+			}
+		}
+		throw new AssertionError(word + " not scanned");
+	}
+
+	@Test
+	public void javaCodeScannerCompliance() {
+		IPreferenceStore store= new PreferenceStore();
+		store.setValue(JavaCore.COMPILER_SOURCE, JavaCore.VERSION_1_3);
+		fTextTools= new JavaTextTools(store);
+		JavaCodeScanner scanner= new JavaCodeScanner(fTextTools.getColorManager(), store);
+
+		String text= "class C { int i; interfaces x; void m() { assert i; enum e; return; } }";
+		IToken keyword= scanWord(scanner, text, "class");
+		IToken identifier= scanWord(scanner, text, "C");
+		assertNotEquals(keyword, identifier);
+
+		assertSame(keyword, scanWord(scanner, text, "int"));
+		assertSame(identifier, scanWord(scanner, text, "interfaces"));
+		assertNotEquals(identifier, scanWord(scanner, text, "return"));
+		assertSame(identifier, scanWord(scanner, text, "assert"));
+		assertSame(identifier, scanWord(scanner, text, "enum"));
+
+		scanner.adaptToPreferenceChange(new PropertyChangeEvent(store, JavaCore.COMPILER_SOURCE, JavaCore.VERSION_1_3, JavaCore.VERSION_1_4));
+		assertSame(keyword, scanWord(scanner, text, "assert"));
+		assertSame(identifier, scanWord(scanner, text, "enum"));
+
+		scanner.adaptToPreferenceChange(new PropertyChangeEvent(store, JavaCore.COMPILER_SOURCE, JavaCore.VERSION_1_4, JavaCore.VERSION_1_5));
+		assertSame(keyword, scanWord(scanner, text, "assert"));
+		assertSame(keyword, scanWord(scanner, text, "enum"));
+		assertSame(keyword, scanWord(scanner, "x enum", "enum"));
+		assertSame(identifier, scanWord(scanner, "x enumeration", "enumeration"));
+	}
+}
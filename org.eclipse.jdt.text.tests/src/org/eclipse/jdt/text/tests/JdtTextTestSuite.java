@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	JavaPairMatcherTest.class,
 	JavaPartitionerExtensionTest.class,
 	JavaColoringTest.class,
+	CombinedWordRuleTest.class,
 	SmartSemicolonAutoEditStrategyTest.class,
 	JavaPartitionerTest.class,
 	PropertiesFilePartitionerTest.class,
@@ -15,6 +15,7 @@ package org.eclipse.jdt.text.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.util.Arrays;
 
@@ -33,11 +34,14 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NodeFinder;
 
 import org.eclipse.jdt.internal.core.manipulation.search.ExceptionOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.Java1d7ProjectTestSetup;
@@ -525,4 +529,32 @@ public class MarkOccurrenceTest1d7 {
 		OccurrenceLocation[] ranges= { find(s, "Exception", 2), find(s, "URL", 3) };
 		checkSelection(s, offset, length, ranges);
 	}
+
+	@Test
+	public void testOccurrencesIndex() throws Exception {
+		StringBuffer s= new StringBuffer();
+		s.append("class A{\n");
+		s.append("   int fField;\n");
+		s.append("   void foo(int k) {\n");
+		s.append("      fField= k;\n");
+		s.append("      k++;\n");
+		s.append("      foo(fField);\n");
+		s.append("   }\n");
+		s.append("}\n");
+		CompilationUnit root= createCompilationUnit(s);
+		OccurrencesIndex index= new OccurrencesIndex(root);
+
+		Name field1= (Name) NodeFinder.perform(root, s.indexOf("fField"), 0);
+		Name field3= (Name) NodeFinder.perform(root, s.lastIndexOf("fField"), 0);
+		OccurrenceLocation[] fieldOccurrences= index.getOccurrences(field1);
+		assertEquals(3, fieldOccurrences.length);
+		assertSame(fieldOccurrences, index.getOccurrences(field3));
+		assertEquals(1, index.size());
+
+		Name param= (Name) NodeFinder.perform(root, s.indexOf("k++"), 0);
+		OccurrenceLocation[] paramOccurrences= index.getOccurrences(param);
+		assertEquals(3, paramOccurrences.length);
+		assertEquals(IOccurrencesFinder.F_WRITE_OCCURRENCE, paramOccurrences[2].getFlags());
+		assertEquals(2, index.size());
+	}
 }
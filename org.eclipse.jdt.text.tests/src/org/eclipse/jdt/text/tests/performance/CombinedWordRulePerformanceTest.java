@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.rules.ICharacterScanner;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.IWordDetector;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.Token;
+
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule;
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule.CharacterBuffer;
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule.WordMatcher;
+
+
+/**
+ * Performance tests for {@link CombinedWordRule}, comparing the word automaton used for
+ * matchers with the default evaluation to the lookup of buffered words.
+ */
+public class CombinedWordRulePerformanceTest extends TextPerformanceTestCase2 {
+
+	private static final String[] KEYWORDS= { "abstract", "break", "case", "catch", "class", "const", "continue", "default", "do", "else", "extends", "final", "finally", "for", "goto", "if", "implements", "import", "instanceof", "interface", "native", "new", "package", "private", "protected", "public", "static", "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "volatile", "while", "void", "boolean", "char", "byte", "short", "int", "long", "float", "double", "null", "true", "false" };
+
+	private static final String[] IDENTIFIERS= { "fDocument", "index", "result", "CombinedWordRule", "getLength", "i", "buffer", "interfaces", "dot", "newValue" };
+
+	private static final int LINES_IN_DOCUMENT= 20000;
+
+
+	public static Test suite() {
+		return new PerfTestSuite(CombinedWordRulePerformanceTest.class);
+	}
+
+	private final static class MyWordDetector implements IWordDetector {
+		@Override
+		public boolean isWordPart(char c) {
+			return Character.isJavaIdentifierPart(c);
+		}
+
+		@Override
+		public boolean isWordStart(char c) {
+			return Character.isJavaIdentifierStart(c);
+		}
+	}
+
+
+	private Document fDocument;
+
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		StringBuilder sb= new StringBuilder();
+		for (int i= 0; i < LINES_IN_DOCUMENT; i++) {
+			sb.append(KEYWORDS[i % KEYWORDS.length]).append(' ');
+			sb.append(IDENTIFIERS[i % IDENTIFIERS.length]).append(' ');
+			sb.append(KEYWORDS[(i * 7) % KEYWORDS.length]).append(";\n");
+		}
+		fDocument= new Document(sb.toString());
+	}
+
+	private static CombinedWordRule createRule(WordMatcher matcher) {
+		IToken token= new Token("keyword");
+		for (String keyword : KEYWORDS)
+			matcher.addWord(keyword, token);
+		return new CombinedWordRule(new MyWordDetector(), matcher, new Token("default"));
+	}
+
+	/**
+	 * Measures scanning with a matcher that keeps the default evaluation, which is
+	 * matched by the word automaton.
+	 *
+	 * @param meter the performance meter
+	 */
+	public void measureWordAutomaton(PerformanceMeter meter) {
+		measure(meter, createRule(new WordMatcher()));
+	}
+
+	/**
+	 * Measures scanning with a matcher that overrides the evaluation, which forces
+	 * the rule to buffer each word and look it up.
+	 *
+	 * @param meter the performance meter
+	 */
+	public void measureWordLookup(PerformanceMeter meter) {
+		measure(meter, createRule(new WordMatcher() {
+			@Override
+			public IToken evaluate(ICharacterScanner scanner, CharacterBuffer word) {
+				return super.evaluate(scanner, word);
+			}
+		}));
+	}
+
+	private void measure(PerformanceMeter meter, CombinedWordRule rule) {
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(new IRule[] { rule });
+		scanner.setRange(fDocument, 0, fDocument.getLength());
+
+		meter.start();
+		while (scanner.nextToken() != Token.EOF) {
+		}
+		meter.stop();
+	}
+}
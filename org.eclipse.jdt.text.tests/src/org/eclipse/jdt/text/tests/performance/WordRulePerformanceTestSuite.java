@@ -21,7 +21,8 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	WordRulePerformanceTest.class
+	WordRulePerformanceTest.class,
+	CombinedWordRulePerformanceTest.class
 })
 public class WordRulePerformanceTestSuite {
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.core.resources.IFolder;
 
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 import org.eclipse.ltk.core.refactoring.participants.RenameArguments;
 import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
 
@@ -500,6 +501,74 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 		helper2("f", "g", true);
 	}
 
+	/*
+	 * With at least 16 modified compilation units, the new working copies are created
+	 * concurrently and the new references in them are resolved from their ASTs.
+	 */
+	private ICompilationUnit[] createReferencingUnits(int count) throws Exception {
+		createCU(getPackageP(), "A.java", "package p;\npublic class A {\n\tpublic int f;\n}\n");
+		ICompilationUnit[] units= new ICompilationUnit[count];
+		for (int i= 0; i < count; i++) {
+			units[i]= createCU(getPackageP(), "B" + i + ".java", "package p;\npublic class B" + i + " {\n\tint m(A a) {\n\t\treturn a.f;\n\t}\n}\n");
+		}
+		return units;
+	}
+
+	private RefactoringStatus renameField(String newFieldName) throws Exception {
+		IField field= getType(getPackageP().getCompilationUnit("A.java"), "A").getField("f");
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_FIELD);
+		descriptor.setJavaElement(field);
+		descriptor.setUpdateReferences(true);
+		descriptor.setNewName(newFieldName);
+		return performRefactoring(descriptor);
+	}
+
+	private static boolean hasProblemIn(RefactoringStatus status, String fileName) {
+		for (RefactoringStatusEntry entry : status.getEntries()) {
+			if (entry.getSeverity() >= RefactoringStatus.ERROR && entry.getMessage().contains(fileName))
+				return true;
+		}
+		return false;
+	}
+
+	@Test
+	public void testManyUnits() throws Exception {
+		ICompilationUnit[] units= createReferencingUnits(20);
+
+		RefactoringStatus result= renameField("g");
+
+		assertNull("was supposed to pass", result);
+		for (ICompilationUnit unit : units) {
+			assertTrue(unit.getElementName(), unit.getSource().contains("return a.g;"));
+		}
+	}
+
+	@Test
+	public void testManyUnitsShadowedReference() throws Exception {
+		createReferencingUnits(20);
+		// the updated reference in S binds to S.g
+		createCU(getPackageP(), "S.java", "package p;\npublic class S extends A {\n\tint g;\n\tint m() {\n\t\treturn f;\n\t}\n}\n");
+
+		RefactoringStatus result= renameField("g");
+
+		assertNotNull("precondition was supposed to fail", result);
+		assertTrue(result.toString(), hasProblemIn(result, "S.java"));
+		assertFalse(result.toString(), hasProblemIn(result, "B0.java"));
+	}
+
+	@Test
+	public void testManyUnitsNewReferenceInUnchangedUnit() throws Exception {
+		createReferencingUnits(20);
+		// C is not changed, but the inherited A.g hides C.g in D
+		createCU(getPackageP(), "C.java", "package p;\npublic class C {\n\tint g;\n\tclass D extends A {\n\t\tint m() {\n\t\t\treturn g;\n\t\t}\n\t}\n}\n");
+
+		RefactoringStatus result= renameField("g");
+
+		assertNotNull("precondition was supposed to fail", result);
+		assertTrue(result.toString(), hasProblemIn(result, "C.java"));
+		assertFalse(result.toString(), hasProblemIn(result, "B0.java"));
+	}
+
 	@Test
 	public void testRenameNLSAccessor01() throws Exception {
 		IFile file= createPropertiesFromTestFile("messages");
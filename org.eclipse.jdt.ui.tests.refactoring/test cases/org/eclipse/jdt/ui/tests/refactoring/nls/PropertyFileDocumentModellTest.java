@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.jdt.ui.tests.refactoring.nls;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -21,7 +23,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
@@ -235,6 +239,39 @@ public class PropertyFileDocumentModellTest {
 				"org.eclipse.nls.2=value\n", props.get());
 	}
 
+	@Test
+	public void batchInsertIntoDoc() throws Exception {
+		Document props= new Document(
+				"org.eclipse.1=value\n" +
+				"org.eclipse.3=value\n" +
+				"org.xenon=value\n");
+		PropertyFileDocumentModel model= new PropertyFileDocumentModel(props);
+
+		KeyValuePair[] pairs= {
+				new KeyValuePair("org.eclipse.2", "value\n"),
+				new KeyValuePair("org.eclipse.0", "value\n"),
+				new KeyValuePair("org.eclipse.4", "value\n")};
+		DocumentChange change= new DocumentChange("", props);
+		model.insert(pairs, change);
+
+		TextEdit[] children= change.getEdit().getChildren();
+		assertEquals(1, children.length);
+		assertTrue(children[0] instanceof MultiTextEdit);
+		assertEquals(3, children[0].getChildrenSize());
+		assertEquals(3, change.getTextEditChangeGroups().length);
+		assertNotNull(model.getKeyValuePair("org.eclipse.4"));
+
+		change.perform(new NullProgressMonitor());
+
+		assertEquals(
+				"org.eclipse.0=value\n" +
+				"org.eclipse.1=value\n" +
+				"org.eclipse.2=value\n" +
+				"org.eclipse.3=value\n" +
+				"org.eclipse.4=value\n" +
+				"org.xenon=value\n", props.get());
+	}
+
 	@Test
 	public void insertIntoDocWithBlankLines1() throws Exception {
 		Document props= new Document(
@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
 	RenameMethodPerfTests1.class,
 	RenameMethodPerfTests2.class,
 	RenameMethodWithOverloadPerfTests.class,
+	RippleMethodFinderPerfTests.class,
 
 	MoveCompilationUnitPerfTests1.class,
 	MoveCompilationUnitPerfTests2.class,
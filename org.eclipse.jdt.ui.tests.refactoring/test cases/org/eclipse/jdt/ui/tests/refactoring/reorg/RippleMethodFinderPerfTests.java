@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.reorg;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringTestPlugin;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures {@link RippleMethodFinder2} on the <code>RippleMethodFinder</code> test resources
+ * and on a listener interface with many implementors, some of which also implement an
+ * unrelated interface declaring the same method.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RippleMethodFinderPerfTests extends RepeatingRefactoringPerformanceTestCaseCommon {
+
+	private static final String RESOURCE_PATH= "RippleMethodFinder/";
+	private static final int RESOURCE_COUNT= 12;
+	private static final String TARGET= "/*target*/";
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Test
+	public void testACold_Resources() throws Exception {
+		executeRefactoring(RESOURCE_COUNT, 0, false, 1);
+	}
+
+	@Test
+	public void testB_Resources() throws Exception {
+		executeRefactoring(RESOURCE_COUNT, 0, true, 10);
+	}
+
+	@Test
+	public void testC_100_10() throws Exception {
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Test
+	public void testD_2000_10() throws Exception {
+		tagAsSummary("Ripple methods of a widely implemented interface", Dimension.ELAPSED_PROCESS);
+		executeRefactoring(2000, 10, true, 5);
+	}
+
+	/**
+	 * @param numberOfCus the number of implementors, or the number of test resources if
+	 *            <code>numberOfRefs</code> is 0
+	 * @param numberOfRefs every how many implementors also implement the unrelated interface
+	 * @param measure whether to measure
+	 */
+	@Override
+	protected void doExecuteRefactoring(int numberOfCus, int numberOfRefs, boolean measure) throws Exception {
+		List<IMethod> targets= numberOfRefs == 0 ? createResources(numberOfCus) : createListeners(numberOfCus, numberOfRefs);
+		joinBackgroudActivities();
+		if (measure)
+			startMeasuring();
+		for (IMethod target : targets) {
+			IMethod[] related= RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null);
+			assertTrue(related.length > 0);
+		}
+		if (measure)
+			finishMeasurements();
+	}
+
+	private List<IMethod> createResources(int count) throws Exception {
+		List<IMethod> targets= new ArrayList<>(count);
+		for (int i= 1; i <= count; i++) {
+			IPackageFragment pack= getTestProject().getSourceFolder().createPackageFragment("p" + i, false, null);
+			String name= "A_test" + i + ".java";
+			String contents= getContents(RESOURCE_PATH + name).replaceFirst("package p;", "package p" + i + ";");
+			ICompilationUnit cu= pack.createCompilationUnit(name, contents, false, null);
+			IJavaElement[] elements= cu.codeSelect(contents.indexOf(TARGET) + TARGET.length(), 0);
+			targets.add((IMethod) elements[0]);
+		}
+		return targets;
+	}
+
+	private List<IMethod> createListeners(int numberOfImplementors, int otherInterval) throws Exception {
+		IPackageFragment pack= getTestProject().getSourceFolder().createPackageFragment("listeners", false, null);
+		ICompilationUnit listener= pack.createCompilationUnit("Listener.java",
+				"package listeners;\npublic interface Listener {\n    void changed(Object source);\n}\n", false, null);
+		pack.createCompilationUnit("Other.java",
+				"package listeners;\npublic interface Other {\n    void changed(Object source);\n}\n", false, null);
+
+		IPackageFragment implementors= getTestProject().getSourceFolder().createPackageFragment("impl", false, null);
+		for (int i= 0; i < numberOfImplementors; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package impl;\n");
+			buf.append("import listeners.*;\n");
+			buf.append("public class Impl" + i + " implements Listener");
+			if (i % otherInterval == 0)
+				buf.append(", Other");
+			buf.append(" {\n");
+			buf.append("    public void changed(Object source) {\n");
+			buf.append("    }\n");
+			buf.append("}\n");
+			implementors.createCompilationUnit("Impl" + i + ".java", buf.toString(), false, null);
+		}
+		List<IMethod> targets= new ArrayList<>(1);
+		targets.add(listener.findPrimaryType().getMethod("changed", new String[] { "QObject;" }));
+		return targets;
+	}
+
+	private static String getContents(String fileName) throws IOException {
+		try (InputStream in= RefactoringTestPlugin.getDefault().getTestResourceStream(fileName)) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsConstraintCreator;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsConstraintsSolver;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsTCModel;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsUpdate;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsUpdate.CuUpdate;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.CollectionElementVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariableWorkList;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ImmutableTypeVariable2;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests the work-list and the type sets used by the type constraint solvers, and the solver of
+ * Infer Generic Type Arguments.
+ */
+public class ConstraintSolverTests {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private ICompilationUnit fCU;
+	private CompilationUnit fAST;
+	private TypeEnvironment fTypeEnvironment;
+	private final Map<String, TType> fTypes= new HashMap<>();
+
+	@Before
+	public void setUp() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("import java.util.ArrayList;\n");
+		buf.append("import java.util.List;\n");
+		buf.append("class A {}\n");
+		buf.append("class B extends A {}\n");
+		buf.append("class C extends B {}\n");
+		buf.append("class D {}\n");
+		buf.append("public class Solver {\n");
+		buf.append("    void m() {\n");
+		buf.append("        List list= new ArrayList();\n");
+		buf.append("        list.add(\"x\");\n");
+		buf.append("        String s= (String) list.get(0);\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		fCU= rts.getPackageP().createCompilationUnit("Solver.java", buf.toString(), true, null);
+
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(fCU.getJavaProject());
+		parser.setResolveBindings(true);
+		parser.setSource(fCU);
+		fAST= (CompilationUnit) parser.createAST(null);
+
+		fTypeEnvironment= new TypeEnvironment();
+		for (Object type : fAST.types()) {
+			AbstractTypeDeclaration declaration= (AbstractTypeDeclaration) type;
+			fTypes.put(declaration.getName().getIdentifier(), fTypeEnvironment.create(declaration.resolveBinding()));
+		}
+	}
+
+	private TType[] types(String... names) {
+		TType[] result= new TType[names.length];
+		for (int i= 0; i < names.length; i++)
+			result[i]= fTypes.get(names[i]);
+		return result;
+	}
+
+	private EnumeratedTypeSet createSet(TypeSetEnvironment environment, String... names) {
+		return new EnumeratedTypeSet(Arrays.asList(types(names)).iterator(), environment);
+	}
+
+	@Test
+	public void workListSkipsQueuedVariables() throws Exception {
+		TType type= fTypes.get("A");
+		ConstraintVariable2 v1= new ImmutableTypeVariable2(type);
+		ConstraintVariable2 v2= new ImmutableTypeVariable2(type);
+		ConstraintVariable2 v3= new ImmutableTypeVariable2(type);
+
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList(Arrays.asList(v1, v2));
+		workList.add(v1);
+		assertEquals(2, workList.size());
+		assertEquals(1, workList.getSkippedCount());
+
+		assertSame(v1, workList.removeFirst());
+		// a processed variable is queued again
+		workList.addAll(new ConstraintVariable2[] { v3, v1, v3 });
+		assertEquals(3, workList.size());
+		assertSame(v2, workList.removeFirst());
+		assertSame(v3, workList.removeFirst());
+		assertSame(v1, workList.removeFirst());
+		assertTrue(workList.isEmpty());
+		assertEquals(4, workList.getIterationCount());
+		assertEquals(2, workList.getSkippedCount());
+	}
+
+	@Test
+	public void workListGrows() throws Exception {
+		TType type= fTypes.get("A");
+		List<ConstraintVariable2> variables= new ArrayList<>();
+		for (int i= 0; i < 100; i++)
+			variables.add(new ImmutableTypeVariable2(type));
+
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList(variables.subList(0, 10));
+		List<ConstraintVariable2> processed= new ArrayList<>();
+		for (int i= 10; i < variables.size(); i++) {
+			// keep the head of the ring buffer moving while it grows
+			if (i % 3 == 0)
+				processed.add(workList.removeFirst());
+			workList.add(variables.get(i));
+		}
+		while (!workList.isEmpty())
+			processed.add(workList.removeFirst());
+		assertEquals(variables, processed);
+	}
+
+	@Test
+	public void intersectionKeepsOrder() throws Exception {
+		TypeSetEnvironment environment= new TypeSetEnvironment(fTypeEnvironment);
+		EnumeratedTypeSet set= createSet(environment, "C", "A", "B");
+
+		TypeSet intersection= set.intersectedWith(createSet(environment, "B", "D", "C"));
+		assertArrayEquals(types("C", "B"), intersection.enumerate().toArray());
+		assertArrayEquals(types("C", "A", "B"), set.toArray());
+
+		assertTrue(set.intersectedWith(createSet(environment, "D", "Solver")).isEmpty());
+	}
+
+	@Test
+	public void containsAllAfterModification() throws Exception {
+		TypeSetEnvironment environment= new TypeSetEnvironment(fTypeEnvironment);
+		EnumeratedTypeSet set= createSet(environment, "C", "A", "B");
+
+		assertTrue(set.containsAll(createSet(environment, "B", "C")));
+		assertFalse(set.containsAll(createSet(environment, "B", "D")));
+
+		set.add(fTypes.get("D"));
+		assertTrue(set.containsAll(createSet(environment, "B", "D")));
+		set.remove(fTypes.get("B"));
+		assertFalse(set.containsAll(createSet(environment, "B", "D")));
+	}
+
+	@Test
+	public void retainAllKeepsOrder() throws Exception {
+		TypeSetEnvironment environment= new TypeSetEnvironment(fTypeEnvironment);
+		EnumeratedTypeSet set= createSet(environment, "D", "C", "A", "B");
+
+		assertTrue(set.retainAll(createSet(environment, "B", "D", "C")));
+		assertArrayEquals(types("D", "C", "B"), set.toArray());
+		assertFalse(set.retainAll(createSet(environment, "A", "B", "C", "D")));
+		assertArrayEquals(types("D", "C", "B"), set.toArray());
+	}
+
+	@Test
+	public void equalsIgnoresOrder() throws Exception {
+		TypeSetEnvironment environment= new TypeSetEnvironment(fTypeEnvironment);
+
+		assertEquals(createSet(environment, "A", "B"), createSet(environment, "B", "A"));
+		assertNotEquals(createSet(environment, "A", "B"), createSet(environment, "A", "C"));
+		assertNotEquals(createSet(environment, "A", "B"), createSet(environment, "A", "B", "C"));
+	}
+
+	@Test
+	public void typesInSeveralEnvironments() throws Exception {
+		TypeSetEnvironment environment1= new TypeSetEnvironment(fTypeEnvironment);
+		TypeSetEnvironment environment2= new TypeSetEnvironment(fTypeEnvironment);
+		// the types get different ordinals in the two environments
+		EnumeratedTypeSet set1= createSet(environment1, "A", "B", "C", "D");
+		EnumeratedTypeSet set2= createSet(environment2, "D", "C", "B", "A");
+
+		for (int i= 0; i < 2; i++) {
+			assertArrayEquals(types("B", "C"), set1.intersectedWith(createSet(environment1, "C", "B")).enumerate().toArray());
+			assertArrayEquals(types("C", "B"), set2.intersectedWith(createSet(environment2, "B", "C")).enumerate().toArray());
+			assertTrue(set1.containsAll(createSet(environment1, "D")));
+			assertFalse(createSet(environment2, "A", "B").containsAll(createSet(environment2, "C")));
+			// sets of different environments are compared by their members
+			assertTrue(set1.containsAll(createSet(environment2, "C", "A")));
+		}
+	}
+
+	@Test
+	public void inferTypeArguments() throws Exception {
+		InferTypeArgumentsTCModel model= new InferTypeArgumentsTCModel();
+		fAST.accept(new InferTypeArgumentsConstraintCreator(model, false));
+		model.newCu();
+
+		InferTypeArgumentsUpdate update= new InferTypeArgumentsConstraintsSolver(model).solveConstraints(new NullProgressMonitor());
+		CuUpdate cuUpdate= update.getUpdates().get(fCU);
+		assertEquals(1, cuUpdate.getCastsToRemove().size());
+		assertFalse(cuUpdate.getDeclarations().isEmpty());
+		for (CollectionElementVariable2 declaration : cuUpdate.getDeclarations())
+			assertEquals("java.lang.String", InferTypeArgumentsConstraintsSolver.getChosenType(declaration).getPrettySignature());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,7 +55,7 @@ public class LeakTestCase {
 	private InstancesOfTypeCollector collect(String requestedTypeName) {
 		InstancesOfTypeCollector requestor= new InstancesOfTypeCollector(requestedTypeName, false);
 		calmDown();
-		new ReferenceTracker(requestor).start(getClass().getClassLoader());
+		new ReferenceTracker(requestor, true).start(getClass().getClassLoader());
 		return requestor;
 	}
 
@@ -75,7 +75,7 @@ public class LeakTestCase {
 			}
 		};
 
-		new ReferenceTracker(visitor).start(getClass().getClassLoader());
+		new ReferenceTracker(visitor, true).start(getClass().getClassLoader());
 		return requestors;
 	}
 
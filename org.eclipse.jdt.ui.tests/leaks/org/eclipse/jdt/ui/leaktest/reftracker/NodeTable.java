@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.ui.leaktest.reftracker;
+
+import java.util.Arrays;
+
+/**
+ * The objects visited by a compact {@link ReferenceTracker}. Every object is a node with an index
+ * in the order it was added, the index of the node that references it and an int describing the
+ * reference. The nodes are stored in chunks of primitive arrays, and an open addressing table of
+ * node indices keyed by {@link System#identityHashCode(Object)} finds the node of an object.
+ * <p>
+ * As nodes are added in the order they are found, the nodes not visited yet are the queue of a
+ * breadth first traversal.
+ * </p>
+ */
+final class NodeTable {
+
+	public static final int NO_PARENT= -1;
+
+	private static final int CHUNK_BITS= 16;
+	private static final int CHUNK_SIZE= 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK= CHUNK_SIZE - 1;
+
+	private Object[][] fValues;
+	private int[][] fParents;
+	private int[][] fEdges;
+	private int fSize;
+
+	private int[] fTable; // node index + 1, 0 for an empty slot
+	private int fThreshold;
+
+	public NodeTable(int initialCapacity) {
+		int capacity= Integer.highestOneBit(Math.max(initialCapacity, 16) - 1) << 1;
+		fTable= new int[capacity];
+		fThreshold= getThreshold(capacity);
+		fValues= new Object[16][];
+		fParents= new int[16][];
+		fEdges= new int[16][];
+		fSize= 0;
+	}
+
+	private static int getThreshold(int capacity) {
+		return (capacity / 3) * 2;
+	}
+
+	/**
+	 * Adds a node for an object if it has none.
+	 * @param value the object
+	 * @param parent the index of the referencing node or {@link #NO_PARENT}
+	 * @param edge describes the reference from the parent
+	 * @return the index of the new node, or <code>-(index + 1)</code> if the object already has a node
+	 */
+	public int add(Object value, int parent, int edge) {
+		int mask= fTable.length - 1;
+		int slot= getHash(value) & mask;
+		int entry;
+		while ((entry= fTable[slot]) != 0) {
+			if (getValue(entry - 1) == value) {
+				return -entry;
+			}
+			slot= (slot + 1) & mask;
+		}
+		int node= fSize;
+		int chunk= node >>> CHUNK_BITS;
+		if (chunk == fValues.length) {
+			fValues= Arrays.copyOf(fValues, chunk * 2);
+			fParents= Arrays.copyOf(fParents, chunk * 2);
+			fEdges= Arrays.copyOf(fEdges, chunk * 2);
+		}
+		if (fValues[chunk] == null) {
+			fValues[chunk]= new Object[CHUNK_SIZE];
+			fParents[chunk]= new int[CHUNK_SIZE];
+			fEdges[chunk]= new int[CHUNK_SIZE];
+		}
+		int offset= node & CHUNK_MASK;
+		fValues[chunk][offset]= value;
+		fParents[chunk][offset]= parent;
+		fEdges[chunk][offset]= edge;
+		fTable[slot]= node + 1;
+		fSize++;
+		if (fSize > fThreshold) {
+			increaseSize();
+		}
+		return node;
+	}
+
+	private void increaseSize() {
+		int newSize= fTable.length * 2;
+		int[] newTable= new int[newSize];
+		int mask= newSize - 1;
+		for (int node= 0; node < fSize; node++) {
+			int slot= getHash(getValue(node)) & mask;
+			while (newTable[slot] != 0) {
+				slot= (slot + 1) & mask;
+			}
+			newTable[slot]= node + 1;
+		}
+		fTable= newTable;
+		fThreshold= getThreshold(newSize);
+	}
+
+	private static int getHash(Object value) {
+		// spread the identity hash codes, linear probing needs distinct low bits
+		int hash= System.identityHashCode(value) * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	public Object getValue(int node) {
+		return fValues[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	public int getParent(int node) {
+		return fParents[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	public int getEdge(int node) {
+		return fEdges[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	public int size() {
+		return fSize;
+	}
+
+	public void clear() {
+		Arrays.fill(fValues, null);
+		Arrays.fill(fParents, null);
+		Arrays.fill(fEdges, null);
+		fTable= new int[16];
+		fThreshold= getThreshold(16);
+		fSize= 0;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,10 @@ import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 
@@ -29,6 +33,12 @@ import org.eclipse.core.runtime.Status;
  * Tracks all instances reachable though reflection from a given root object. To visit all elements in a VM
  * pass a class loader as class loaders know all loaded classes and classes know all static fields. This normally covers
  * all references except instances that are only referenced by local variables or by native roots
+ * <p>
+ * In the compact mode the visited objects are kept in a {@link NodeTable} instead of a set and a
+ * queue of {@link ReferencedObject}s, and the references passed to the visitor are created from
+ * the indices of the referencing nodes. This mode needs much less memory for large heaps, but
+ * the holders of a reference can only be requested while the tracker is running.
+ * </p>
  */
 public final class ReferenceTracker {
 
@@ -42,12 +52,27 @@ public final class ReferenceTracker {
 
 	private boolean fSkipWeakOrSoft;
 
+	private final boolean fCompact;
+	private NodeTable fNodes;
+	private List<Field> fFields;
+	private Map<Class<?>, int[]> fInstanceFieldEdges;
+
 	public ReferenceTracker(ReferenceVisitor visitor) {
+		this(visitor, false);
+	}
+
+	/**
+	 * Creates a reference tracker.
+	 * @param visitor the visitor
+	 * @param compact if set, the visited objects are kept in a {@link NodeTable}
+	 */
+	public ReferenceTracker(ReferenceVisitor visitor, boolean compact) {
 		fReferenceVisitor= visitor;
 		fStatus= null;
 		fVisitedElements= null;
 		fQueue= null;
 		fSkipWeakOrSoft= true;
+		fCompact= compact;
 	}
 
 	private static boolean isInteresting(Class<?> clazz) {
@@ -161,6 +186,9 @@ public final class ReferenceTracker {
 	}
 
 	public IStatus start(Object root) {
+		if (fCompact) {
+			return startCompact(root);
+		}
 		fVisitedElements= new IdentityHashSet(1 << 21); // 2 M -> 8 MB
 		fQueue= new FIFOQueue(100);
 		fStatus= new MultiStatus(JavaTestPlugin.getPluginId(), IStatus.OK, "Problem tracking resources", null);
@@ -184,4 +212,175 @@ public final class ReferenceTracker {
 		return fStatus;
 	}
 
+	private IStatus startCompact(Object root) {
+		fNodes= new NodeTable(1 << 16);
+		fFields= new ArrayList<>();
+		fInstanceFieldEdges= new HashMap<>();
+		fStatus= new MultiStatus(JavaTestPlugin.getPluginId(), IStatus.OK, "Problem tracking resources", null);
+
+		try {
+			if (isInteresting(root.getClass())) {
+				fNodes.add(root, NodeTable.NO_PARENT, 0);
+				for (int node= 0; node < fNodes.size(); node++) {
+					visitCompact(node);
+				}
+			}
+		} finally {
+			// make sure not to hold on any references
+			fNodes.clear();
+			fNodes= null;
+			fFields= null;
+			fInstanceFieldEdges= null;
+		}
+		return fStatus;
+	}
+
+	private void visitCompact(int node) {
+		Object curr= fNodes.getValue(node);
+		Class<?> currClass= curr.getClass();
+		if (!fReferenceVisitor.visit(getReference(node), currClass, true)) {
+			return;
+		}
+
+		if (currClass.isArray()) {
+			if (currClass.getComponentType().isPrimitive()) {
+				return;
+			}
+			Object[] array= (Object[]) curr;
+			for (int i= 0; i < array.length; i++) {
+				Object elem= array[i];
+				if (elem != null) {
+					followCompact(node, i, elem);
+				}
+			}
+		} else {
+			if (currClass == Class.class) {
+				for (Field fld : ((Class<?>) curr).getDeclaredFields()) {
+					if (isStatic(fld.getModifiers()) && !fld.getType().isPrimitive()) {
+						followFieldCompact(node, null, getEdge(fld));
+					}
+				}
+			}
+			for (int edge : getInstanceFieldEdges(currClass)) {
+				followFieldCompact(node, curr, edge);
+			}
+		}
+	}
+
+	private void followFieldCompact(int node, Object curr, int edge) {
+		Field fld= getField(edge);
+		if (fSkipWeakOrSoft && isWeakOrSoftReference(curr, fld)) {
+			return;
+		}
+		try {
+			Object fieldVal= fld.get(curr);
+			if (fieldVal != null) {
+				followCompact(node, edge, fieldVal);
+			}
+		} catch (IllegalArgumentException | IllegalAccessException | ExceptionInInitializerError e) {
+			handleError(e, fld);
+		}
+	}
+
+	private void followCompact(int holder, int edge, Object value) {
+		Class<?> valueClass= value.getClass();
+		if (!isInteresting(valueClass)) {
+			return;
+		}
+		if (fNodes.add(value, holder, edge) < 0) {
+			fReferenceVisitor.visit(createReference(holder, edge, value), valueClass, false);
+		}
+	}
+
+	/*
+	 * The edge of a node is the index of an array element, or -(index + 1) of the field in fFields
+	 */
+	private int getEdge(Field fld) {
+		setAccessible(fld, true); // the field is a copy only used by this tracker
+		fFields.add(fld);
+		return -fFields.size();
+	}
+
+	private Field getField(int edge) {
+		return fFields.get(-edge - 1);
+	}
+
+	private int[] getInstanceFieldEdges(Class<?> clazz) {
+		int[] edges= fInstanceFieldEdges.get(clazz);
+		if (edges == null) {
+			List<Integer> list= new ArrayList<>();
+			Class<?> currClass= clazz;
+			do {
+				for (Field fld : currClass.getDeclaredFields()) {
+					if (!isStatic(fld.getModifiers()) && !fld.getType().isPrimitive()) {
+						list.add(Integer.valueOf(getEdge(fld)));
+					}
+				}
+				currClass= currClass.getSuperclass();
+			} while (currClass != null);
+			edges= new int[list.size()];
+			for (int i= 0; i < edges.length; i++) {
+				edges[i]= list.get(i).intValue();
+			}
+			fInstanceFieldEdges.put(clazz, edges);
+		}
+		return edges;
+	}
+
+	private Object getValue(int node) {
+		if (fNodes == null) {
+			throw new IllegalStateException("The holders of a reference are only available while tracking");
+		}
+		return fNodes.getValue(node);
+	}
+
+	private ReferencedObject getReference(int node) {
+		Object value= getValue(node);
+		int parent= fNodes.getParent(node);
+		if (parent == NodeTable.NO_PARENT) {
+			return new RootReference(value);
+		}
+		return createReference(parent, fNodes.getEdge(node), value);
+	}
+
+	private ReferencedObject createReference(int holder, int edge, Object value) {
+		if (edge >= 0) {
+			return new CompactArrayElement(holder, edge, value);
+		}
+		return new CompactFieldElement(holder, getField(edge), value);
+	}
+
+	private final class CompactArrayElement extends ReferencedArrayElement {
+
+		private final int fHolder;
+
+		public CompactArrayElement(int holder, int index, Object value) {
+			super(null, index, value);
+			fHolder= holder;
+		}
+
+		@Override
+		public ReferencedObject getReferenceHolder() {
+			return getReference(fHolder);
+		}
+	}
+
+	private final class CompactFieldElement extends ReferencedFieldElement {
+
+		private final int fHolder;
+
+		public CompactFieldElement(int holder, Field field, Object value) {
+			super(null, field, value);
+			fHolder= holder;
+		}
+
+		@Override
+		public ReferencedObject getReferenceHolder() {
+			if (isStatic(getField().getModifiers())) {
+				// as in followStaticReferences, the class is the root of its static fields
+				return new RootReference(getValue(fHolder));
+			}
+			return getReference(fHolder);
+		}
+	}
 }
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.compare.ContentCache;
+import org.eclipse.jdt.internal.ui.compare.JavaTokenComparator;
+
+public class ContentCacheTest {
+
+	@Test
+	public void changedContents() {
+		ContentCache<String> cache= new ContentCache<>(10, 100);
+		cache.put("int a;", "a");
+		assertEquals("a", cache.get("int a;"));
+		assertNull(cache.get("int ab;"));
+
+		cache.put("int ab;", "ab");
+		assertEquals("ab", cache.get("int ab;"));
+		assertEquals("a", cache.get("int a;"));
+	}
+
+	@Test
+	public void evictByEntryCount() {
+		ContentCache<String> cache= new ContentCache<>(2, 100);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		assertEquals("1", cache.get("a")); // b is now the least recently used
+		cache.put("c", "3");
+
+		assertEquals("1", cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals("3", cache.get("c"));
+	}
+
+	@Test
+	public void evictByLength() {
+		ContentCache<String> cache= new ContentCache<>(10, 10);
+		cache.put("aaaa", "1");
+		cache.put("bbbb", "2");
+		cache.put("cccc", "3");
+
+		assertNull(cache.get("aaaa"));
+		assertEquals("2", cache.get("bbbb"));
+		assertEquals("3", cache.get("cccc"));
+
+		cache.put("ddddddddddd", "4");
+		assertNull(cache.get("ddddddddddd"));
+		assertEquals("2", cache.get("bbbb"));
+	}
+
+	@Test
+	public void tokensOfChangedText() {
+		JavaTokenComparator comparator= new JavaTokenComparator("int a;");
+		assertEquals(4, comparator.getRangeCount());
+
+		comparator= new JavaTokenComparator("int ab= 1;");
+		assertEquals(7, comparator.getRangeCount());
+		assertEquals(4, comparator.getTokenStart(2));
+		assertEquals(2, comparator.getTokenLength(2));
+
+		comparator= new JavaTokenComparator("int a;");
+		assertEquals(4, comparator.getRangeCount());
+		assertEquals(4, comparator.getTokenStart(2));
+		assertEquals(1, comparator.getTokenLength(2));
+	}
+}
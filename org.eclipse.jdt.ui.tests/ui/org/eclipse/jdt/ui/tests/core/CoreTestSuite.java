@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ CodeFormatterUtilTest.class,
 CodeFormatterTest.class,
 CodeFormatterTest9.class,
 CodeFormatterMigrationTest.class,
+ContentCacheTest.class,
 HierarchicalASTVisitorTest.class,
 ImportOrganizeTest.class,
 ImportOrganizeTest1d8.class,
@@ -40,6 +41,7 @@ BindingLabelsTest.class,
 BindingLabels18Test.class,
 JavaElementPropertyTesterTest.class,
 JavaModelUtilTest.class,
+MemberHistoryTest.class,
 MethodOverrideTest.class,
 MethodOverrideTest1d8.class,
 NameProposerTest.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -23,6 +25,7 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.viewers.StyledString;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -670,4 +673,112 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testLabelUpdatedAfterChange() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class Outer {\n");
+		buf.append("    public int foo() {\n");
+		buf.append("        return 0;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String content= buf.toString();
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", content, false, null);
+
+		IJavaElement foo= cu.getElementAt(content.indexOf("foo"));
+		long flags= JavaElementLabels.ALL_DEFAULT | JavaElementLabels.M_FULLY_QUALIFIED | JavaElementLabels.M_APP_RETURNTYPE;
+		assertExpectedLabel(foo, "org.test.Outer.foo() : int", flags);
+		assertExpectedLabel(foo, "org.test.Outer.foo() : int", flags);
+
+		String newContent= content.replace("int foo", "String foo").replace("return 0", "return null");
+		cu.getBuffer().setContents(newContent);
+		cu.save(null, true);
+		foo= cu.getElementAt(newContent.indexOf("foo"));
+		assertExpectedLabel(foo, "org.test.Outer.foo() : String", flags);
+
+		assertExpectedLabel(pack1, "org.test", JavaElementLabels.P_COMPRESSED);
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, true);
+		try {
+			store.setValue(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW, "1~.");
+			assertExpectedLabel(pack1, "o~.test", JavaElementLabels.P_COMPRESSED);
+		} finally {
+			store.setToDefault(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW);
+			store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
+		}
+		assertExpectedLabel(pack1, "org.test", JavaElementLabels.P_COMPRESSED);
+	}
+
+	@Test
+	public void testStyledLabelUpdatedAfterReconcile() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class Outer {\n");
+		buf.append("    public int foo() {\n");
+		buf.append("        return 0;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String content= buf.toString();
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", content, false, null);
+		buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class Other {\n");
+		buf.append("    public int bar() {\n");
+		buf.append("        return 0;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String otherContent= buf.toString();
+		ICompilationUnit other= pack1.createCompilationUnit("Other.java", otherContent, false, null);
+
+		long flags= JavaElementLabels.ALL_DEFAULT | JavaElementLabels.M_FULLY_QUALIFIED | JavaElementLabels.M_APP_RETURNTYPE;
+		IJavaElement foo= cu.getElementAt(content.indexOf("foo"));
+		IJavaElement bar= other.getElementAt(otherContent.indexOf("bar"));
+		assertEqualString(JavaElementLabels.getStyledElementLabel(foo, flags).getString(), "org.test.Outer.foo() : int");
+		assertEqualString(JavaElementLabels.getStyledElementLabel(bar, flags).getString(), "org.test.Other.bar() : int");
+
+		cu.becomeWorkingCopy(null);
+		try {
+			String newContent= content.replace("int foo", "String foo").replace("return 0", "return null");
+			cu.getBuffer().setContents(newContent);
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			foo= cu.getElementAt(newContent.indexOf("foo"));
+			assertEqualString(JavaElementLabels.getStyledElementLabel(foo, flags).getString(), "org.test.Outer.foo() : String");
+			assertEqualString(JavaElementLabels.getTextLabel(foo, flags), "org.test.Outer.foo() : String");
+			assertEqualString(JavaElementLabels.getStyledElementLabel(bar, flags).getString(), "org.test.Other.bar() : int");
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testStyledLabelNotShared() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class Outer {\n");
+		buf.append("    public int foo() {\n");
+		buf.append("        return 0;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String content= buf.toString();
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", content, false, null);
+
+		IJavaElement foo= cu.getElementAt(content.indexOf("foo"));
+		long flags= JavaElementLabels.ALL_DEFAULT | JavaElementLabels.M_APP_RETURNTYPE;
+		StyledString label= JavaElementLabels.getStyledElementLabel(foo, flags);
+		assertEqualString(label.getString(), "foo() : int");
+		assertEquals(1, label.getStyleRanges().length);
+
+		label.append(" (changed)");
+		label= JavaElementLabels.getStyledElementLabel(foo, flags);
+		assertEqualString(label.getString(), "foo() : int");
+		assertEquals(1, label.getStyleRanges().length);
+	}
 }
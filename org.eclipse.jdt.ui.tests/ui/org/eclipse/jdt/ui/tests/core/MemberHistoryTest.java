@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.compare.IStreamContentAccessor;
+import org.eclipse.compare.ITypedElement;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.compare.MemberHistory;
+
+public class MemberHistoryTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fProject;
+	private ICompilationUnit fCU;
+	private IFile fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		fCU= pack.createCompilationUnit("A.java", getSource("a();", ""), true, null);
+		fFile= (IFile) fCU.getResource();
+
+		// foo changes, then only bar changes
+		setContents(getSource("b();", ""));
+		setContents(getSource("b();", "x();"));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		File indexFile= MemberHistory.getIndexFile(fFile);
+		JavaProjectHelper.clear(fProject, pts.getDefaultClasspath());
+		indexFile.delete();
+	}
+
+	private static String getSource(String fooBody, String barBody) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class A {\n");
+		buf.append("    void foo() {\n");
+		buf.append("        ").append(fooBody).append("\n");
+		buf.append("    }\n");
+		buf.append("    void bar() {\n");
+		buf.append("        ").append(barBody).append("\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	private void setContents(String contents) throws Exception {
+		// the states of the local history are identified by their modification time
+		Thread.sleep(20);
+		fFile.setContents(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, true, null);
+	}
+
+	private IMethod getMethod(String name) {
+		return fCU.getType("A").getMethod(name, new String[0]);
+	}
+
+	private static String getContents(ITypedElement edition) throws Exception {
+		assertNotNull(edition);
+		return new String(((IStreamContentAccessor) edition).getContents().readAllBytes(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void memberChangedInLastState() throws Exception {
+		String contents= getContents(MemberHistory.getPreviousEdition(fFile, getMethod("bar"), null));
+		assertFalse(contents.contains("x();"));
+		assertTrue(contents.contains("void bar()"));
+	}
+
+	@Test
+	public void memberUnchangedInLastState() throws Exception {
+		// the last state only changed bar, the previous edition of foo is the first state
+		String contents= getContents(MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null));
+		assertTrue(contents.contains("a();"));
+	}
+
+	@Test
+	public void memberWithoutPreviousEdition() throws Exception {
+		setContents(getSource("b();", "x();").replace("}\n}", "}\n    void baz() {}\n}"));
+		assertNull(MemberHistory.getPreviousEdition(fFile, getMethod("baz"), null));
+	}
+
+	@Test
+	public void indexIsPersisted() throws Exception {
+		MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null);
+
+		File indexFile= MemberHistory.getIndexFile(fFile);
+		assertTrue(indexFile.exists());
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			in.readInt(); // magic
+			in.readInt(); // version
+			assertEquals(fFile.getFullPath().toString(), in.readUTF());
+			assertEquals(fFile.getHistory(null).length, in.readInt());
+		}
+
+		// discard the index in memory, the lookup reads it from the file
+		MemberHistory.removeStaleIndexes();
+		assertTrue(indexFile.exists());
+		assertTrue(getContents(MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null)).contains("a();"));
+	}
+
+	@Test
+	public void removedStatesArePruned() throws Exception {
+		MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null);
+		File indexFile= MemberHistory.getIndexFile(fFile);
+		assertTrue(indexFile.exists());
+
+		fFile.clearHistory(null);
+		assertNull(MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null));
+		assertFalse(indexFile.exists());
+	}
+
+	@Test
+	public void removeStaleIndexes() throws Exception {
+		MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null);
+		File indexFile= MemberHistory.getIndexFile(fFile);
+		MemberHistory.removeStaleIndexes();
+		assertTrue(indexFile.exists());
+
+		// not used for longer than the local history keeps its states
+		indexFile.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(365));
+		MemberHistory.removeStaleIndexes();
+		assertFalse(indexFile.exists());
+
+		// the file was deleted
+		MemberHistory.getPreviousEdition(fFile, getMethod("foo"), null);
+		assertTrue(indexFile.exists());
+		fFile.delete(true, false, null);
+		MemberHistory.removeStaleIndexes();
+		assertFalse(indexFile.exists());
+	}
+}
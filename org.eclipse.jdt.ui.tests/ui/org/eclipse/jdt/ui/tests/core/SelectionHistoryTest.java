@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,10 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.fail;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -24,8 +28,11 @@ import org.junit.Test;
 
 import org.w3c.dom.Element;
 
+import org.eclipse.jdt.internal.corext.util.BinaryHistory;
 import org.eclipse.jdt.internal.corext.util.History;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 public class SelectionHistoryTest {
@@ -124,6 +131,24 @@ public class SelectionHistoryTest {
 
 	}
 
+	private static final class TestBinaryHistory extends BinaryHistory<String, String> {
+
+		public TestBinaryHistory() {
+			super("SelectionHistoryTest.bin", "SelectionHistoryTest.xml", "root", "info");
+		}
+		@Override
+		protected void setAttributes(Object object, Element element) {}
+		@Override
+		protected String createFromElement(Element type) {return null;}
+		@Override
+		protected void writeValue(String value, DataOutputStream out) throws IOException {writeString(value, out);}
+		@Override
+		protected String readValue(DataInputStream in) throws IOException {return readString(in);}
+		@Override
+		protected String getKey(String object) {return object;}
+
+	}
+
 	@Test
 	public void organizeImportHistory01() throws Exception {
 		History<String, String> history= new TestHistory();
@@ -190,4 +215,29 @@ public class SelectionHistoryTest {
 		Arrays.sort(strings, comparator);
 		assertEquals(strings, expected);
 	}
+
+	@Test
+	public void binaryHistorySaveAndLoad() throws Exception {
+		File file= JavaPlugin.getDefault().getStateLocation().append("SelectionHistoryTest.bin").toFile();
+		try {
+			History<String, String> history= new TestBinaryHistory();
+			history.accessed("b");
+			history.accessed("d");
+			history.accessed("a");
+			history.accessed("b");
+			history.save();
+
+			History<String, String> loaded= new TestBinaryHistory();
+			loaded.load();
+			Comparator<String> comparator= new TestHistoryComparator(loaded);
+
+			String[] strings= {"a", "b", "c", "d"};
+			String[] expected= {"b", "a", "d", "c"};
+
+			Arrays.sort(strings, comparator);
+			assertEquals(strings, expected);
+		} finally {
+			file.delete();
+		}
+	}
 }
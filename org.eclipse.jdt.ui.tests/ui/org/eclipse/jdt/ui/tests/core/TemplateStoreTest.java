@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -27,11 +28,16 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.text.templates.TemplatePersistenceData;
 
 import org.eclipse.jface.text.templates.Template;
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
 
 import org.eclipse.jdt.core.IJavaProject;
 
+import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContext;
 import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
 import org.eclipse.jdt.internal.core.manipulation.ProjectTemplateStore;
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -216,4 +222,67 @@ public class TemplateStoreTest extends CoreTests {
 		}
 	}
 
+	@Test
+	public void testProjectCodeTemplatesCached() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		try {
+			String newComment= "//Hello4";
+			String templateId= CodeTemplateContextType.SETTERCOMMENT_ID;
+
+			Template instanceTempl= StubUtility.getCodeTemplate(templateId, null);
+			assertEquals(instanceTempl.getPattern(), StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			ProjectTemplateStore projectStore= new ProjectTemplateStore(fJProject1.getProject());
+			projectStore.load();
+			projectStore.setProjectSpecific(templateId, true);
+			TemplatePersistenceData currData= find(templateId, projectStore.getTemplateData());
+			Template oldTemplate= currData.getTemplate();
+			currData.setTemplate(new Template(oldTemplate.getName(), oldTemplate.getDescription(), oldTemplate.getContextTypeId(), newComment, oldTemplate.isAutoInsertable()));
+			projectStore.save();
+
+			assertEquals(newComment, StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			projectStore.setProjectSpecific(templateId, false);
+			projectStore.save();
+
+			assertEquals(instanceTempl.getPattern(), StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+		} finally {
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
+	@Test
+	public void testEvaluateContextVariables() throws Exception {
+		String pattern= "/**\n * Sets ${field}.\n * @param ${param} the ${field} to set\n */";
+		Template template= new Template("setter", "", CodeTemplateContextType.SETTERCOMMENT_CONTEXTTYPE, pattern, true);
+
+		CodeTemplateContext context= new CodeTemplateContext(CodeTemplateContextType.SETTERCOMMENT_CONTEXTTYPE, pts.getProject(), "\r\n");
+		context.setVariable(CodeTemplateContextType.FILENAME, "A.java");
+		context.setVariable(CodeTemplateContextType.PACKAGENAME, "p");
+		context.setVariable(CodeTemplateContextType.PROJECTNAME, "TestProject");
+		context.setVariable(CodeTemplateContextType.ENCLOSING_TYPE, "A");
+		context.setVariable(CodeTemplateContextType.ENCLOSING_METHOD, "setCount");
+		context.setVariable(CodeTemplateContextType.FIELD, "fCount");
+		context.setVariable(CodeTemplateContextType.FIELD_TYPE, "int");
+		context.setVariable(CodeTemplateContextType.PARAM, "count");
+		context.setVariable(CodeTemplateContextType.BARE_FIELD_NAME, "count");
+
+		TemplateBuffer expected= new TemplateTranslator().translate(pattern.replace("\n", "\r\n"));
+		context.getContextType().resolve(expected, context);
+
+		// evaluate twice, the second evaluation uses the cached translation
+		for (int i= 0; i < 2; i++) {
+			TemplateBuffer actual= context.evaluate(template);
+			assertEquals(expected.getString(), actual.getString());
+			assertEquals(expected.getVariables().length, actual.getVariables().length);
+			for (int k= 0; k < expected.getVariables().length; k++) {
+				TemplateVariable expectedVariable= expected.getVariables()[k];
+				TemplateVariable actualVariable= actual.getVariables()[k];
+				assertEquals(expectedVariable.getName(), actualVariable.getName());
+				assertEquals(expectedVariable.getDefaultValue(), actualVariable.getDefaultValue());
+				assertArrayEquals(expectedVariable.getOffsets(), actualVariable.getOffsets());
+			}
+		}
+	}
+
 }
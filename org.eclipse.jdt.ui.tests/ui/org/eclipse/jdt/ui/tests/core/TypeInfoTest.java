@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -223,6 +224,64 @@ public class TypeInfoTest {
 		assertNotEquals(type1, type2);
 	}
 
+	@Test
+	public void testTypeNameIndex() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+		assertNotNull("Junit source", junitSrcArchive);
+		JavaProjectHelper.addSourceContainerWithImport(fJProject2, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("com.oti", true, null);
+		ICompilationUnit cu1= pack1.getCompilationUnit("V.java");
+		cu1.createType("public class V {\n static class VInner {\n}\n}\n", null, true, null);
+		JavaProjectHelper.addRequiredProject(fJProject1, fJProject2);
+
+		TypeNameIndex index= TypeNameIndex.getInstance();
+		index.rebuild(null);
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(new IJavaElement[] { fJProject1 });
+
+		List<TypeNameMatch> result= searchIndex(index, "V", scope);
+		findTypeRef(result, "com.oti.V");
+		findTypeRef(result, "com.oti.V.VInner");
+		findTypeRef(result, "java.lang.VerifyError");
+		findTypeRef(result, "java.lang.VirtualMachineError");
+		findTypeRef(result, "java.lang.Void");
+		findTypeRef(result, "java.util.Vector");
+		findTypeRef(result, "junit.samples.VectorTest");
+		findTypeRef(result, "junit.runner.Version");
+		assertEquals("Should find 8 elements, is " + result.size(), 8, result.size());
+		for (TypeNameMatch ref : result) {
+			assertResolve(ref);
+		}
+
+		result= searchIndex(index, "VME", scope);
+		findTypeRef(result, "java.lang.VirtualMachineError");
+
+		result= searchIndex(index, "j.f.TestL", scope);
+		findTypeRef(result, "junit.framework.TestListener");
+
+		ICompilationUnit cu2= pack1.getCompilationUnit("W.java");
+		cu2.createType("public class VNew {\n}\n", null, true, null);
+		result= searchIndex(index, "VNe", scope);
+		findTypeRef(result, "com.oti.VNew");
+		assertResolve(result.get(0));
+
+		// added types are ranked together with the indexed types
+		result= searchIndex(index, "V", scope);
+		assertEquals("wrong element count", 9, result.size());
+		assertEquals("com.oti.VNew", result.get(7).getFullyQualifiedName());
+
+		cu2.delete(true, null);
+		result= searchIndex(index, "VNe", scope);
+		assertEquals("wrong element count", 0, result.size());
+	}
+
+	private List<TypeNameMatch> searchIndex(TypeNameIndex index, String pattern, IJavaSearchScope scope) {
+		ArrayList<TypeNameMatch> result= new ArrayList<>();
+		TypeInfoFilter filter= new TypeInfoFilter(pattern, scope, IJavaSearchConstants.TYPE, null);
+		assertTrue("index not available", index.search(filter, new TypeNameMatchCollector(result), null));
+		return result;
+	}
+
 	@Test
 	public void testSimplifySearchText() {
 		// simple filename:
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.jarpackager.ClassFileSourceIndex;
+
+public class ClassFileSourceIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fProject;
+	private IFile fClassFile;
+	private IPath fJarLocation;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= pts.getProject();
+		fClassFile= fProject.getProject().getFile("A.class");
+		fClassFile.create(new ByteArrayInputStream(new byte[] { 1 }), true, null);
+		fJarLocation= ResourcesPlugin.getWorkspace().getRoot().getLocation().append("index.jar");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ClassFileSourceIndex.getIndexFile(fJarLocation).delete();
+		fJarLocation.toFile().delete();
+		JavaProjectHelper.clear(fProject, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void reuseSourceName() throws Exception {
+		ClassFileSourceIndex index= ClassFileSourceIndex.load(fJarLocation);
+		assertNull(index.getSourceName(fClassFile));
+		index.putSourceName(fClassFile, "A.java");
+		index.save();
+
+		index= ClassFileSourceIndex.load(fJarLocation);
+		assertEquals("A.java", index.getSourceName(fClassFile));
+	}
+
+	@Test
+	public void changedClassFileIsReadAgain() throws Exception {
+		ClassFileSourceIndex index= ClassFileSourceIndex.load(fJarLocation);
+		index.putSourceName(fClassFile, "A.java");
+		index.save();
+
+		fClassFile.setContents(new ByteArrayInputStream(new byte[] { 2 }), true, false, null);
+		index= ClassFileSourceIndex.load(fJarLocation);
+		assertNull(index.getSourceName(fClassFile));
+	}
+
+	@Test
+	public void removedClassFileIsForgotten() throws Exception {
+		ClassFileSourceIndex index= ClassFileSourceIndex.load(fJarLocation);
+		index.putSourceName(fClassFile, "A.java");
+		fClassFile.delete(true, null);
+		index.save();
+
+		fClassFile.create(new ByteArrayInputStream(new byte[] { 1 }), true, null);
+		index= ClassFileSourceIndex.load(fJarLocation);
+		assertNull(index.getSourceName(fClassFile));
+	}
+
+	@Test
+	public void removeStaleIndexes() throws Exception {
+		ClassFileSourceIndex index= ClassFileSourceIndex.load(fJarLocation);
+		index.putSourceName(fClassFile, "A.java");
+		index.save();
+		File indexFile= ClassFileSourceIndex.getIndexFile(fJarLocation);
+
+		// the JAR was deleted
+		assertTrue(indexFile.exists());
+		ClassFileSourceIndex.removeStaleIndexes();
+		assertFalse(indexFile.exists());
+
+		Files.write(fJarLocation.toFile().toPath(), new byte[0]);
+		index= ClassFileSourceIndex.load(fJarLocation);
+		index.putSourceName(fClassFile, "A.java");
+		index.save();
+		ClassFileSourceIndex.removeStaleIndexes();
+		assertTrue(indexFile.exists());
+
+		// the JAR was not exported for a long time
+		indexFile.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(60));
+		ClassFileSourceIndex.removeStaleIndexes();
+		assertFalse(indexFile.exists());
+	}
+
+	@Test
+	public void unchangedIndexIsMarkedAsUsed() throws Exception {
+		Files.write(fJarLocation.toFile().toPath(), new byte[0]);
+		ClassFileSourceIndex index= ClassFileSourceIndex.load(fJarLocation);
+		index.putSourceName(fClassFile, "A.java");
+		index.save();
+		File indexFile= ClassFileSourceIndex.getIndexFile(fJarLocation);
+		indexFile.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(60));
+
+		ClassFileSourceIndex.load(fJarLocation).save();
+		ClassFileSourceIndex.removeStaleIndexes();
+		assertTrue(indexFile.exists());
+	}
+}
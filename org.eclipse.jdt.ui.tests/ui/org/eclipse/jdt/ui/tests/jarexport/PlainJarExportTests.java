@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.ui.tests.jarexport;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -38,9 +39,13 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.ui.IWorkbenchWindow;
@@ -58,9 +63,37 @@ import org.eclipse.jdt.ui.jarpackager.IJarExportRunnable;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.jarpackager.ClassFileSourceIndex;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
+import org.eclipse.jdt.internal.ui.jarpackager.PlainJarBuilder;
 
 public class PlainJarExportTests {
+	private static class RecordingJarBuilder extends PlainJarBuilder {
+		private final String fFailingFile;
+		private final List<String> fWritten= Collections.synchronizedList(new ArrayList<>());
+		private final List<Thread> fThreads= Collections.synchronizedList(new ArrayList<>());
+		private volatile boolean fClosed;
+
+		RecordingJarBuilder(String failingFile) {
+			fFailingFile= failingFile;
+		}
+
+		@Override
+		public void writeFile(IFile resource, IPath destinationPath) throws CoreException {
+			fThreads.add(Thread.currentThread());
+			if (destinationPath.lastSegment().equals(fFailingFile))
+				throw new CoreException(new Status(IStatus.ERROR, JavaTestPlugin.getPluginId(), "cannot write " + destinationPath));
+			super.writeFile(resource, destinationPath);
+			fWritten.add(destinationPath.toString());
+		}
+
+		@Override
+		public void close() throws CoreException {
+			fClosed= true;
+			super.close();
+		}
+	}
+
 	@Rule
 	public ProjectTestSetup pts= new ProjectTestSetup();
 
@@ -160,6 +193,105 @@ public class PlainJarExportTests {
 		assertEquals(expected.toString(), entries.toString());
 	}
 
+	@Test
+	public void exportCuInBackground() throws Exception {
+		JarPackageData data= createJarPackageData();
+		RecordingJarBuilder builder= new RecordingJarBuilder(null);
+		data.setJarBuilder(builder);
+		data.setCollectInBackground(true);
+
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+
+		ArrayList<String> entries;
+		try (ZipFile jar= createArchive(data)) {
+			entries= getSortedEntries(jar);
+		}
+		List<String> expected= Arrays.asList("META-INF/MANIFEST.MF\n", "org/eclipse/jdt/ui/test/Main$1.class\n", "org/eclipse/jdt/ui/test/Main$MainInner.class\n", "org/eclipse/jdt/ui/test/Main.class\n");
+		assertEquals(expected.toString(), entries.toString());
+
+		// the builder is only used by the thread of the operation
+		assertEquals(3, builder.fThreads.size());
+		for (Thread thread : builder.fThreads)
+			assertEquals(Thread.currentThread(), thread);
+		assertTrue(builder.fClosed);
+	}
+
+	@Test
+	public void exportCuRememberingClassFileSources() throws Exception {
+		JarPackageData data= createJarPackageData();
+		data.setRememberClassFileSources(true);
+
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+
+		File indexFile= ClassFileSourceIndex.getIndexFile(data.getAbsoluteJarLocation());
+		try {
+			List<String> expected= Arrays.asList("META-INF/MANIFEST.MF\n", "org/eclipse/jdt/ui/test/Main$1.class\n", "org/eclipse/jdt/ui/test/Main$MainInner.class\n", "org/eclipse/jdt/ui/test/Main.class\n");
+			try (ZipFile jar= createArchive(data)) {
+				assertEquals(expected.toString(), getSortedEntries(jar).toString());
+			}
+			assertTrue(indexFile.exists());
+
+			// the second export takes the source files of the class files from the index
+			try (ZipFile jar= createArchive(data)) {
+				assertEquals(expected.toString(), getSortedEntries(jar).toString());
+			}
+		} finally {
+			indexFile.delete();
+		}
+	}
+
+	@Test
+	public void cancelExportInBackground() throws Exception {
+		JarPackageData data= createJarPackageData();
+		RecordingJarBuilder builder= new RecordingJarBuilder(null);
+		data.setJarBuilder(builder);
+		data.setCollectInBackground(true);
+		data.setBuildIfNeeded(false);
+
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+
+		IJarExportRunnable op= data.createJarExportRunnable(PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell());
+		NullProgressMonitor monitor= new NullProgressMonitor() {
+			@Override
+			public void subTask(String name) {
+				// cancel once the first file is written
+				setCanceled(true);
+			}
+		};
+		try {
+			op.run(monitor);
+			fail("export not canceled");
+		} catch (InterruptedException e) {
+			// expected
+		}
+		assertEquals(1, builder.fWritten.size());
+		assertTrue(builder.fClosed);
+	}
+
+	@Test
+	public void builderFailureInBackground() throws Exception {
+		JarPackageData data= createJarPackageData();
+		RecordingJarBuilder builder= new RecordingJarBuilder("Main.class");
+		data.setJarBuilder(builder);
+		data.setCollectInBackground(true);
+
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+
+		IWorkbenchWindow window= PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+		IJarExportRunnable op= data.createJarExportRunnable(window.getShell());
+		window.run(false, false, op);
+
+		assertEquals(IStatus.ERROR, op.getStatus().getSeverity());
+		// the other files are still exported
+		Collections.sort(builder.fWritten);
+		assertEquals(Arrays.asList("org/eclipse/jdt/ui/test/Main$1.class", "org/eclipse/jdt/ui/test/Main$MainInner.class"), builder.fWritten);
+		assertTrue(builder.fClosed);
+	}
+
 	private JarPackageData createJarPackageData() {
 		JarPackageData data= new JarPackageData();
 		data.setJarLocation(ResourcesPlugin.getWorkspace().getRoot().getLocation().append(getName() + ".jar"));
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+import org.eclipse.jdt.ui.text.java.IQuickAssistProcessor;
+import org.eclipse.jdt.ui.text.java.correction.ChangeCorrectionProposal;
+
+/**
+ * A quick assist processor that does not require the UI thread. It records the thread it runs in
+ * and waits for {@link #fgBlock} before returning its proposal.
+ */
+public class ConcurrentQuickAssistProcessor implements IQuickAssistProcessor {
+
+	public static volatile Thread fgThread;
+
+	public static volatile CountDownLatch fgBlock;
+
+	public static void reset() {
+		fgThread= null;
+		fgBlock= null;
+	}
+
+	@Override
+	public boolean hasAssists(IInvocationContext context) throws CoreException {
+		return true;
+	}
+
+	@Override
+	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
+		fgThread= Thread.currentThread();
+		CountDownLatch block= fgBlock;
+		if (block != null) {
+			try {
+				block.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return new IJavaCompletionProposal[] { new ChangeCorrectionProposal("Concurrent assist", null, 10, null) };
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.quickfix;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.After;
 import org.junit.Before;
@@ -63,6 +70,12 @@ public class ContributedQuickFixTest extends QuickFixTest {
 
 	@After
 	public void tearDown() throws Exception {
+		CountDownLatch block= ConcurrentQuickAssistProcessor.fgBlock;
+		if (block != null) {
+			block.countDown();
+		}
+		ConcurrentQuickAssistProcessor.reset();
+		UIThreadQuickAssistProcessor.reset();
 		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
 	}
 
@@ -153,5 +166,53 @@ public class ContributedQuickFixTest extends QuickFixTest {
 		assertNumberOfProposals(proposals, 0);
 	}
 
+	@Test
+	public void testConcurrentQuickAssist() throws Exception {
+		ICompilationUnit cu= createConcurrentUnit();
+		AssistContext context= getCorrectionContext(cu, cu.getSource().indexOf("foo"), 0);
+		List<IJavaCompletionProposal> proposals= collectAssists(context, false);
+
+		// the proposals are added in the order of the processors, not in the order they finish
+		assertEquals(Arrays.asList("Concurrent assist", "UI thread assist"), getConcurrentLabels(proposals));
+		assertNotSame(Thread.currentThread(), ConcurrentQuickAssistProcessor.fgThread);
+		assertSame(Thread.currentThread(), UIThreadQuickAssistProcessor.fgThread);
+	}
+
+	@Test
+	public void testConcurrentQuickAssistDeadline() throws Exception {
+		ICompilationUnit cu= createConcurrentUnit();
+		AssistContext context= getCorrectionContext(cu, cu.getSource().indexOf("foo"), 0);
+		ConcurrentQuickAssistProcessor.fgBlock= new CountDownLatch(1);
 
+		long start= System.currentTimeMillis();
+		List<IJavaCompletionProposal> proposals= collectAssists(context, false);
+		long duration= System.currentTimeMillis() - start;
+
+		// the blocked processor is dropped after the deadline, the one in the UI thread is kept
+		assertEquals(Arrays.asList("UI thread assist"), getConcurrentLabels(proposals));
+		assertSame(Thread.currentThread(), UIThreadQuickAssistProcessor.fgThread);
+		assertTrue("returned after " + duration + " ms", duration < 10000);
+	}
+
+	private static List<String> getConcurrentLabels(List<IJavaCompletionProposal> proposals) {
+		List<String> labels= new ArrayList<>();
+		for (IJavaCompletionProposal proposal : proposals) {
+			String label= proposal.getDisplayString();
+			if ("Concurrent assist".equals(label) || "UI thread assist".equals(label)) {
+				labels.add(label);
+			}
+		}
+		return labels;
+	}
+
+	private ICompilationUnit createConcurrentUnit() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class Concurrent {\n");
+		buf.append("    public void foo() {\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		return pack1.createCompilationUnit("Concurrent.java", buf.toString(), false, null);
+	}
 }
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+import org.eclipse.jdt.ui.text.java.IQuickAssistProcessor;
+import org.eclipse.jdt.ui.text.java.correction.ChangeCorrectionProposal;
+
+/**
+ * A quick assist processor that requires the UI thread. It records the thread it runs in.
+ */
+public class UIThreadQuickAssistProcessor implements IQuickAssistProcessor {
+
+	public static volatile Thread fgThread;
+
+	public static void reset() {
+		fgThread= null;
+	}
+
+	@Override
+	public boolean hasAssists(IInvocationContext context) throws CoreException {
+		return true;
+	}
+
+	@Override
+	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
+		fgThread= Thread.currentThread();
+		return new IJavaCompletionProposal[] { new ChangeCorrectionProposal("UI thread assist", null, 10, null) };
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2020 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -643,4 +643,44 @@ public class NLSSearchTest {
 		NLSSearchTestHelper.assertNumberOfProblems(accessor, propertiesFile, 1);
 	}
 
+	@Test
+	public void testMultipleAccessorsWithSameName() throws Exception {
+		ICompilationUnit[] accessors= new ICompilationUnit[2];
+		IFile[] propertiesFiles= new IFile[2];
+		for (int i= 0; i < 2; i++) {
+			IPackageFragment pack= fSourceFolder.createPackageFragment("test" + (i + 1), false, null);
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test" + (i + 1) + ";\n");
+			buf.append("import org.eclipse.osgi.util.NLS;\n");
+			buf.append("public class Accessor extends NLS {\n");
+			buf.append("\n");
+			buf.append("    public static String Client_s" + (i + 1) + ";\n");
+			buf.append("\n");
+			buf.append("    private Accessor() {}\n");
+			buf.append("    private static final String BUNDLE_NAME = \"test" + (i + 1) + ".Accessor\"; //$NON-NLS-1$\n");
+			buf.append("    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}\n");
+			buf.append("}\n");
+			accessors[i]= pack.createCompilationUnit("Accessor.java", buf.toString(), false, null);
+		}
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class Client {\n");
+		buf.append("    public static void main(String[] args) {\n");
+		buf.append("        System.out.println(Accessor.Client_s1);\n");
+		buf.append("        System.out.println(test2.Accessor.Client_s2);\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		pack1.createCompilationUnit("Client.java", buf.toString(), false, null);
+
+		propertiesFiles[0]= write((IFolder)pack1.getCorrespondingResource(), "Client_s1=foo\n", "Accessor.properties");
+		IFolder folder2= (IFolder)fSourceFolder.getPackageFragment("test2").getCorrespondingResource();
+		propertiesFiles[1]= write(folder2, "Client_s2=foo\nClient_unused=foo\n", "Accessor.properties");
+
+		NLSSearchTestHelper.assertNumberOfProblems(accessors, propertiesFiles, 1);
+
+		NLSSearchTestHelper.assertHasUnusedKey(accessors, propertiesFiles, "Client_unused", propertiesFiles[1], false);
+	}
+
 }
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.search.ui.text.MatchEvent;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.NewSearchResultCollector;
+
+public class NewSearchResultCollectorTest {
+
+	@Rule
+	public JUnitSourceSetup projectSetup = new JUnitSourceSetup();
+
+	@Test
+	public void testBatches() throws Exception {
+		JavaSearchResult result= new JavaSearchResult(null);
+		List<Integer> batches= new ArrayList<>();
+		result.addListener(e -> {
+			if (e instanceof MatchEvent && ((MatchEvent) e).getKind() == MatchEvent.ADDED)
+				batches.add(((MatchEvent) e).getMatches().length);
+		});
+
+		NewSearchResultCollector collector= new NewSearchResultCollector(result, false);
+		collector.beginReporting();
+		String testCase= SearchTestHelper.getType("junit.framework.TestCase").getHandleIdentifier();
+		for (int i= 0; i < 600; i++) {
+			// a new handle for every match, like the search engine reports them
+			collector.acceptSearchMatch(createMatch(JavaCore.create(testCase), i));
+		}
+		collector.acceptSearchMatch(createMatch(SearchTestHelper.getType("junit.framework.Assert"), 0));
+		assertEquals(1, batches.size());
+		assertEquals(600, batches.get(0).intValue());
+
+		collector.endReporting();
+		assertEquals(2, batches.size());
+		assertEquals(1, batches.get(1).intValue());
+		assertEquals(601, result.getMatchCount());
+	}
+
+	@Test
+	public void testFlushInterval() throws Exception {
+		JavaSearchResult result= new JavaSearchResult(null);
+		List<Integer> batches= new ArrayList<>();
+		result.addListener(e -> {
+			if (e instanceof MatchEvent && ((MatchEvent) e).getKind() == MatchEvent.ADDED)
+				batches.add(((MatchEvent) e).getMatches().length);
+		});
+
+		NewSearchResultCollector collector= new NewSearchResultCollector(result, false);
+		collector.beginReporting();
+		for (int i= 0; i < 3; i++) {
+			collector.acceptSearchMatch(createMatch(SearchTestHelper.getType("junit.framework.TestCase"), i));
+		}
+		Thread.sleep(200);
+		// a batch that is not full is delivered at the next file once the interval has passed
+		collector.acceptSearchMatch(createMatch(SearchTestHelper.getType("junit.framework.Assert"), 0));
+		assertEquals(1, batches.size());
+		assertEquals(3, batches.get(0).intValue());
+
+		collector.endReporting();
+		assertEquals(2, batches.size());
+		assertEquals(1, batches.get(1).intValue());
+	}
+
+	private static SearchMatch createMatch(IJavaElement element, int offset) {
+		return new SearchMatch(element, SearchMatch.A_ACCURATE, offset, 1, SearchEngine.getDefaultSearchParticipant(), element.getResource());
+	}
+}
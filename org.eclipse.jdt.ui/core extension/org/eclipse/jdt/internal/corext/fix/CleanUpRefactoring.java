@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -88,6 +89,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -327,13 +329,16 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private List<ParseListElement> fParseList;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
+		private final Map<ICompilationUnit, Integer> fAppliedChangeCounts; // map from working copy to number of solutions applied to it
 		private final Map<String, String> fCleanUpOptions;
 		private final int fSize;
 		private int fIndex;
+		private int fPass;
 
 		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
+			fAppliedChangeCounts= new HashMap<>();
 
 			fParseList= new ArrayList<>(targets.length);
 			for (CleanUpTarget target : targets) {
@@ -357,6 +362,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 		public void next(IProgressMonitor monitor) throws CoreException {
 			List<ICompilationUnit> parseList= new ArrayList<>();
+			List<ICompilationUnit> unresolvedParseList= new ArrayList<>();
 			List<ICompilationUnit> sourceList= new ArrayList<>();
 
 			try {
@@ -372,36 +378,26 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 						applyChange(compilationUnit, fSolutions.get(compilationUnit.getPrimary()));
 					}
 
-					if (requiresAST(element.getCleanUps())) {
+					if (!requiresAST(element.getCleanUps())) {
+						sourceList.add(compilationUnit);
+					} else if (requiresBindings(element.getCleanUps())) {
 						parseList.add(compilationUnit);
 					} else {
-						sourceList.add(compilationUnit);
+						unresolvedParseList.add(compilationUnit);
 					}
 				}
 
-				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
-				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
-				if (parseList.size() > 0) {
-					ASTBatchParser parser= new ASTBatchParser() {
-						@Override
-						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							options.putAll(fCleanUpOptions);
-							result.setCompilerOptions(options);
-							return result;
-						}
-					};
-					try {
-						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
-					} catch (FixCalculationException e) {
-						throw e.getException();
-					}
+				fPass++;
+				if (JavaPlugin.DEBUG_CLEAN_UP_FIXPOINT) {
+					System.out.println("Clean up pass " + fPass + ": " + fParseList.size() + " of " + fSize + " compilation units, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+							+ parseList.size() + " with bindings, " + unresolvedParseList.size() + " without bindings, " + sourceList.size() + " from source"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 				}
 
+				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + unresolvedParseList.size() + sourceList.size(), fSize, fIndex);
+				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				parse(parseList, true, requestor, cuMonitor);
+				parse(unresolvedParseList, false, requestor, cuMonitor);
+
 				for (ICompilationUnit cu : sourceList) {
 					monitor.worked(1);
 
@@ -417,6 +413,31 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 		}
 
+		private void parse(List<ICompilationUnit> parseList, final boolean resolveBindings, CleanUpASTRequestor requestor, IProgressMonitor monitor) throws CoreException {
+			if (parseList.isEmpty())
+				return;
+
+			ASTBatchParser parser= new ASTBatchParser() {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= createCleanUpASTParser();
+					result.setProject(project);
+					result.setResolveBindings(resolveBindings);
+
+					Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+					options.putAll(fCleanUpOptions);
+					result.setCompilerOptions(options);
+					return result;
+				}
+			};
+			try {
+				ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
+				parser.createASTs(units, new String[0], requestor, monitor);
+			} catch (FixCalculationException e) {
+				throw e.getException();
+			}
+		}
+
 		public void dispose() {
 			for (ICompilationUnit cu : fWorkingCopies.values()) {
 				try {
@@ -426,6 +447,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 			}
 			fWorkingCopies.clear();
+			fAppliedChangeCounts.clear();
 		}
 
 		private boolean requiresAST(ICleanUp[] cleanUps) {
@@ -437,6 +459,20 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return false;
 		}
 
+		/*
+		 * Bindings are resolved unless all clean ups that require an AST declare that they
+		 * can work on an AST without bindings.
+		 */
+		private boolean requiresBindings(ICleanUp[] cleanUps) {
+			for (ICleanUp cleanUp : cleanUps) {
+				if (cleanUp.getRequirements().requiresAST()
+						&& (!(cleanUp instanceof AbstractCleanUp) || ((AbstractCleanUp) cleanUp).requiresBindings())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		public Change[] getResult() {
 
 			Change[] result= new Change[fSolutions.size()];
@@ -478,9 +514,23 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	        return result;
         }
 
+		/*
+		 * Brings the working copy up to date with the given solutions. The working copy already
+		 * contains the solutions of the previous passes, so only the new ones are applied.
+		 */
 		private void applyChange(ICompilationUnit compilationUnit, List<CleanUpChange> changes) throws JavaModelException, CoreException {
-			IDocument document= new Document(changes.get(0).getCurrentContent(new NullProgressMonitor()));
-			for (CleanUpChange change : changes) {
+			Integer appliedCount= fAppliedChangeCounts.get(compilationUnit);
+			int applied= appliedCount != null ? appliedCount.intValue() : 0;
+			if (applied == changes.size())
+				return;
+
+			IDocument document;
+			if (applied == 0) {
+				document= new Document(changes.get(0).getCurrentContent(new NullProgressMonitor()));
+			} else {
+				document= new Document(compilationUnit.getBuffer().getContents());
+			}
+			for (CleanUpChange change : changes.subList(applied, changes.size())) {
 				TextEdit edit= change.getEdit().copy();
 
 				try {
@@ -490,6 +540,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 			}
 			compilationUnit.getBuffer().setContents(document.get());
+			fAppliedChangeCounts.put(compilationUnit, Integer.valueOf(changes.size()));
 		}
 	}
 
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIStatus;
+
+/**
+ * A {@link History} that is persisted in a compact binary file. If the binary file does
+ * not exist yet, the history is loaded from the xml file written by earlier versions.
+ * <p>
+ * The file starts with a magic number and a version, followed by the number of values
+ * and the values from the eldest to the newest. Saving writes the current snapshot of the
+ * history and does not block modifications.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public abstract class BinaryHistory<K, V> extends History<K, V> {
+
+	private static final int MAGIC= 0x4A484953; // "JHIS"
+	private static final int VERSION= 1;
+
+	private final String fBinaryFileName;
+	private final Object fSaveLock= new Object();
+
+	/**
+	 * @param binaryFileName the name of the binary file in the state location of the plug-in
+	 * @param xmlFileName the name of the xml file written by earlier versions
+	 * @param rootNodeName the name of the root node of the xml file
+	 * @param infoNodeName the name of the value nodes of the xml file
+	 */
+	public BinaryHistory(String binaryFileName, String xmlFileName, String rootNodeName, String infoNodeName) {
+		super(xmlFileName, rootNodeName, infoNodeName);
+		fBinaryFileName= binaryFileName;
+	}
+
+	@Override
+	public void load() {
+		File file= getFile();
+		if (!file.exists()) {
+			super.load();
+			return;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return;
+			int count= in.readInt();
+			List<V> values= new ArrayList<>(Math.min(count, 100));
+			for (int i= 0; i < count; i++) {
+				V value= readValue(in);
+				if (value != null)
+					values.add(value);
+			}
+			accessedAll(values);
+		} catch (IOException e) {
+			String message= Messages.format(CorextMessages.History_error_read, BasicElementLabels.getResourceName(fBinaryFileName));
+			JavaPlugin.log(JavaUIStatus.createError(IStatus.ERROR, message, e));
+		}
+	}
+
+	@Override
+	public void save() {
+		synchronized (fSaveLock) {
+			Collection<V> values= getValues();
+			File file= getFile();
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(values.size());
+				for (V value : values)
+					writeValue(value, out);
+			} catch (IOException e) {
+				String message= Messages.format(CorextMessages.History_error_serialize, BasicElementLabels.getResourceName(fBinaryFileName));
+				JavaPlugin.log(JavaUIStatus.createError(IStatus.ERROR, message, e));
+			}
+		}
+	}
+
+	/**
+	 * Writes a value to the binary file.
+	 *
+	 * @param value the value to write
+	 * @param out the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	protected abstract void writeValue(V value, DataOutputStream out) throws IOException;
+
+	/**
+	 * Reads a value written by {@link #writeValue(Object, DataOutputStream)}.
+	 *
+	 * @param in the stream to read from
+	 * @return the value, or <code>null</code> if it is no longer valid
+	 * @throws IOException if reading fails
+	 */
+	protected abstract V readValue(DataInputStream in) throws IOException;
+
+	/**
+	 * Writes a string of any length as UTF-8.
+	 *
+	 * @param string the string
+	 * @param out the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	protected static void writeString(String string, DataOutputStream out) throws IOException {
+		byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(String, DataOutputStream)}.
+	 *
+	 * @param in the stream to read from
+	 * @return the string
+	 * @throws IOException if reading fails
+	 */
+	protected static String readString(DataInputStream in) throws IOException {
+		int length= in.readInt();
+		if (length < 0)
+			throw new IOException("Invalid string length: " + length); //$NON-NLS-1$
+		byte[] bytes= new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private File getFile() {
+		return JavaPlugin.getDefault().getStateLocation().append(fBinaryFileName).toFile();
+	}
+}
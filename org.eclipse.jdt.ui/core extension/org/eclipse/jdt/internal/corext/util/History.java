@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,10 +19,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Hashtable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -64,6 +66,9 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
  *
  * The history can be stored to/loaded from an xml file.
  *
+ * Modifications are synchronized and publish an immutable snapshot of the history.
+ * All queries are answered from the current snapshot, so they never wait for a writer.
+ *
  * @param <K> key type
  * @param <V> value type
  */
@@ -77,8 +82,22 @@ public abstract class History<K, V> {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
 	}
 
-	private final Map<K, V> fHistory;
-	private final Hashtable<K, Integer> fPositions;
+	/**
+	 * Immutable state of the history. Values are ordered from the eldest to the newest.
+	 */
+	private static final class Snapshot<K, V> {
+		final List<V> fValues;
+		final Map<K, Integer> fPositions;
+
+		Snapshot(List<V> values, Map<K, Integer> positions) {
+			fValues= values;
+			fPositions= positions;
+		}
+	}
+
+	private final Map<K, V> fHistory; // guarded by this
+	private volatile Snapshot<K, V> fSnapshot;
+	private final Object fSaveLock= new Object();
 	private final String fFileName;
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
@@ -94,7 +113,7 @@ public abstract class History<K, V> {
 		fFileName= fileName;
 		fRootNodeName= rootNodeName;
 		fInfoNodeName= infoNodeName;
-		fPositions= new Hashtable<>(MAX_HISTORY_SIZE);
+		fSnapshot= new Snapshot<>(Collections.emptyList(), Collections.emptyMap());
 	}
 
 	public History(String fileName) {
@@ -106,27 +125,29 @@ public abstract class History<K, V> {
 		rebuildPositions();
 	}
 
-	public synchronized boolean contains(V object) {
-		return fHistory.containsKey(getKey(object));
+	public boolean contains(V object) {
+		return fSnapshot.fPositions.containsKey(getKey(object));
 	}
 
-	public synchronized boolean containsKey(K key) {
-		return fHistory.containsKey(key);
+	public boolean containsKey(K key) {
+		return fSnapshot.fPositions.containsKey(key);
 	}
 
-	public synchronized boolean isEmpty() {
-		return fHistory.isEmpty();
+	public boolean isEmpty() {
+		return fSnapshot.fValues.isEmpty();
 	}
 
 	public synchronized Object remove(V object) {
 		Object removed= fHistory.remove(getKey(object));
-		rebuildPositions();
+		if (removed != null)
+			rebuildPositions();
 		return removed;
 	}
 
 	public synchronized Object removeKey(Object key) {
 		Object removed= fHistory.remove(key);
-		rebuildPositions();
+		if (removed != null)
+			rebuildPositions();
 		return removed;
 	}
 
@@ -139,14 +160,16 @@ public abstract class History<K, V> {
 	 * @param key The key of the object to inspect
 	 * @return value in [0.0, 1.0] the lower the older the element
 	 */
-	public synchronized float getNormalizedPosition(K key) {
-		if (!containsKey(key))
+	public float getNormalizedPosition(K key) {
+		Snapshot<K, V> snapshot= fSnapshot;
+		Integer position= snapshot.fPositions.get(key);
+		if (position == null)
 			return 0.0f;
 
-		int pos= fPositions.get(key).intValue() + 1;
+		int pos= position.intValue() + 1;
 
-		//containsKey(key) implies fHistory.size()>0
-		return (float)pos / (float)fHistory.size();
+		//containsKey(key) implies size>0
+		return (float)pos / (float)snapshot.fValues.size();
 	}
 
 	/**
@@ -157,14 +180,15 @@ public abstract class History<K, V> {
 	 * @param key The key of the object to inspect
 	 * @return value between 0 and MAX_HISTORY_SIZE - 1, or -1
 	 */
-	public synchronized int getPosition(K key) {
-		if (!containsKey(key))
+	public int getPosition(K key) {
+		Integer position= fSnapshot.fPositions.get(key);
+		if (position == null)
 			return -1;
 
-		return fPositions.get(key);
+		return position.intValue();
 	}
 
-	public synchronized void load() {
+	public void load() {
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		if (file.exists()) {
@@ -185,34 +209,57 @@ public abstract class History<K, V> {
 		}
 	}
 
-	public synchronized void save() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
-		OutputStream out= null;
-		try {
-			out= new FileOutputStream(file);
-			save(out);
-		} catch (IOException | CoreException | TransformerFactoryConfigurationError e) {
-			// The XML library can be misconficgured (e.g. via
-			// -Djava.endorsed.dirs=C:\notExisting\xerces-2_7_1)
-			JavaPlugin.log(e);
-		} finally {
+	/**
+	 * Saves the current snapshot of the history. Does not block modifications of the history.
+	 */
+	public void save() {
+		synchronized (fSaveLock) {
+			IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
+			File file= stateLocation.toFile();
+			OutputStream out= null;
 			try {
-				if (out != null) {
-					out.close();
-				}
-			} catch (IOException e) {
+				out= new FileOutputStream(file);
+				save(out);
+			} catch (IOException | CoreException | TransformerFactoryConfigurationError e) {
+				// The XML library can be misconficgured (e.g. via
+				// -Djava.endorsed.dirs=C:\notExisting\xerces-2_7_1)
 				JavaPlugin.log(e);
+			} finally {
+				try {
+					if (out != null) {
+						out.close();
+					}
+				} catch (IOException e) {
+					JavaPlugin.log(e);
+				}
 			}
 		}
 	}
 
+	/**
+	 * @return the keys of the current snapshot, from the eldest to the newest, unmodifiable
+	 */
 	protected Set<K> getKeys() {
-		return fHistory.keySet();
+		return fSnapshot.fPositions.keySet();
 	}
 
+	/**
+	 * @return the values of the current snapshot, from the eldest to the newest, unmodifiable
+	 */
 	protected Collection<V> getValues() {
-		return fHistory.values();
+		return fSnapshot.fValues;
+	}
+
+	/**
+	 * Adds the given values, as if {@link #accessed(Object)} was called for each of them,
+	 * and publishes a single new snapshot.
+	 *
+	 * @param values the values, from the eldest to the newest
+	 */
+	protected synchronized void accessedAll(Collection<V> values) {
+		for (V value : values)
+			fHistory.put(getKey(value), value);
+		rebuildPositions();
 	}
 
 	/**
@@ -240,12 +287,14 @@ public abstract class History<K, V> {
 	protected abstract K getKey(V object);
 
 	private void rebuildPositions() {
-		fPositions.clear();
+		List<V> values= new ArrayList<>(fHistory.values());
+		Map<K, Integer> positions= new LinkedHashMap<>();
 		int pos=0;
-		for (V element : fHistory.values()) {
-			fPositions.put(getKey(element), pos);
+		for (V element : values) {
+			positions.put(getKey(element), pos);
 			pos++;
 		}
+		fSnapshot= new Snapshot<>(Collections.unmodifiableList(values), Collections.unmodifiableMap(positions));
 	}
 
 	private void load(InputSource inputSource) throws CoreException {
@@ -264,6 +313,7 @@ public abstract class History<K, V> {
 		}
 		NodeList list= root.getChildNodes();
 		int length= list.getLength();
+		List<V> values= new ArrayList<>(length);
 		for (int i= 0; i < length; ++i) {
 			Node node= list.item(i);
 			if (node.getNodeType() == Node.ELEMENT_NODE) {
@@ -271,12 +321,12 @@ public abstract class History<K, V> {
 				if (type.getNodeName().equalsIgnoreCase(fInfoNodeName)) {
 					V object= createFromElement(type);
 					if (object != null) {
-						fHistory.put(getKey(object), object);
+						values.add(object);
 					}
 				}
 			}
 		}
-		rebuildPositions();
+		accessedAll(values);
 	}
 
 	private void save(OutputStream stream) throws CoreException {
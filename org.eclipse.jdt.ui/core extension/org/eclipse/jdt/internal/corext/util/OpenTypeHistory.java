@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,16 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.w3c.dom.Element;
 
@@ -56,8 +59,13 @@ import org.eclipse.jdt.internal.corext.CorextMessages;
 
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
+ * <p>
+ * The consistency check validates a snapshot of the history without holding the lock of the
+ * history and only locks the history to apply the resulting removals, replacements and time
+ * stamp updates. Only one consistency check runs at a time.
+ * </p>
  */
-public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
+public class OpenTypeHistory extends BinaryHistory<TypeNameMatch, TypeNameMatch> {
 
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
@@ -167,13 +175,16 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	// Needs to be volatile since accesses aren't synchronized.
 	private volatile boolean fNeedsConsistencyCheck;
-	// Map of cached time stamps
-	private Map<TypeNameMatch, Long> fTimestampMapping;
+	// Map of cached time stamps, only modified while holding the lock of the history
+	private final Map<TypeNameMatch, Long> fTimestampMapping;
+	// Serializes the consistency checks
+	private final Object fConsistencyCheckLock= new Object();
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
 
-	private static final String FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
+	private static final String FILENAME= "OpenTypeHistory.bin"; //$NON-NLS-1$
+	private static final String XML_FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
 	private static final String NODE_ROOT= "typeInfoHistroy"; //$NON-NLS-1$
 	private static final String NODE_TYPE_INFO= "typeInfo"; //$NON-NLS-1$
 	private static final String NODE_HANDLE= "handle"; //$NON-NLS-1$
@@ -195,8 +206,8 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	private OpenTypeHistory() {
-		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
-		fTimestampMapping= new HashMap<>();
+		super(FILENAME, XML_FILENAME, NODE_ROOT, NODE_TYPE_INFO);
+		fTimestampMapping= new ConcurrentHashMap<>();
 		fNeedsConsistencyCheck= true;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
@@ -238,18 +249,16 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
-	}
-
-	@Override
-	public synchronized void accessed(TypeNameMatch info) {
+	public void accessed(TypeNameMatch info) {
 		// Fetching the timestamp might not be cheap (remote file system
-		// external Jars. So check if we alreay have one.
-		if (!fTimestampMapping.containsKey(info)) {
-			fTimestampMapping.put(info, getContainerTimestamp(info));
+		// external Jars. So check if we alreay have one. Done outside of
+		// the lock of the history.
+		Long timestamp= fTimestampMapping.containsKey(info) ? null : Long.valueOf(getContainerTimestamp(info));
+		synchronized (this) {
+			if (timestamp != null)
+				fTimestampMapping.putIfAbsent(info, timestamp);
+			super.accessed(info);
 		}
-		super.accessed(info);
 	}
 
 	@Override
@@ -258,14 +267,18 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return (TypeNameMatch)super.remove(info);
 	}
 
-	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
-		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
-		super.remove(old);
-		super.accessed(newMatch);
+	public void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		long timestamp= getContainerTimestamp(newMatch);
+		synchronized (this) {
+			if (super.remove(old) == null)
+				return;
+			fTimestampMapping.remove(old);
+			fTimestampMapping.put(newMatch, timestamp);
+			super.accessed(newMatch);
+		}
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
+	public TypeNameMatch[] getTypeInfos() {
 		Collection<TypeNameMatch> values= getValues();
 		int size= values.size();
 		TypeNameMatch[] result= new TypeNameMatch[size];
@@ -277,7 +290,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return result;
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
 		List<TypeNameMatch> result= new ArrayList<>();
 		for (TypeNameMatch type : getValues()) {
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
@@ -293,40 +306,50 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
-		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
-			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		synchronized (fConsistencyCheckLock) {
+			// Setting fNeedsConsistencyCheck is necessary here since
+			// markAsInconsistent isn't synchronized.
+			fNeedsConsistencyCheck= true;
+			// The snapshot is checked without holding the lock of the history. Removals,
+			// replacements and time stamp updates only lock the history briefly and have
+			// no effect on types removed meanwhile.
+			List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
+			monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
+			monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
+			for (TypeNameMatch type : typesToCheck) {
+				long currentTimestamp= getContainerTimestamp(type);
+				Long lastTested= fTimestampMapping.get(type);
+				if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
+					continue;
+				try {
+					IType jType= type.getType();
+					if (jType == null || !jType.exists()) {
+						remove(type);
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						// copy over the modifiers since they may have changed
+						int modifiers= jType.getFlags();
+						if (modifiers != type.getModifiers()) {
+							replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+						} else {
+							updateTimestamp(type, currentTimestamp);
+						}
 					}
+				} catch (JavaModelException e) {
+					remove(type);
 				}
-			} catch (JavaModelException e) {
-				remove(type);
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				monitor.worked(1);
 			}
-			if (monitor.isCanceled())
-				throw new OperationCanceledException();
-			monitor.worked(1);
+			monitor.done();
+			fNeedsConsistencyCheck= false;
 		}
-		monitor.done();
-		fNeedsConsistencyCheck= false;
+	}
+
+	private synchronized void updateTimestamp(TypeNameMatch type, long timestamp) {
+		if (contains(type))
+			fTimestampMapping.put(type, timestamp);
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -387,17 +410,12 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		if (handle == null )
 			return null;
 
-		IJavaElement element= JavaCore.create(handle);
-		if (!(element instanceof IType))
-			return null;
-
 		int modifiers= 0;
 		try {
 			modifiers= Integer.parseInt(type.getAttribute(NODE_MODIFIERS));
 		} catch (NumberFormatException e) {
 			// take zero
 		}
-		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		long timestamp= IResource.NULL_STAMP;
 		String timestampValue= type.getAttribute(NODE_TIMESTAMP);
 		if (timestampValue != null && timestampValue.length() > 0) {
@@ -407,6 +425,23 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// take null stamp
 			}
 		}
+		return createTypeNameMatch(handle, modifiers, timestamp);
+	}
+
+	@Override
+	protected TypeNameMatch readValue(DataInputStream in) throws IOException {
+		String handle= readString(in);
+		int modifiers= in.readInt();
+		long timestamp= in.readLong();
+		return createTypeNameMatch(handle, modifiers, timestamp);
+	}
+
+	private TypeNameMatch createTypeNameMatch(String handle, int modifiers, long timestamp) {
+		IJavaElement element= JavaCore.create(handle);
+		if (!(element instanceof IType))
+			return null;
+
+		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		if (timestamp != IResource.NULL_STAMP) {
 			fTimestampMapping.put(info, timestamp);
 		}
@@ -427,4 +462,12 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 	}
 
+	@Override
+	protected void writeValue(TypeNameMatch type, DataOutputStream out) throws IOException {
+		writeString(type.getType().getHandleIdentifier(), out);
+		out.writeInt(type.getModifiers());
+		Long timestamp= fTimestampMapping.get(type);
+		out.writeLong(timestamp == null ? IResource.NULL_STAMP : timestamp.longValue());
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import org.w3c.dom.Element;
 
-public class QualifiedTypeNameHistory extends History<String, String> {
+public class QualifiedTypeNameHistory extends BinaryHistory<String, String> {
 
 	private static final String NODE_ROOT= "qualifiedTypeNameHistroy"; //$NON-NLS-1$
 	private static final String NODE_TYPE_INFO= "fullyQualifiedTypeName"; //$NON-NLS-1$
@@ -26,13 +30,13 @@ public class QualifiedTypeNameHistory extends History<String, String> {
 
 	public static QualifiedTypeNameHistory getDefault() {
 		if (fgInstance == null)
-			fgInstance= new QualifiedTypeNameHistory("QualifiedTypeNameHistory.xml"); //$NON-NLS-1$
+			fgInstance= new QualifiedTypeNameHistory("QualifiedTypeNameHistory.bin", "QualifiedTypeNameHistory.xml"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		return fgInstance;
 	}
 
-	public QualifiedTypeNameHistory(String fileName) {
-		super(fileName, NODE_ROOT, NODE_TYPE_INFO);
+	public QualifiedTypeNameHistory(String fileName, String xmlFileName) {
+		super(fileName, xmlFileName, NODE_ROOT, NODE_TYPE_INFO);
 		load();
 	}
 
@@ -46,6 +50,16 @@ public class QualifiedTypeNameHistory extends History<String, String> {
 		return element.getAttribute(NODE_NAME);
 	}
 
+	@Override
+	protected void writeValue(String value, DataOutputStream out) throws IOException {
+		writeString(value, out);
+	}
+
+	@Override
+	protected String readValue(DataInputStream in) throws IOException {
+		return readString(in);
+	}
+
 	@Override
 	protected String getKey(String object) {
 		return object;
@@ -272,16 +272,36 @@ public class TypeInfoFilter {
 	}
 
 	private boolean matchesName(TypeNameMatch type) {
+		return matchesName(type.getSimpleTypeName());
+	}
+
+	/**
+	 * Checks whether a simple type name matches the name part of the pattern.
+	 *
+	 * @param simpleTypeName the simple type name
+	 * @return <code>true</code> if the name matches
+	 */
+	public boolean matchesName(String simpleTypeName) {
 		if (fText.length() == 0) {
 			return true; //empty pattern matches all names
 		}
-		return fNameMatcher.matches(type.getSimpleTypeName());
+		return fNameMatcher.matches(simpleTypeName);
 	}
 
 	private boolean matchesPackage(TypeNameMatch type) {
+		return matchesPackage(type.getTypeContainerName());
+	}
+
+	/**
+	 * Checks whether a type container name matches the package part of the pattern.
+	 *
+	 * @param typeContainerName the package name, followed by the enclosing type names for member types
+	 * @return <code>true</code> if the container name matches
+	 */
+	public boolean matchesPackage(String typeContainerName) {
 		if (fPackageMatcher == null)
 			return true;
-		return fPackageMatcher.matches(type.getTypeContainerName());
+		return fPackageMatcher.matches(typeContainerName);
 	}
 
 	private boolean matchesScope(TypeNameMatch type) {
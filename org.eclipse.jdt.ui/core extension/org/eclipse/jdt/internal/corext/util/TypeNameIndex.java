@@ -0,0 +1,1000 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Resident index of the names of all types in the workspace, used by the open type dialog to
+ * answer queries without running a search.
+ * <p>
+ * Simple names are kept in a packed character array together with two sorted orders: by lower
+ * case name for prefix matches and by camel case humps for camel case matches. Candidates found
+ * through these tables are checked with the {@link TypeInfoFilter} of the query. The index is
+ * built by a background job and kept current from Java element deltas. On shutdown it is written
+ * to the plug-in state location, so after a restart queries are answered from the snapshot while
+ * the index is rebuilt.
+ * </p>
+ */
+public class TypeNameIndex {
+
+	private static class TypeNameIndexDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<ICompilationUnit> units= new HashSet<>();
+			boolean rebuild= processDelta(event.getDelta(), units);
+			TypeNameIndex.getInstance().changed(units, rebuild);
+		}
+
+		/**
+		 * Collects the changed compilation units.
+		 *
+		 * @param delta the Java element delta
+		 * @param units the set to add changed compilation units to
+		 * @return <code>true</code> if the index has to be rebuilt
+		 */
+		private boolean processDelta(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+			IJavaElement elem= delta.getElement();
+
+			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
+			int flags= delta.getFlags();
+
+			switch (elem.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					return processChildrenDelta(delta, units);
+				case IJavaElement.JAVA_PROJECT:
+					if (!isChanged || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+						return true;
+					}
+					return processChildrenDelta(delta, units);
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (!isChanged || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+						return true;
+					}
+					return processChildrenDelta(delta, units);
+				case IJavaElement.PACKAGE_FRAGMENT:
+					if (!isChanged) {
+						return true;
+					}
+					return processChildrenDelta(delta, units);
+				case IJavaElement.CLASS_FILE:
+					return !isChanged;
+				case IJavaElement.COMPILATION_UNIT:
+					ICompilationUnit cu= (ICompilationUnit) elem;
+					// Not the primary compilation unit. Ignore it
+					if (!JavaModelUtil.isPrimary(cu)) {
+						return false;
+					}
+					if (!isChanged || (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0) {
+						units.add(cu);
+					}
+					return false;
+				default:
+					return false;
+			}
+		}
+
+		private boolean processChildrenDelta(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (processDelta(child, units)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static class BuildJob extends Job {
+		public static final String FAMILY= BuildJob.class.getName();
+		public BuildJob() {
+			super(CorextMessages.TypeNameIndex_build);
+		}
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				TypeNameIndex.getInstance().rebuild(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				return e.getStatus();
+			}
+			return Status.OK_STATUS;
+		}
+		@Override
+		public boolean belongsTo(Object family) {
+			return FAMILY.equals(family);
+		}
+	}
+
+	/**
+	 * Immutable table of type names.
+	 */
+	private static final class Table {
+
+		final char[] fNames;
+		final int[] fNameStarts;
+		final char[] fHumps;
+		final int[] fHumpStarts;
+		/** Regular entries sorted by lower case name */
+		final int[] fByName;
+		/** Regular entries sorted by lower case humps */
+		final int[] fByHumps;
+		/** Entries with non-ASCII names, which are always checked */
+		final int[] fIrregular;
+		final String[] fRootHandles;
+		final boolean[] fBinaryRoots;
+		final int[] fRoots;
+		final String[] fPackageNames;
+		final int[] fPackages;
+		final String[] fEnclosingNames;
+		final int[] fEnclosing;
+		final String[] fFileNames;
+		final int[] fFiles;
+		final int[] fModifiers;
+		/**
+		 * Entries of the compilation units in source roots, keyed by root, package and file name.
+		 * Created on first use, only accessed while holding the update lock.
+		 */
+		private Map<String, int[]> fUnitEntries;
+
+		Table(char[] names, int[] nameStarts, char[] humps, int[] humpStarts, int[] byName, int[] byHumps, int[] irregular,
+				String[] rootHandles, boolean[] binaryRoots, int[] roots, String[] packageNames, int[] packages,
+				String[] enclosingNames, int[] enclosing, String[] fileNames, int[] files, int[] modifiers) {
+			fNames= names;
+			fNameStarts= nameStarts;
+			fHumps= humps;
+			fHumpStarts= humpStarts;
+			fByName= byName;
+			fByHumps= byHumps;
+			fIrregular= irregular;
+			fRootHandles= rootHandles;
+			fBinaryRoots= binaryRoots;
+			fRoots= roots;
+			fPackageNames= packageNames;
+			fPackages= packages;
+			fEnclosingNames= enclosingNames;
+			fEnclosing= enclosing;
+			fFileNames= fileNames;
+			fFiles= files;
+			fModifiers= modifiers;
+		}
+
+		int size() {
+			return fModifiers.length;
+		}
+
+		String getName(int entry) {
+			return new String(fNames, fNameStarts[entry], fNameStarts[entry + 1] - fNameStarts[entry]);
+		}
+
+		String getContainerName(int entry) {
+			String packageName= fPackageNames[fPackages[entry]];
+			String enclosing= fEnclosingNames[fEnclosing[entry]];
+			if (enclosing.isEmpty())
+				return packageName;
+			if (packageName.isEmpty())
+				return enclosing;
+			return packageName + '.' + enclosing;
+		}
+
+		String getFileName(int entry) {
+			int file= fFiles[entry];
+			if (file != -1)
+				return fFileNames[file];
+			return getDerivedFileName(fBinaryRoots[fRoots[entry]], fEnclosingNames[fEnclosing[entry]], getName(entry));
+		}
+
+		TypeNameMatch createMatch(int entry, IPackageFragmentRoot[] roots) {
+			int rootIndex= fRoots[entry];
+			IPackageFragmentRoot root= roots[rootIndex];
+			if (root == null) {
+				IJavaElement element= JavaCore.create(fRootHandles[rootIndex]);
+				if (!(element instanceof IPackageFragmentRoot))
+					return null;
+				root= (IPackageFragmentRoot) element;
+				roots[rootIndex]= root;
+			}
+			IPackageFragment pack= root.getPackageFragment(fPackageNames[fPackages[entry]]);
+			String name= getName(entry);
+			String enclosing= fEnclosingNames[fEnclosing[entry]];
+			IType type;
+			if (fBinaryRoots[rootIndex]) {
+				type= pack.getOrdinaryClassFile(getFileName(entry)).getType();
+			} else {
+				ICompilationUnit cu= pack.getCompilationUnit(getFileName(entry));
+				if (enclosing.isEmpty()) {
+					type= cu.getType(name);
+				} else {
+					String[] segments= enclosing.split("\\."); //$NON-NLS-1$
+					type= cu.getType(segments[0]);
+					for (int i= 1; i < segments.length; i++)
+						type= type.getType(segments[i]);
+					type= type.getType(name);
+				}
+			}
+			return SearchEngine.createTypeNameMatch(type, fModifiers[entry]);
+		}
+
+		/**
+		 * Marks all entries of the given compilation unit.
+		 *
+		 * @param cu the compilation unit
+		 * @param entries the set to mark the entries in
+		 */
+		void collectEntries(ICompilationUnit cu, BitSet entries) {
+			if (fUnitEntries == null)
+				fUnitEntries= createUnitEntries();
+			IJavaElement pack= cu.getParent();
+			int[] unitEntries= fUnitEntries.get(getUnitKey(pack.getParent().getHandleIdentifier(), pack.getElementName(), cu.getElementName()));
+			if (unitEntries != null) {
+				for (int entry : unitEntries)
+					entries.set(entry);
+			}
+		}
+
+		private Map<String, int[]> createUnitEntries() {
+			Map<String, int[]> result= new HashMap<>();
+			for (int i= 0; i < size(); i++) {
+				int root= fRoots[i];
+				if (fBinaryRoots[root])
+					continue;
+				String key= getUnitKey(fRootHandles[root], fPackageNames[fPackages[i]], getFileName(i));
+				int[] unitEntries= result.get(key);
+				if (unitEntries == null) {
+					unitEntries= new int[] { i };
+				} else {
+					unitEntries= Arrays.copyOf(unitEntries, unitEntries.length + 1);
+					unitEntries[unitEntries.length - 1]= i;
+				}
+				result.put(key, unitEntries);
+			}
+			return result;
+		}
+
+		private static String getUnitKey(String rootHandle, String packageName, String fileName) {
+			// package and file names contain no slashes
+			return rootHandle + '/' + packageName + '/' + fileName;
+		}
+	}
+
+	/**
+	 * Collects entries and creates tables.
+	 */
+	private static final class Builder {
+
+		private static final int ROOT= 0, PACKAGE= 1, ENCLOSING= 2, FILE= 3, MODIFIERS= 4, STRIDE= 5;
+
+		private final StringBuilder fNames= new StringBuilder();
+		private int[] fNameStarts= new int[1024];
+		private int[] fData= new int[1024 * STRIDE];
+		private int fCount;
+
+		private final Map<String, Integer> fRootIndex= new HashMap<>();
+		private final List<String> fRootHandles= new ArrayList<>();
+		private final List<Boolean> fBinaryRoots= new ArrayList<>();
+		private final Map<String, Integer> fPackageIndex= new HashMap<>();
+		private final List<String> fPackageNames= new ArrayList<>();
+		private final Map<String, Integer> fEnclosingIndex= new HashMap<>();
+		private final List<String> fEnclosingNames= new ArrayList<>();
+		private final List<String> fFileNames= new ArrayList<>();
+
+		void add(TypeNameMatch match) {
+			IType type= match.getType();
+			String simpleName= match.getSimpleTypeName();
+			String qualifiedName= match.getTypeQualifiedName();
+			String enclosing= qualifiedName.length() > simpleName.length() ? qualifiedName.substring(0, qualifiedName.length() - simpleName.length() - 1) : ""; //$NON-NLS-1$
+			boolean binary= type.getTypeRoot() instanceof IClassFile;
+			add(simpleName, match.getPackageFragmentRoot().getHandleIdentifier(), binary, match.getPackageName(), enclosing, type.getTypeRoot().getElementName(), match.getModifiers());
+		}
+
+		void add(Table table, int entry) {
+			int root= table.fRoots[entry];
+			String name= table.getName(entry);
+			add(name, table.fRootHandles[root], table.fBinaryRoots[root], table.fPackageNames[table.fPackages[entry]],
+					table.fEnclosingNames[table.fEnclosing[entry]], table.getFileName(entry), table.fModifiers[entry]);
+		}
+
+		private void add(String simpleName, String rootHandle, boolean binary, String packageName, String enclosing, String fileName, int modifiers) {
+			if (fCount + 1 == fNameStarts.length) {
+				fNameStarts= Arrays.copyOf(fNameStarts, fNameStarts.length * 2);
+				fData= Arrays.copyOf(fData, fData.length * 2);
+			}
+			Integer root= fRootIndex.get(rootHandle);
+			if (root == null) {
+				root= Integer.valueOf(fRootHandles.size());
+				fRootIndex.put(rootHandle, root);
+				fRootHandles.add(rootHandle);
+				fBinaryRoots.add(Boolean.valueOf(binary));
+			}
+			int offset= fCount * STRIDE;
+			fData[offset + ROOT]= root.intValue();
+			fData[offset + PACKAGE]= index(packageName, fPackageIndex, fPackageNames);
+			fData[offset + ENCLOSING]= index(enclosing, fEnclosingIndex, fEnclosingNames);
+			if (fileName.equals(getDerivedFileName(fBinaryRoots.get(root.intValue()).booleanValue(), enclosing, simpleName))) {
+				fData[offset + FILE]= -1;
+			} else {
+				fData[offset + FILE]= fFileNames.size();
+				fFileNames.add(fileName);
+			}
+			fData[offset + MODIFIERS]= modifiers;
+			fNames.append(simpleName);
+			fCount++;
+			fNameStarts[fCount]= fNames.length();
+		}
+
+		private static int index(String value, Map<String, Integer> indices, List<String> values) {
+			Integer index= indices.get(value);
+			if (index == null) {
+				index= Integer.valueOf(values.size());
+				indices.put(value, index);
+				values.add(value);
+			}
+			return index.intValue();
+		}
+
+		Table build() {
+			char[] names= new char[fNames.length()];
+			fNames.getChars(0, names.length, names, 0);
+			int[] nameStarts= Arrays.copyOf(fNameStarts, fCount + 1);
+
+			StringBuilder humps= new StringBuilder();
+			int[] humpStarts= new int[fCount + 1];
+			List<Integer> regular= new ArrayList<>(fCount);
+			List<Integer> irregular= new ArrayList<>();
+			for (int i= 0; i < fCount; i++) {
+				String name= new String(names, nameStarts[i], nameStarts[i + 1] - nameStarts[i]);
+				String nameHumps= getHumps(name);
+				if (nameHumps == null) {
+					irregular.add(Integer.valueOf(i));
+				} else {
+					humps.append(nameHumps);
+					regular.add(Integer.valueOf(i));
+				}
+				humpStarts[i + 1]= humps.length();
+			}
+			char[] humpChars= new char[humps.length()];
+			humps.getChars(0, humpChars.length, humpChars, 0);
+
+			Integer[] byName= regular.toArray(new Integer[regular.size()]);
+			Arrays.sort(byName, (e1, e2) -> compare(names, nameStarts, e1.intValue(), e2.intValue()));
+			Integer[] byHumps= regular.toArray(new Integer[regular.size()]);
+			Arrays.sort(byHumps, (e1, e2) -> compare(humpChars, humpStarts, e1.intValue(), e2.intValue()));
+
+			int[] roots= new int[fCount];
+			int[] packages= new int[fCount];
+			int[] enclosing= new int[fCount];
+			int[] files= new int[fCount];
+			int[] modifiers= new int[fCount];
+			for (int i= 0; i < fCount; i++) {
+				int offset= i * STRIDE;
+				roots[i]= fData[offset + ROOT];
+				packages[i]= fData[offset + PACKAGE];
+				enclosing[i]= fData[offset + ENCLOSING];
+				files[i]= fData[offset + FILE];
+				modifiers[i]= fData[offset + MODIFIERS];
+			}
+			boolean[] binaryRoots= new boolean[fBinaryRoots.size()];
+			for (int i= 0; i < binaryRoots.length; i++)
+				binaryRoots[i]= fBinaryRoots.get(i).booleanValue();
+
+			return new Table(names, nameStarts, humpChars, humpStarts, toIntArray(byName), toIntArray(byHumps), toIntArray(irregular.toArray(new Integer[irregular.size()])),
+					fRootHandles.toArray(new String[fRootHandles.size()]), binaryRoots, roots,
+					fPackageNames.toArray(new String[fPackageNames.size()]), packages,
+					fEnclosingNames.toArray(new String[fEnclosingNames.size()]), enclosing,
+					fFileNames.toArray(new String[fFileNames.size()]), files, modifiers);
+		}
+
+		private static int[] toIntArray(Integer[] values) {
+			int[] result= new int[values.length];
+			for (int i= 0; i < values.length; i++)
+				result[i]= values[i].intValue();
+			return result;
+		}
+	}
+
+	/**
+	 * A table together with the changes applied since it has been built.
+	 */
+	private static final class State {
+		final Table fTable;
+		/** Entries of the table that are outdated */
+		final BitSet fRemoved;
+		/** Types added or changed since the table has been built */
+		final TypeNameMatch[] fAdded;
+
+		State(Table table, BitSet removed, TypeNameMatch[] added) {
+			fTable= table;
+			fRemoved= removed;
+			fAdded= added;
+		}
+	}
+
+	/**
+	 * A type added since the table has been built, with the key it is ranked by.
+	 */
+	private static final class AddedType {
+		final String fKey;
+		final TypeNameMatch fMatch;
+
+		AddedType(String key, TypeNameMatch match) {
+			fKey= key;
+			fMatch= match;
+		}
+	}
+
+	/**
+	 * A query, reporting the matching entries of a state.
+	 */
+	private static final class Query {
+		private final State fState;
+		private final TypeInfoFilter fFilter;
+		private final TypeNameMatchRequestor fRequestor;
+		private final IProgressMonitor fMonitor;
+		private final IPackageFragmentRoot[] fRoots;
+		private int fChecked;
+
+		Query(State state, TypeInfoFilter filter, TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+			fState= state;
+			fFilter= filter;
+			fRequestor= requestor;
+			fMonitor= monitor;
+			fRoots= new IPackageFragmentRoot[state.fTable.fRootHandles.length];
+		}
+
+		void run() {
+			Table table= fState.fTable;
+			String text= fFilter.getText();
+			String pattern= fFilter.getNamePattern();
+			int matchKind= fFilter.getSearchFlags();
+			if (text.isEmpty() || matchKind == SearchPattern.R_PATTERN_MATCH || !isAscii(pattern)) {
+				acceptRange(table.fByName, table.fNames, table.fNameStarts, null, null, getAdded(false, null, null));
+			} else {
+				boolean prefix= matchKind != SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH;
+				String lowerPattern= pattern.toLowerCase(Locale.ENGLISH);
+				if (prefix) {
+					acceptRange(table.fByName, table.fNames, table.fNameStarts, lowerPattern, null, getAdded(false, lowerPattern, null));
+				}
+				if (matchKind == SearchPattern.R_CAMELCASE_MATCH || matchKind == SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH) {
+					// entries with the pattern as prefix have been reported already
+					String reportedPrefix= prefix ? lowerPattern : null;
+					String humps= getHumps(pattern);
+					acceptRange(table.fByHumps, table.fHumps, table.fHumpStarts, humps, reportedPrefix, getAdded(true, humps, reportedPrefix));
+				}
+			}
+			acceptAll(table.fIrregular);
+			for (TypeNameMatch match : fState.fAdded) {
+				if (getHumps(match.getSimpleTypeName()) == null)
+					accept(match);
+			}
+		}
+
+		/*
+		 * Returns the added types with regular names whose key starts with the given prefix, sorted
+		 * like the entries of the table.
+		 */
+		private List<AddedType> getAdded(boolean byHumps, String lowerPrefix, String reportedPrefix) {
+			List<AddedType> result= new ArrayList<>();
+			for (TypeNameMatch match : fState.fAdded) {
+				String name= match.getSimpleTypeName();
+				String humps= getHumps(name);
+				if (humps == null)
+					continue;
+				String key= byHumps ? humps : name.toLowerCase(Locale.ENGLISH);
+				if (lowerPrefix != null && !key.startsWith(lowerPrefix))
+					continue;
+				if (reportedPrefix != null && Strings.startsWithIgnoreCase(name, reportedPrefix))
+					continue;
+				result.add(new AddedType(key, match));
+			}
+			result.sort((t1, t2) -> t1.fKey.compareTo(t2.fKey));
+			return result;
+		}
+
+		private void acceptAll(int[] entries) {
+			for (int entry : entries)
+				accept(entry);
+		}
+
+		/*
+		 * Reports the entries of the table in the prefix range, or all entries if the prefix is null,
+		 * merged with the added types, which are sorted by the same key.
+		 */
+		private void acceptRange(int[] order, char[] chars, int[] starts, String lowerPrefix, String reportedPrefix, List<AddedType> added) {
+			int from= lowerPrefix == null ? 0 : bound(order, chars, starts, lowerPrefix, false);
+			int to= lowerPrefix == null ? order.length : bound(order, chars, starts, lowerPrefix, true);
+			int next= 0;
+			for (int i= from; i < to; i++) {
+				int entry= order[i];
+				while (next < added.size() && compare(chars, starts, entry, added.get(next).fKey) > 0)
+					accept(added.get(next++).fMatch);
+				if (reportedPrefix == null || !Strings.startsWithIgnoreCase(fState.fTable.getName(entry), reportedPrefix))
+					accept(entry);
+			}
+			while (next < added.size())
+				accept(added.get(next++).fMatch);
+		}
+
+		private void accept(TypeNameMatch match) {
+			checkCanceled();
+			if (fFilter.matchesHistoryElement(match))
+				fRequestor.acceptTypeNameMatch(match);
+		}
+
+		private void accept(int entry) {
+			checkCanceled();
+			if (fState.fRemoved.get(entry))
+				return;
+			Table table= fState.fTable;
+			if (!fFilter.matchesName(table.getName(entry)) || !fFilter.matchesPackage(table.getContainerName(entry)))
+				return;
+			TypeNameMatch match= table.createMatch(entry, fRoots);
+			if (match != null && fFilter.matchesHistoryElement(match))
+				fRequestor.acceptTypeNameMatch(match);
+		}
+
+		private void checkCanceled() {
+			if ((++fChecked & 0xff) == 0 && fMonitor != null && fMonitor.isCanceled())
+				throw new OperationCanceledException();
+		}
+	}
+
+	private static final String FILENAME= "TypeNameIndex.dat"; //$NON-NLS-1$
+	private static final int FILE_VERSION= 1;
+
+	/** Number of added types after which the index is rebuilt */
+	private static final int MAX_ADDED= 1000;
+
+	private static final TypeNameMatch[] NO_MATCHES= new TypeNameMatch[0];
+
+	private static TypeNameIndex fgInstance;
+
+	private final IElementChangedListener fDeltaListener;
+	private final BuildJob fBuildJob;
+
+	// Needs to be volatile since queries read it without synchronization.
+	private volatile State fState;
+	private final Set<ICompilationUnit> fPendingUnits= new HashSet<>();
+	private final Set<ICompilationUnit> fUnitsChangedDuringBuild= new HashSet<>();
+	private boolean fIsBuilding;
+	/** Incremented whenever the index has to be rebuilt */
+	private int fGeneration;
+	private final Object fBuildLock= new Object();
+	private final Object fUpdateLock= new Object();
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		fgInstance.doShutdown();
+	}
+
+	private TypeNameIndex() {
+		Table table= load();
+		if (table != null)
+			fState= new State(table, new BitSet(), NO_MATCHES);
+		fDeltaListener= new TypeNameIndexDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener);
+		fBuildJob= new BuildJob();
+		fBuildJob.setPriority(Job.DECORATE);
+		fBuildJob.setSystem(true);
+		fBuildJob.schedule();
+	}
+
+	/**
+	 * Reports all types matching the given filter. The types are reported in rank order: types
+	 * whose name starts with the pattern come first, sorted by name, followed by camel case
+	 * matches.
+	 *
+	 * @param filter the filter
+	 * @param requestor the requestor to report the types to
+	 * @param monitor the progress monitor or <code>null</code>
+	 * @return <code>true</code> if the query has been answered, <code>false</code> if the index
+	 *         is not available and the caller has to search
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public boolean search(TypeInfoFilter filter, TypeNameMatchRequestor requestor, IProgressMonitor monitor) throws OperationCanceledException {
+		State state= getState();
+		if (state == null)
+			return false;
+		new Query(state, filter, requestor, monitor).run();
+		return true;
+	}
+
+	/**
+	 * Returns whether queries can be answered by the index.
+	 *
+	 * @return <code>true</code> if the index is available
+	 */
+	public boolean isAvailable() {
+		return fState != null;
+	}
+
+	/**
+	 * Builds the index by searching all types in the workspace.
+	 *
+	 * @param monitor the progress monitor or <code>null</code>
+	 * @throws CoreException if the search fails
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public void rebuild(IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		synchronized (fBuildLock) {
+			int generation;
+			synchronized (this) {
+				generation= fGeneration;
+				fIsBuilding= true;
+				fUnitsChangedDuringBuild.clear();
+			}
+			Table table= null;
+			try {
+				Builder builder= new Builder();
+				new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(null, SearchPattern.R_PREFIX_MATCH, null, SearchPattern.R_PREFIX_MATCH,
+						IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+							@Override
+							public void acceptTypeNameMatch(TypeNameMatch match) {
+								builder.add(match);
+							}
+						}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				table= builder.build();
+			} finally {
+				synchronized (this) {
+					fIsBuilding= false;
+					if (generation != fGeneration) {
+						// the class path changed while searching
+						fBuildJob.schedule();
+					} else if (table != null) {
+						fState= new State(table, new BitSet(), NO_MATCHES);
+						// the search may not have seen these changes
+						fPendingUnits.addAll(fUnitsChangedDuringBuild);
+					}
+					fUnitsChangedDuringBuild.clear();
+				}
+			}
+		}
+	}
+
+	/*
+	 * Applies the pending compilation unit changes. The Java model is only accessed while holding
+	 * the update lock, so deltas and the build never wait for it.
+	 */
+	private State getState() {
+		synchronized (fUpdateLock) {
+			State state;
+			List<ICompilationUnit> pending;
+			synchronized (this) {
+				state= fState;
+				if (state == null || fPendingUnits.isEmpty())
+					return state;
+				pending= new ArrayList<>(fPendingUnits);
+				fPendingUnits.clear();
+			}
+
+			BitSet removed= (BitSet) state.fRemoved.clone();
+			List<TypeNameMatch> added= new ArrayList<>(Arrays.asList(state.fAdded));
+			for (ICompilationUnit cu : pending) {
+				state.fTable.collectEntries(cu, removed);
+				added.removeIf(match -> cu.equals(match.getType().getCompilationUnit()));
+				try {
+					if (cu.exists()) {
+						for (IType type : cu.getAllTypes())
+							added.add(SearchEngine.createTypeNameMatch(type, type.getFlags()));
+					}
+				} catch (JavaModelException e) {
+					JavaPlugin.log(e);
+				}
+			}
+			State updated= new State(state.fTable, removed, added.toArray(new TypeNameMatch[added.size()]));
+
+			synchronized (this) {
+				if (fState != state) {
+					// rebuilt or invalidated meanwhile, a new table includes the pending changes
+					return fState;
+				}
+				fState= updated;
+				if (added.size() > MAX_ADDED)
+					fBuildJob.schedule();
+				return updated;
+			}
+		}
+	}
+
+	private synchronized void changed(Set<ICompilationUnit> units, boolean rebuild) {
+		if (rebuild) {
+			// stale results would hide new types, fall back to searching until rebuilt
+			fState= null;
+			fPendingUnits.clear();
+			fGeneration++;
+			if (!fIsBuilding)
+				fBuildJob.schedule();
+		} else if (!units.isEmpty()) {
+			fPendingUnits.addAll(units);
+			if (fIsBuilding)
+				fUnitsChangedDuringBuild.addAll(units);
+		}
+	}
+
+	private void doShutdown() {
+		JavaCore.removeElementChangedListener(fDeltaListener);
+		fBuildJob.cancel();
+		State state= fState;
+		if (state != null)
+			save(compact(state));
+	}
+
+	private static Table compact(State state) {
+		if (state.fRemoved.isEmpty() && state.fAdded.length == 0)
+			return state.fTable;
+		Builder builder= new Builder();
+		for (int i= 0; i < state.fTable.size(); i++) {
+			if (!state.fRemoved.get(i))
+				builder.add(state.fTable, i);
+		}
+		for (TypeNameMatch match : state.fAdded)
+			builder.add(match);
+		return builder.build();
+	}
+
+	private static File getFile() {
+		return JavaPlugin.getDefault().getStateLocation().append(FILENAME).toFile();
+	}
+
+	private static void save(Table table) {
+		File file= getFile();
+		try (DataOutputStream stream= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			stream.writeInt(FILE_VERSION);
+			writeChars(stream, table.fNames);
+			writeInts(stream, table.fNameStarts);
+			writeChars(stream, table.fHumps);
+			writeInts(stream, table.fHumpStarts);
+			writeInts(stream, table.fByName);
+			writeInts(stream, table.fByHumps);
+			writeInts(stream, table.fIrregular);
+			writeStrings(stream, table.fRootHandles);
+			stream.writeInt(table.fBinaryRoots.length);
+			for (boolean binary : table.fBinaryRoots)
+				stream.writeBoolean(binary);
+			writeInts(stream, table.fRoots);
+			writeStrings(stream, table.fPackageNames);
+			writeInts(stream, table.fPackages);
+			writeStrings(stream, table.fEnclosingNames);
+			writeInts(stream, table.fEnclosing);
+			writeStrings(stream, table.fFileNames);
+			writeInts(stream, table.fFiles);
+			writeInts(stream, table.fModifiers);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			file.delete();
+		}
+	}
+
+	private static Table load() {
+		File file= getFile();
+		if (!file.isFile())
+			return null;
+		try (DataInputStream stream= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (stream.readInt() != FILE_VERSION)
+				return null;
+			char[] names= readChars(stream);
+			int[] nameStarts= readInts(stream);
+			char[] humps= readChars(stream);
+			int[] humpStarts= readInts(stream);
+			int[] byName= readInts(stream);
+			int[] byHumps= readInts(stream);
+			int[] irregular= readInts(stream);
+			String[] rootHandles= readStrings(stream);
+			boolean[] binaryRoots= new boolean[stream.readInt()];
+			for (int i= 0; i < binaryRoots.length; i++)
+				binaryRoots[i]= stream.readBoolean();
+			int[] roots= readInts(stream);
+			String[] packageNames= readStrings(stream);
+			int[] packages= readInts(stream);
+			String[] enclosingNames= readStrings(stream);
+			int[] enclosing= readInts(stream);
+			String[] fileNames= readStrings(stream);
+			int[] files= readInts(stream);
+			int[] modifiers= readInts(stream);
+			return new Table(names, nameStarts, humps, humpStarts, byName, byHumps, irregular, rootHandles, binaryRoots, roots,
+					packageNames, packages, enclosingNames, enclosing, fileNames, files, modifiers);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			file.delete();
+			return null;
+		}
+	}
+
+	private static void writeChars(DataOutputStream stream, char[] chars) throws IOException {
+		stream.writeInt(chars.length);
+		for (char c : chars)
+			stream.writeChar(c);
+	}
+
+	private static char[] readChars(DataInputStream stream) throws IOException {
+		char[] chars= new char[stream.readInt()];
+		for (int i= 0; i < chars.length; i++)
+			chars[i]= stream.readChar();
+		return chars;
+	}
+
+	private static void writeInts(DataOutputStream stream, int[] ints) throws IOException {
+		stream.writeInt(ints.length);
+		for (int i : ints)
+			stream.writeInt(i);
+	}
+
+	private static int[] readInts(DataInputStream stream) throws IOException {
+		int[] ints= new int[stream.readInt()];
+		for (int i= 0; i < ints.length; i++)
+			ints[i]= stream.readInt();
+		return ints;
+	}
+
+	private static void writeStrings(DataOutputStream stream, String[] strings) throws IOException {
+		stream.writeInt(strings.length);
+		for (String string : strings)
+			stream.writeUTF(string);
+	}
+
+	private static String[] readStrings(DataInputStream stream) throws IOException {
+		String[] strings= new String[stream.readInt()];
+		for (int i= 0; i < strings.length; i++)
+			strings[i]= stream.readUTF();
+		return strings;
+	}
+
+	private static String getDerivedFileName(boolean binary, String enclosing, String simpleName) {
+		if (binary) {
+			if (enclosing.isEmpty())
+				return simpleName + ".class"; //$NON-NLS-1$
+			return enclosing.replace('.', '$') + '$' + simpleName + ".class"; //$NON-NLS-1$
+		}
+		int dot= enclosing.indexOf('.');
+		String topLevel= enclosing.isEmpty() ? simpleName : dot == -1 ? enclosing : enclosing.substring(0, dot);
+		return topLevel + ".java"; //$NON-NLS-1$
+	}
+
+	/*
+	 * The humps of a name are its first character and all upper case letters, in lower case.
+	 * A camel case pattern only matches names whose humps start with the humps of the pattern.
+	 * Returns null for names with non-ASCII characters.
+	 */
+	private static String getHumps(String name) {
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < name.length(); i++) {
+			char c= name.charAt(i);
+			if (c >= 128)
+				return null;
+			if (i == 0 || (c >= 'A' && c <= 'Z'))
+				buf.append(Character.toLowerCase(c));
+		}
+		return buf.toString();
+	}
+
+	private static boolean isAscii(String string) {
+		for (int i= 0; i < string.length(); i++) {
+			if (string.charAt(i) >= 128)
+				return false;
+		}
+		return true;
+	}
+
+	private static int compare(char[] chars, int[] starts, int e1, int e2) {
+		int s1= starts[e1], end1= starts[e1 + 1];
+		int s2= starts[e2], end2= starts[e2 + 1];
+		int length= Math.min(end1 - s1, end2 - s2);
+		for (int i= 0; i < length; i++) {
+			int diff= Character.toLowerCase(chars[s1 + i]) - Character.toLowerCase(chars[s2 + i]);
+			if (diff != 0)
+				return diff;
+		}
+		return (end1 - s1) - (end2 - s2);
+	}
+
+	/*
+	 * Compares an entry with a lower case key.
+	 */
+	private static int compare(char[] chars, int[] starts, int entry, String lowerKey) {
+		int start= starts[entry], length= starts[entry + 1] - start;
+		int common= Math.min(length, lowerKey.length());
+		for (int i= 0; i < common; i++) {
+			int diff= Character.toLowerCase(chars[start + i]) - lowerKey.charAt(i);
+			if (diff != 0)
+				return diff;
+		}
+		return length - lowerKey.length();
+	}
+
+	/*
+	 * Compares the start of an entry with a lower case prefix: negative if the entry sorts before
+	 * all entries with the prefix, 0 if it has the prefix and positive if it sorts after them.
+	 */
+	private static int comparePrefix(char[] chars, int[] starts, int entry, String lowerPrefix) {
+		int start= starts[entry], end= starts[entry + 1];
+		for (int i= 0; i < lowerPrefix.length(); i++) {
+			if (start + i == end)
+				return -1;
+			int diff= Character.toLowerCase(chars[start + i]) - lowerPrefix.charAt(i);
+			if (diff != 0)
+				return diff;
+		}
+		return 0;
+	}
+
+	/*
+	 * Returns the first index in order whose entry does not sort before the prefix range, or after
+	 * it if upper is set.
+	 */
+	private static int bound(int[] order, char[] chars, int[] starts, String lowerPrefix, boolean upper) {
+		int low= 0, high= order.length;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			int cmp= comparePrefix(chars, starts, order[mid], lowerPrefix);
+			if (cmp < 0 || (upper && cmp == 0))
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+}
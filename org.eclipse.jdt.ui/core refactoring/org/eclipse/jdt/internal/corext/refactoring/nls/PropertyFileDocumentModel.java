@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,20 @@ package org.eclipse.jdt.internal.corext.refactoring.nls;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+import com.ibm.icu.text.CollationKey;
 import com.ibm.icu.text.Collator;
 
 import org.eclipse.text.edits.DeleteEdit;
 import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.TextEditGroup;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -37,9 +44,28 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileEscapes;
 
+/**
+ * Model of the key value pairs of a properties file document.
+ * <p>
+ * The pairs are kept in a linked list in document order. Keys are indexed by a hash map
+ * for lookups and by a sorted map for finding insertion positions, so that inserting,
+ * replacing or removing a pair does not scan the whole document.
+ * </p>
+ */
 public class PropertyFileDocumentModel {
 
-	private List<KeyValuePairModell> fKeyValuePairs;
+	/** Distance between the order labels of consecutive pairs after parsing or relabeling */
+	private static final long ORDER_GAP= 1L << 16;
+
+	/** First pair in document order, the {@link LastKeyValuePair} if the document has no pairs */
+	private KeyValuePairModell fFirst;
+	/** Number of pairs, not counting the {@link LastKeyValuePair} */
+	private int fSize;
+	/** Maps a key to its first pair in document order */
+	private final Map<String, KeyValuePairModell> fKeyIndex= new HashMap<>();
+	/** Maps a key to all its pairs, sorted by key */
+	private final TreeMap<String, List<KeyValuePairModell>> fSortedKeys= new TreeMap<>();
+	private final Collator fCollator= Collator.getInstance();
 	private String fLineDelimiter;
 
 	public PropertyFileDocumentModel(IDocument document) {
@@ -61,18 +87,12 @@ public class PropertyFileDocumentModel {
 	 * @return the pair with the key or <b>null</b> if no such pair.
 	 */
 	public KeyValuePair getKeyValuePair(String key) {
-		for (KeyValuePairModell keyValuePair : fKeyValuePairs) {
-			if (keyValuePair.getKey().equals(key)) {
-				return keyValuePair;
-			}
-		}
-		return null;
+		return fKeyIndex.get(key);
 	}
 
 	private InsertEdit insert(KeyValuePair keyValuePair) {
 		KeyValuePairModell keyValuePairModell = new KeyValuePairModell(keyValuePair);
-		int index = findInsertPosition(keyValuePairModell);
-		KeyValuePairModell insertHere = fKeyValuePairs.get(index);
+		KeyValuePairModell insertHere = findInsertPosition(keyValuePairModell);
 		int offset = insertHere.fOffset;
 
 		String extra= ""; //$NON-NLS-1$
@@ -80,14 +100,14 @@ public class PropertyFileDocumentModel {
 			extra= fLineDelimiter;
 			((LastKeyValuePair)insertHere).resetNeedsNewLine();
 			offset-= insertHere.fLeadingWhiteSpaces;
-		} else if (index > 0) {
-			String beforeKey= fKeyValuePairs.get(index - 1).fKey;
+		} else if (insertHere.fPrevious != null) {
+			String beforeKey= insertHere.fPrevious.fKey;
 			String afterKey= insertHere.fKey;
 			String key= keyValuePair.fKey;
 			int distBefore= NLSUtil.invertDistance(key, beforeKey);
 			int distAfter= NLSUtil.invertDistance(key, afterKey);
 			if (distBefore > distAfter
-					|| (distBefore == distAfter && Collator.getInstance().compare(beforeKey, afterKey) < 0)) {
+					|| (distBefore == distAfter && fCollator.compare(beforeKey, afterKey) < 0)) {
 				offset-= insertHere.fLeadingWhiteSpaces;
 			} else {
 				//insert it before afterKey -> move the leading white spaces to the inserted pair
@@ -99,67 +119,172 @@ public class PropertyFileDocumentModel {
 		String text= extra + keyValuePairModell.getKeyValueText();
 		keyValuePairModell.fOffset= offset;
 		keyValuePairModell.fLength= text.length();
-		fKeyValuePairs.add(index, keyValuePairModell);
+		insertBefore(keyValuePairModell, insertHere);
 		return new InsertEdit(offset, text);
 	}
 
 	/**
 	 * Inserts the given key value pairs into this model at appropriate
-	 * positions. Records all required text changes in the given change
+	 * positions. Records all required text changes in the given change.
+	 * The insertions are added as a single {@link MultiTextEdit}, with
+	 * one text edit group per inserted pair.
 	 *
 	 * @param keyValuePairs the key value pairs to insert
 	 * @param change the change to use to record text changes
 	 */
 	public void insert(KeyValuePair[] keyValuePairs, TextChange change) {
+		if (keyValuePairs.length == 0)
+			return;
 
 		ArrayList<KeyValuePair> sorted= new ArrayList<>(Arrays.asList(keyValuePairs));
-		Collections.sort(sorted, (p1, p2) -> Collator.getInstance().compare(p1.fKey, p2.fKey));
+		Collections.sort(sorted, (p1, p2) -> fCollator.compare(p1.fKey, p2.fKey));
 
+		MultiTextEdit edit= new MultiTextEdit();
+		List<TextEditGroup> groups= new ArrayList<>(sorted.size());
 		for (KeyValuePair curr : sorted) {
 			InsertEdit insertEdit= insert(curr);
+			edit.addChild(insertEdit);
 
 			String message= Messages.format(NLSMessages.NLSPropertyFileModifier_add_entry, BasicElementLabels.getJavaElementName(curr.getKey()));
-			TextChangeCompatibility.addTextEdit(change, message, insertEdit);
+			groups.add(new TextEditGroup(message, insertEdit));
+		}
+
+		TextEdit root= change.getEdit();
+		if (root == null) {
+			root= new MultiTextEdit();
+			change.setEdit(root);
+		}
+		TextChangeCompatibility.insert(root, edit);
+		for (TextEditGroup group : groups) {
+			change.addTextEditGroup(group);
 		}
 	}
 
 	public DeleteEdit remove(String key) {
-		for (KeyValuePairModell keyValuePair : fKeyValuePairs) {
-			if (keyValuePair.fKey.equals(key)) {
-				return new DeleteEdit(keyValuePair.fOffset, keyValuePair.getLength());
-			}
-		}
-		return null;
+		KeyValuePairModell keyValuePair= fKeyIndex.get(key);
+		if (keyValuePair == null)
+			return null;
+		return new DeleteEdit(keyValuePair.fOffset, keyValuePair.getLength());
 	}
 
 	public ReplaceEdit replace(KeyValuePair toReplace, KeyValuePair replaceWith) {
-		for (KeyValuePairModell keyValuePair : fKeyValuePairs) {
-			if (keyValuePair.fKey.equals(toReplace.getKey())) {
-				String newText= new KeyValuePairModell(replaceWith).getKeyValueText();
-				return new ReplaceEdit(keyValuePair.fOffset, keyValuePair.getLength(), newText);
+		KeyValuePairModell keyValuePair= fKeyIndex.get(toReplace.getKey());
+		if (keyValuePair == null)
+			return null;
+		String newText= new KeyValuePairModell(replaceWith).getKeyValueText();
+		return new ReplaceEdit(keyValuePair.fOffset, keyValuePair.getLength(), newText);
+	}
+
+	/*
+	 * Returns the pair before which the given pair is to be inserted. This is the pair following
+	 * the position computed by NLSUtil#getInsertionPosition(String, List), but only the keys
+	 * sharing the longest common prefix with the new key can be at that position, so only those
+	 * are looked at.
+	 */
+	private KeyValuePairModell findInsertPosition(KeyValuePairModell keyValuePair) {
+		if (fSize == 0)
+			return fFirst;
+
+		String key= keyValuePair.getKey();
+		int prefixLength= 0;
+		String floor= fSortedKeys.floorKey(key);
+		if (floor != null)
+			prefixLength= getCommonPrefixLength(key, floor);
+		String ceiling= fSortedKeys.ceilingKey(key);
+		if (ceiling != null)
+			prefixLength= Math.max(prefixLength, getCommonPrefixLength(key, ceiling));
+
+		// all keys with the longest common prefix, and a shorter key that is followed by a
+		// separator in the new key, are the only candidates for the highest invert distance
+		List<KeyValuePairModell> candidates= new ArrayList<>();
+		String prefix= key.substring(0, prefixLength);
+		for (Map.Entry<String, List<KeyValuePairModell>> entry : fSortedKeys.tailMap(prefix, true).entrySet()) {
+			if (!entry.getKey().startsWith(prefix))
+				break;
+			candidates.addAll(entry.getValue());
+		}
+		if (prefixLength > 0 && isSeparator(key.charAt(prefixLength - 1))) {
+			List<KeyValuePairModell> separated= fSortedKeys.get(key.substring(0, prefixLength - 1));
+			if (separated != null)
+				candidates.addAll(separated);
+		}
+
+		int invertDistance= Integer.MIN_VALUE;
+		List<KeyValuePairModell> closest= new ArrayList<>();
+		for (KeyValuePairModell candidate : candidates) {
+			int currentInvertDistance= NLSUtil.invertDistance(key, candidate.getKey());
+			if (currentInvertDistance > invertDistance) {
+				invertDistance= currentInvertDistance;
+				closest.clear();
 			}
+			if (currentInvertDistance == invertDistance)
+				closest.add(candidate);
 		}
-		return null;
+
+		// insert after the last closest pair not sorting after the new key, else before the first closest pair
+		CollationKey collationKey= fCollator.getCollationKey(key);
+		KeyValuePairModell first= null;
+		KeyValuePairModell last= null;
+		for (KeyValuePairModell candidate : closest) {
+			if (first == null || candidate.fOrder < first.fOrder)
+				first= candidate;
+			if ((last == null || candidate.fOrder > last.fOrder) && collationKey.compareTo(candidate.getCollationKey(fCollator)) >= 0)
+				last= candidate;
+		}
+		return last != null ? last.fNext : first;
 	}
 
-	private int findInsertPosition(KeyValuePairModell keyValuePair) {
-		ArrayList<String> keys= new ArrayList<>();
-		for (KeyValuePairModell keyValuePairmodel : fKeyValuePairs) {
-			KeyValuePairModell element= keyValuePairmodel;
-			if (! (element instanceof LastKeyValuePair))
-				keys.add(element.getKey());
+	private static int getCommonPrefixLength(String s1, String s2) {
+		int length= Math.min(s1.length(), s2.length());
+		for (int i= 0; i < length; i++) {
+			if (s1.charAt(i) != s2.charAt(i))
+				return i;
 		}
-		int insertIndex= NLSUtil.getInsertionPosition(keyValuePair.getKey(), keys);
+		return length;
+	}
+
+	private static boolean isSeparator(char ch) {
+		return ch == '.' || ch == '-' || ch == '_';
+	}
 
-		if (insertIndex < fKeyValuePairs.size() - 1) {
-			insertIndex++;
+	private void insertBefore(KeyValuePairModell keyValuePair, KeyValuePairModell next) {
+		KeyValuePairModell previous= next.fPrevious;
+		keyValuePair.fPrevious= previous;
+		keyValuePair.fNext= next;
+		next.fPrevious= keyValuePair;
+		if (previous == null)
+			fFirst= keyValuePair;
+		else
+			previous.fNext= keyValuePair;
+
+		long lower= previous != null ? previous.fOrder : next.fOrder - 2 * ORDER_GAP;
+		if (next.fOrder - lower > 1)
+			keyValuePair.fOrder= lower + (next.fOrder - lower) / 2;
+		else
+			relabel();
+		addToIndex(keyValuePair);
+	}
+
+	private void relabel() {
+		long order= 0;
+		for (KeyValuePairModell curr= fFirst; curr != null; curr= curr.fNext) {
+			curr.fOrder= order;
+			order+= ORDER_GAP;
 		}
+	}
 
-		return insertIndex;
+	private void addToIndex(KeyValuePairModell keyValuePair) {
+		String key= keyValuePair.getKey();
+		KeyValuePairModell existing= fKeyIndex.get(key);
+		if (existing == null || keyValuePair.fOrder < existing.fOrder)
+			fKeyIndex.put(key, keyValuePair);
+		fSortedKeys.computeIfAbsent(key, k -> new ArrayList<>(1)).add(keyValuePair);
+		fSize++;
 	}
 
 	private void parsePropertyDocument(IDocument document) {
-		fKeyValuePairs = new ArrayList<>();
+		KeyValuePairModell last= null;
+		long order= 0;
 
 		SimpleLineReader reader = new SimpleLineReader(document);
 		int offset = 0;
@@ -174,7 +299,16 @@ public class PropertyFileDocumentModel {
 					String value= line.substring(idx + 1);
 					String trimmedValue= Strings.trimLeadingTabsAndSpaces(value);
 					int length= key.length() + 1 + value.length();
-					fKeyValuePairs.add(new KeyValuePairModell(trimmedKey, trimmedValue, offset, length, leadingWhiteSpaces));
+					KeyValuePairModell keyValuePair= new KeyValuePairModell(trimmedKey, trimmedValue, offset, length, leadingWhiteSpaces);
+					if (last == null)
+						fFirst= keyValuePair;
+					else
+						last.fNext= keyValuePair;
+					keyValuePair.fPrevious= last;
+					keyValuePair.fOrder= order;
+					order+= ORDER_GAP;
+					addToIndex(keyValuePair);
+					last= keyValuePair;
 					leadingWhiteSpaces = 0;
 				}
 			} else {
@@ -191,7 +325,12 @@ public class PropertyFileDocumentModel {
 			// treat last line having no new line
 		}
 		LastKeyValuePair lastKeyValuePair = new LastKeyValuePair(offset, needsNewLine);
-		fKeyValuePairs.add(lastKeyValuePair);
+		if (last == null)
+			fFirst= lastKeyValuePair;
+		else
+			last.fNext= lastKeyValuePair;
+		lastKeyValuePair.fPrevious= last;
+		lastKeyValuePair.fOrder= order;
 	}
 
 	private int getIndexOfSeparationCharacter(String line) {
@@ -272,6 +411,12 @@ public class PropertyFileDocumentModel {
 		int fLength;
 		int fLeadingWhiteSpaces;
 
+		KeyValuePairModell fPrevious;
+		KeyValuePairModell fNext;
+		/** Increases in document order */
+		long fOrder;
+		private CollationKey fCollationKey;
+
 		public KeyValuePairModell(String key, String value, int offset, int length, int leadingWhiteSpaces) {
 			super(key, value);
 			fOffset = offset;
@@ -290,6 +435,12 @@ public class PropertyFileDocumentModel {
 		private String getKeyValueText() {
 			return fKey + '=' + fValue;
 		}
+
+		CollationKey getCollationKey(Collator collator) {
+			if (fCollationKey == null)
+				fCollationKey= collator.getCollationKey(fKey);
+			return fCollationKey;
+		}
 	}
 
 	/**
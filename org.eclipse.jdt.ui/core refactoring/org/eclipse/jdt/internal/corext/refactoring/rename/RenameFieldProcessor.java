@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -24,6 +26,7 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
@@ -1113,27 +1116,55 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		if (field == null || ! field.exists())
 			return new SearchResultGroup[0];
 
-		CollectingSearchRequestor requestor= null;
+		IField oldField= null;
 		if (fDelegateUpdating && RefactoringAvailabilityTester.isDelegateCreationAvailable(getField())) {
 			// There will be two new matches inside the delegate (the invocation
 			// and the javadoc) which are OK and must not be reported.
-			final IField oldField= getFieldInWorkingCopy(declaringCuWorkingCopy, getCurrentElementName());
-			requestor= new CollectingSearchRequestor() {
+			oldField= getFieldInWorkingCopy(declaringCuWorkingCopy, getCurrentElementName());
+		}
+
+		// references in the new working copies are resolved from their ASTs, the search
+		// only contributes the matches in the remaining compilation units
+		List<SearchResultGroup> result= new ArrayList<>();
+		for (SearchResultGroup group : RenameAnalyzeUtil.findNewReferences(newWorkingCopies, owner, field, new SubProgressMonitor(pm, 1))) {
+			SearchResultGroup filtered= filterDelegateMatches(group, oldField);
+			if (filtered != null)
+				result.add(filtered);
+		}
+
+		SearchPattern newPattern= SearchPattern.createPattern(field, IJavaSearchConstants.REFERENCES);
+		if (newPattern != null) {
+			Set<IResource> resolved= new HashSet<>();
+			for (ICompilationUnit wc : newWorkingCopies) {
+				resolved.add(wc.getResource());
+			}
+			CollectingSearchRequestor requestor= new CollectingSearchRequestor() {
 				@Override
-				public void acceptSearchMatch(SearchMatch match) throws CoreException {
-					if (!oldField.equals(match.getElement()))
-						super.acceptSearchMatch(match);
+				public boolean filterMatch(SearchMatch match) throws CoreException {
+					return resolved.contains(match.getResource()) || super.filterMatch(match);
 				}
 			};
-		} else
-			requestor= new CollectingSearchRequestor();
+			IJavaSearchScope scope= RefactoringScopeFactory.create(fField, true, true);
+			for (SearchResultGroup group : RefactoringSearchEngine.search(newPattern, owner, scope, requestor, new SubProgressMonitor(pm, 1), status)) {
+				SearchResultGroup filtered= filterDelegateMatches(group, oldField);
+				if (filtered != null)
+					result.add(filtered);
+			}
+		}
+		return result.toArray(new SearchResultGroup[result.size()]);
+	}
 
-		SearchPattern newPattern= SearchPattern.createPattern(field, IJavaSearchConstants.REFERENCES);
-		if (newPattern == null) {
-			return new SearchResultGroup[0];
+	private static SearchResultGroup filterDelegateMatches(SearchResultGroup group, IField oldField) {
+		if (oldField == null)
+			return group;
+		List<SearchMatch> matches= new ArrayList<>();
+		for (SearchMatch match : group.getSearchResults()) {
+			if (!oldField.equals(match.getElement()))
+				matches.add(match);
 		}
-		IJavaSearchScope scope= RefactoringScopeFactory.create(fField, true, true);
-		return RefactoringSearchEngine.search(newPattern, owner, scope, requestor, new SubProgressMonitor(pm, 1), status);
+		if (matches.isEmpty())
+			return null;
+		return new SearchResultGroup(group.getResource(), matches.toArray(new SearchMatch[matches.size()]));
 	}
 
 	private IField getFieldInWorkingCopy(ICompilationUnit newWorkingCopyOfDeclaringCu, String elementName) {
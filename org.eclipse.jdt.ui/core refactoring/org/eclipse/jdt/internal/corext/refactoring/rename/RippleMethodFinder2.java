@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContex
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
 
 public class RippleMethodFinder2 {
 
@@ -86,50 +87,51 @@ public class RippleMethodFinder2 {
 			return fImplementation.get(key);
 		}
 	}
+	/*
+	 * Union-find over the types declaring a ripple method. Each type gets an ordinal
+	 * when it is initialized, the parent links are kept in an int array.
+	 */
 	private static class UnionFind {
-		HashMap<IType, IType> fElementToRepresentative= new HashMap<>();
+		private final HashMap<IType, Integer> fOrdinals= new HashMap<>();
+		private IType[] fTypes= new IType[16];
+		private int[] fParents= new int[16];
+		private int fSize;
 
 		public void init(IType type) {
-			fElementToRepresentative.put(type, type);
+			if (fOrdinals.containsKey(type))
+				return;
+			if (fSize == fTypes.length) {
+				fTypes= Arrays.copyOf(fTypes, fSize * 2);
+				fParents= Arrays.copyOf(fParents, fSize * 2);
+			}
+			fTypes[fSize]= type;
+			fParents[fSize]= fSize;
+			fOrdinals.put(type, Integer.valueOf(fSize));
+			fSize++;
 		}
 
-		//path compression:
 		public IType find(IType element) {
-			IType root= element;
-			IType rep= fElementToRepresentative.get(root);
-			while (rep != null && ! rep.equals(root)) {
-				root= rep;
-				rep= fElementToRepresentative.get(root);
-			}
-			if (rep == null)
+			Integer ordinal= fOrdinals.get(element);
+			if (ordinal == null)
 				return null;
+			return fTypes[findRoot(ordinal.intValue())];
+		}
 
-			rep= fElementToRepresentative.get(element);
-			while (! rep.equals(root)) {
-				IType temp= element;
-				element= rep;
-				fElementToRepresentative.put(temp, root);
-				rep= fElementToRepresentative.get(element);
+		//path compression:
+		private int findRoot(int ordinal) {
+			int root= ordinal;
+			while (fParents[root] != root)
+				root= fParents[root];
+			while (fParents[ordinal] != root) {
+				int next= fParents[ordinal];
+				fParents[ordinal]= root;
+				ordinal= next;
 			}
 			return root;
 		}
 
-//		//straightforward:
-//		public IType find(IType element) {
-//			IType current= element;
-//			IType rep= (IType) fElementToRepresentative.get(current);
-//			while (rep != null && ! rep.equals(current)) {
-//				current= rep;
-//				rep= (IType) fElementToRepresentative.get(current);
-//			}
-//			if (rep == null)
-//				return null;
-//			else
-//				return current;
-//		}
-
 		public void union(IType rep1, IType rep2) {
-			fElementToRepresentative.put(rep1, rep2);
+			fParents[fOrdinals.get(rep1).intValue()]= fOrdinals.get(rep2).intValue();
 		}
 	}
 
@@ -287,25 +289,32 @@ public class RippleMethodFinder2 {
 		List<IType> relatedTypesToProcess= new ArrayList<>(relatedTypes);
 		while (relatedTypesToProcess.size() > 0) {
 			//TODO: would only need subtype hierarchies of all top-of-ripple relatedTypesToProcess
+			Set<IType> newRelatedSubTypes= new LinkedHashSet<>();
 			for (IType relatedType : relatedTypesToProcess) {
 				checkCanceled(pm);
+				if (relatedSubTypes.contains(relatedType))
+					continue; // subtypes already known from a supertype
 				ITypeHierarchy hierarchy= hierarchy(pm, owner, relatedType);
-				IType[] allSubTypes= hierarchy.getAllSubtypes(relatedType);
-				relatedSubTypes.addAll(Arrays.asList(allSubTypes));
+				for (IType subType : hierarchy.getAllSubtypes(relatedType)) {
+					if (relatedSubTypes.add(subType))
+						newRelatedSubTypes.add(subType);
+				}
 			}
 			relatedTypesToProcess.clear(); //processed; make sure loop terminates
 
+			// an alien type is married if it is a supertype of a related subtype. Subtypes that were
+			// processed before cannot be married to the remaining alien types.
 			HashSet<IType> marriedAlienTypeReps= new HashSet<>();
-			for (IType alienType : alienTypes) {
-				checkCanceled(pm);
-				Collection<IMethod> alienMethods= fTypeToMethod.get(alienType);
-				for (IMethod alienMethod : alienMethods) {
-					ITypeHierarchy hierarchy= hierarchy(pm, owner, alienType);
-
-					for (IType subtype : hierarchy.getAllSubtypes(alienType)) {
-						if (relatedSubTypes.contains(subtype)) {
+			if (!newRelatedSubTypes.isEmpty()) {
+				ITypeHierarchy subTypesHierarchy= createHierarchyOfTypes(new SubProgressMonitor(pm, 1), owner, newRelatedSubTypes.stream());
+				for (IType subtype : newRelatedSubTypes) {
+					checkCanceled(pm);
+					for (IType supertype : subTypesHierarchy.getAllSupertypes(subtype)) {
+						if (!alienTypes.contains(supertype))
+							continue;
+						for (IMethod alienMethod : fTypeToMethod.get(supertype)) {
 							if (JavaModelUtil.isVisibleInHierarchy(alienMethod, subtype.getPackageFragment())) {
-								marriedAlienTypeReps.add(fUnionFind.find(alienType));
+								marriedAlienTypeReps.add(fUnionFind.find(supertype));
 							} else {
 								// not overridden
 							}
@@ -350,20 +359,38 @@ public class RippleMethodFinder2 {
 		allTypesInMethodHierarchy.addAll(Arrays.asList(methodHierarchy.getAllInterfaces()));
 
 
+		// reuse cached supertype hierarchies, and compute the missing ones in a single region hierarchy
+		List<IType> uncachedSubtypes= new ArrayList<>();
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
-			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
-			for (IType subtypeSuperType : subtypeSuperTypes) {
-				checkCanceled(pm);
-				if (!allTypesInMethodHierarchy.contains(subtypeSuperType)) {
-					if (definesSimilarMethod(subtypeSuperType, fMethod)) {
-						return true;
-					}
-				}
+			if (owner == null && SuperTypeHierarchyCache.hasInCache(methodTypeSubtype)) {
+				ITypeHierarchy subtypeHierarchy= SuperTypeHierarchyCache.getTypeHierarchy(methodTypeSubtype);
+				if (definesSimilarMethodInSupertypes(pm, subtypeHierarchy, methodTypeSubtype, allTypesInMethodHierarchy))
+					return true;
+			} else {
+				uncachedSubtypes.add(methodTypeSubtype);
 			}
 		}
+		if (uncachedSubtypes.isEmpty())
+			return false;
 
+		ITypeHierarchy subtypesHierarchy= createHierarchyOfTypes(pm, owner, uncachedSubtypes.stream());
+		for (IType methodTypeSubtype : uncachedSubtypes) {
+			if (definesSimilarMethodInSupertypes(pm, subtypesHierarchy, methodTypeSubtype, allTypesInMethodHierarchy))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean definesSimilarMethodInSupertypes(IProgressMonitor pm, ITypeHierarchy hierarchy, IType type, Set<IType> excludedTypes) throws JavaModelException {
+		for (IType supertype : hierarchy.getAllSupertypes(type)) {
+			checkCanceled(pm);
+			if (!excludedTypes.contains(supertype)) {
+				if (definesSimilarMethod(supertype, fMethod)) {
+					return true;
+				}
+			}
+		}
 		return false;
 	}
 
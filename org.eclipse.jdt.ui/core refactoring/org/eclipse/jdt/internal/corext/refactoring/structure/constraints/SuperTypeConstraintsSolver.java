@@ -14,11 +14,9 @@
 package org.eclipse.jdt.internal.corext.refactoring.structure.constraints;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
@@ -28,6 +26,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.CastVariable2;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariableWorkList;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeConstraint2;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeConstraintVariable;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeSet;
@@ -51,7 +50,7 @@ public class SuperTypeConstraintsSolver {
 	protected Map<ICompilationUnit, Collection<CastVariable2>> fObsoleteCasts= null;
 
 	/** The list of constraint variables to be processed */
-	protected LinkedList<ConstraintVariable2> fProcessable= null;
+	protected ConstraintVariableWorkList fProcessable= null;
 
 	/** The type occurrences (element type: <code>&lt;ICompilationUnit, Collection&lt;ITypeConstraintVariable&gt;</code>) */
 	protected Map<ICompilationUnit, Collection<ITypeConstraintVariable>> fTypeOccurrences= null;
@@ -247,7 +246,7 @@ public class SuperTypeConstraintsSolver {
 				final ITypeSet newEstimate= leftEstimate.restrictedTo(constraint.getRight().getTypeEstimate());
 				if (leftEstimate != newEstimate) {
 					set.setTypeEstimate(newEstimate);
-					fProcessable.addAll(Arrays.asList(set.getContributingVariables()));
+					fProcessable.addAll(set.getContributingVariables());
 				}
 			}
 		}
@@ -257,7 +256,6 @@ public class SuperTypeConstraintsSolver {
 	 * Solves the constraints of the associated model.
 	 */
 	public final void solveConstraints() {
-		fProcessable= new LinkedList<>();
 		final Collection<ConstraintVariable2> variables= fModel.getConstraintVariables();
 		final Collection<ITypeConstraint2> constraints= fModel.getTypeConstraints();
 		final int level= fModel.getCompliance();
@@ -267,7 +265,7 @@ public class SuperTypeConstraintsSolver {
 		computeConditionalTypeConstraints(constraints, level);
 
 		computeTypeEstimates(variables);
-		fProcessable.addAll(variables);
+		fProcessable= new ConstraintVariableWorkList(variables);
 		Collection<ITypeConstraint2> usage= null;
 		ConstraintVariable2 variable= null;
 		while (!fProcessable.isEmpty()) {
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -43,6 +44,13 @@ public class EnumeratedTypeSet extends TypeSet {
 	 */
 	Set<TType> fMembers= new LinkedHashSet<>();
 
+	/**
+	 * The ordinals of the members in the {@link TypeSetEnvironment}, or <code>null</code> if
+	 * they have not been computed since the last modification. Used to compare and intersect
+	 * sets without hashing their members.
+	 */
+	private BitSet fMemberBits;
+
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
 	 * All elements of s must be TTypes.
@@ -95,6 +103,10 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (o instanceof EnumeratedTypeSet) {
 			EnumeratedTypeSet other= (EnumeratedTypeSet) o;
 
+			if (fMembers.size() != other.fMembers.size())
+				return false;
+			if (getTypeSetEnvironment() == other.getTypeSetEnvironment())
+				return getMemberBits().equals(other.getMemberBits());
 			return fMembers.equals(other.fMembers);
 		} else if (o instanceof SingletonTypeSet) {
 			SingletonTypeSet other= (SingletonTypeSet) o;
@@ -129,6 +141,21 @@ public class EnumeratedTypeSet extends TypeSet {
 	@Override
 	protected TypeSet specialCasesIntersectedWith(TypeSet s2) {
 		if (s2 instanceof EnumeratedTypeSet) {
+			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
+			if (getTypeSetEnvironment() == ets2.getTypeSetEnvironment()) {
+				BitSet bits= (BitSet) getMemberBits().clone();
+				bits.and(ets2.getMemberBits());
+				if (bits.isEmpty())
+					return getTypeSetEnvironment().getEmptyTypeSet();
+				EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
+				for (TType type : fMembers) {
+					if (bits.get(getTypeSetEnvironment().getTypeOrdinal(type)))
+						result.fMembers.add(type);
+				}
+				result.fMemberBits= bits;
+				return result;
+			}
+
 			EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 			result.addAll(this); // copy first since retainAll() modifies in-place
@@ -154,6 +181,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
 			fMembers= new LinkedHashSet<>();
 			fMembers.addAll(ets2.fMembers);
+			fMemberBits= null;
 		} else
 			retainAll(s2);
 	}
@@ -214,6 +242,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			fMembers= new LinkedHashSet<>();
 		else
 			fMembers.clear();
+		fMemberBits= null;
 	}
 
 	@Override
@@ -228,7 +257,10 @@ public class EnumeratedTypeSet extends TypeSet {
 	public boolean add(TType t) {
 		// Doesn't make sense to do here what other methods do (copy-and-modify)
 		Assert.isTrue(!isUniverse(), "Someone's trying to expand the universe!"); //$NON-NLS-1$
-		return fMembers.add(t);
+		if (!fMembers.add(t))
+			return false;
+		fMemberBits= null;
+		return true;
 	}
 
 	@Override
@@ -241,7 +273,10 @@ public class EnumeratedTypeSet extends TypeSet {
 	public boolean remove(TType t) {
 		if (isUniverse())
 			fMembers= cloneSet(fMembers);
-		return fMembers.remove(t);
+		if (!fMembers.remove(t))
+			return false;
+		fMemberBits= null;
+		return true;
 	}
 
 	private Set<TType> cloneSet(Set<TType> members) {
@@ -249,15 +284,12 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	public boolean addAll(TypeSet s) {
-		if (s instanceof EnumeratedTypeSet) {
-			EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
-
-			return fMembers.addAll(ets.fMembers);
-		} else {
-			EnumeratedTypeSet ets= s.enumerate();
+		EnumeratedTypeSet ets= s.enumerate();
 
-			return fMembers.addAll(ets.fMembers);
-		}
+		if (!fMembers.addAll(ets.fMembers))
+			return false;
+		fMemberBits= null;
+		return true;
 	}
 
 	@Override
@@ -278,13 +310,23 @@ public class EnumeratedTypeSet extends TypeSet {
 			return false;
 		EnumeratedTypeSet ets= s.enumerate();
 
+		if (getTypeSetEnvironment() == ets.getTypeSetEnvironment()) {
+			if (ets.fMembers.size() > fMembers.size())
+				return false;
+			BitSet missing= (BitSet) ets.getMemberBits().clone();
+			missing.andNot(getMemberBits());
+			return missing.isEmpty();
+		}
 		return fMembers.containsAll(ets.fMembers);
 	}
 
 	public boolean removeAll(EnumeratedTypeSet s) {
 		if (isUniverse())
 			fMembers= cloneSet(fMembers);
-		return fMembers.removeAll(s.fMembers);
+		if (!fMembers.removeAll(s.fMembers))
+			return false;
+		fMemberBits= null;
+		return true;
 	}
 
 	public boolean retainAll(TypeSet s) {
@@ -294,9 +336,23 @@ public class EnumeratedTypeSet extends TypeSet {
 
 		if (isUniverse()) {
 			fMembers= cloneSet(ets.fMembers);
+			fMemberBits= null;
 			return true;
-		} else
-			return fMembers.retainAll(ets.fMembers);
+		} else if (getTypeSetEnvironment() == ets.getTypeSetEnvironment()) {
+			BitSet bits= (BitSet) getMemberBits().clone();
+			bits.and(ets.getMemberBits());
+			if (bits.cardinality() == fMembers.size())
+				return false;
+			TypeSetEnvironment environment= getTypeSetEnvironment();
+			fMembers.removeIf(type -> !bits.get(environment.getTypeOrdinal(type)));
+			fMemberBits= bits;
+			return true;
+		} else {
+			if (!fMembers.retainAll(ets.fMembers))
+				return false;
+			fMemberBits= null;
+			return true;
+		}
 	}
 
 	@Override
@@ -399,7 +455,35 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public Iterator<TType> iterator() {
-		return fMembers.iterator();
+		final Iterator<TType> iterator= fMembers.iterator();
+		return new Iterator<TType>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public TType next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				fMemberBits= null;
+			}
+		};
+	}
+
+	private BitSet getMemberBits() {
+		if (fMemberBits == null) {
+			TypeSetEnvironment environment= getTypeSetEnvironment();
+			BitSet bits= new BitSet();
+			for (TType type : fMembers)
+				bits.set(environment.getTypeOrdinal(type));
+			fMemberBits= bits;
+		}
+		return fMemberBits;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -33,6 +35,10 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	private final Map<TType, Integer> fTypeOrdinals= new HashMap<>();
+	private TType[] fTypes= new TType[64];
+	private int fTypeCount;
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
@@ -119,6 +125,36 @@ public class TypeSetEnvironment {
 		}
 	}
 
+	/**
+	 * Returns the ordinal of a type in this environment. Ordinals are dense and
+	 * stable, so type sets can represent their members as bit sets. The ordinal
+	 * is remembered in the type, so the lookup only hashes the type the first
+	 * time it is seen, or when another environment has assigned its ordinal
+	 * since.
+	 *
+	 * @param type the type
+	 * @return the ordinal of the type
+	 */
+	int getTypeOrdinal(TType type) {
+		int ordinal= type.getTypeSetOrdinal();
+		if (ordinal >= 0 && ordinal < fTypeCount && fTypes[ordinal] == type)
+			return ordinal;
+
+		Integer known= fTypeOrdinals.get(type);
+		if (known != null) {
+			ordinal= known.intValue();
+		} else {
+			ordinal= fTypeCount++;
+			if (ordinal == fTypes.length)
+				fTypes= Arrays.copyOf(fTypes, ordinal * 2);
+			fTypes[ordinal]= type;
+			fTypeOrdinals.put(type, Integer.valueOf(ordinal));
+		}
+		if (fTypes[ordinal] == type)
+			type.setTypeSetOrdinal(ordinal);
+		return ordinal;
+	}
+
 	public void dumpStats() {
 		System.out.println("Common expression hits:   " + fgCommonExprHits); //$NON-NLS-1$
 		System.out.println("Common expression misses: " + fgCommonExprMisses); //$NON-NLS-1$
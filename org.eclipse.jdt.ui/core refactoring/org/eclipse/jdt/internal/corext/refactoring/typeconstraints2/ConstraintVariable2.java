@@ -26,6 +26,9 @@ public abstract class ConstraintVariable2 {
 
 	private TypeEquivalenceSet fTypeEquivalenceSet;
 
+	/** Index assigned by the last {@link ConstraintVariableWorkList} this variable was added to */
+	private int fWorkListIndex= -1;
+
 	protected final TType fType;
 
 	/**
@@ -106,6 +109,14 @@ public abstract class ConstraintVariable2 {
 		fTypeEquivalenceSet= set;
 	}
 
+	int getWorkListIndex() {
+		return fWorkListIndex;
+	}
+
+	void setWorkListIndex(int index) {
+		fWorkListIndex= index;
+	}
+
 	@Override
 	public String toString() {
 		String toString= (String) getData(TO_STRING);
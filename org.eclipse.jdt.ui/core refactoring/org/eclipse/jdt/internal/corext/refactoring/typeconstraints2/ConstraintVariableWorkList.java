@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints2;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Work-list of constraint variables for type constraint solvers.
+ * <p>
+ * Each variable gets an index when it is first added. The list is a ring buffer
+ * of indices, and a bit set tells which variables are queued, so adding a
+ * variable that is still waiting to be processed has no effect. Since a
+ * variable is always processed after it has been added the last time, the
+ * solver reaches the same fixpoint as with a list that keeps duplicates.
+ * </p>
+ */
+public final class ConstraintVariableWorkList {
+
+	private ConstraintVariable2[] fVariables;
+	private int fVariableCount;
+
+	private final BitSet fQueued= new BitSet();
+	private int[] fQueue;
+	private int fHead;
+	private int fSize;
+
+	private int fIterationCount;
+	private int fSkippedCount;
+
+	/**
+	 * Creates a work-list containing the given variables.
+	 *
+	 * @param variables the initial variables
+	 */
+	public ConstraintVariableWorkList(Collection<? extends ConstraintVariable2> variables) {
+		int capacity= Math.max(16, variables.size());
+		fVariables= new ConstraintVariable2[capacity];
+		fQueue= new int[capacity];
+		for (ConstraintVariable2 variable : variables)
+			add(variable);
+	}
+
+	/**
+	 * Creates a work-list containing the given variables.
+	 *
+	 * @param variables the initial variables
+	 */
+	public ConstraintVariableWorkList(ConstraintVariable2[] variables) {
+		this(Arrays.asList(variables));
+	}
+
+	/**
+	 * Adds a variable unless it is already queued.
+	 *
+	 * @param variable the variable to add
+	 */
+	public void add(ConstraintVariable2 variable) {
+		int index= indexOf(variable);
+		if (fQueued.get(index)) {
+			fSkippedCount++;
+			return;
+		}
+		fQueued.set(index);
+		if (fSize == fQueue.length) {
+			int[] queue= new int[fQueue.length * 2];
+			int tail= fQueue.length - fHead;
+			System.arraycopy(fQueue, fHead, queue, 0, tail);
+			System.arraycopy(fQueue, 0, queue, tail, fHead);
+			fQueue= queue;
+			fHead= 0;
+		}
+		fQueue[(fHead + fSize) % fQueue.length]= index;
+		fSize++;
+	}
+
+	/**
+	 * Adds all variables that are not queued yet.
+	 *
+	 * @param variables the variables to add
+	 */
+	public void addAll(ConstraintVariable2[] variables) {
+		for (ConstraintVariable2 variable : variables)
+			add(variable);
+	}
+
+	/**
+	 * Removes and returns the first queued variable.
+	 *
+	 * @return the variable
+	 */
+	public ConstraintVariable2 removeFirst() {
+		int index= fQueue[fHead];
+		fHead= (fHead + 1) % fQueue.length;
+		fSize--;
+		fQueued.clear(index);
+		fIterationCount++;
+		return fVariables[index];
+	}
+
+	public boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Returns how many variables have been removed from this work-list.
+	 *
+	 * @return the number of processed variables
+	 */
+	public int getIterationCount() {
+		return fIterationCount;
+	}
+
+	/**
+	 * Returns how many additions were skipped because the variable was already queued.
+	 *
+	 * @return the number of skipped additions
+	 */
+	public int getSkippedCount() {
+		return fSkippedCount;
+	}
+
+	private int indexOf(ConstraintVariable2 variable) {
+		int index= variable.getWorkListIndex();
+		if (index >= 0 && index < fVariableCount && fVariables[index] == variable)
+			return index;
+		if (fVariableCount == fVariables.length)
+			fVariables= Arrays.copyOf(fVariables, fVariableCount * 2);
+		index= fVariableCount++;
+		fVariables[index]= variable;
+		variable.setWorkListIndex(index);
+		return index;
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.refactoring.nls.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.ui.refactoring.nls.search.NLSSearchResultRequestor.UnitSource;
+
+/**
+ * Collects the references to several accessor classes found by a single search and
+ * dispatches each match to the {@link NLSSearchResultRequestor} of the referenced
+ * accessor class. All bundles are loaded before the first match is reported, and
+ * the requestors share the source and scanner of the current compilation unit.
+ */
+class NLSCombinedSearchRequestor extends SearchRequestor {
+
+	private final NLSSearchResult fResult;
+	private final UnitSource fUnitSource= new UnitSource();
+	private final Map<IType, List<NLSSearchResultRequestor>> fRequestors= new LinkedHashMap<>();
+	private final Map<String, List<IType>> fAccessorsBySimpleName= new HashMap<>();
+
+	public NLSCombinedSearchRequestor(NLSSearchResult result) {
+		fResult= result;
+	}
+
+	/**
+	 * Adds an accessor class and its properties file.
+	 *
+	 * @param accessorClass the accessor class
+	 * @param propertiesFile the properties file
+	 * @return the requestor that collects the results for the accessor class
+	 */
+	public NLSSearchResultRequestor addAccessorClass(IType accessorClass, IFile propertiesFile) {
+		NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(propertiesFile, fResult, fUnitSource);
+		List<NLSSearchResultRequestor> requestors= fRequestors.get(accessorClass);
+		if (requestors == null) {
+			requestors= new ArrayList<>(1);
+			fRequestors.put(accessorClass, requestors);
+			fAccessorsBySimpleName.computeIfAbsent(accessorClass.getElementName(), k -> new ArrayList<>(1)).add(accessorClass);
+		}
+		requestors.add(requestor);
+		return requestor;
+	}
+
+	@Override
+	public void beginReporting() {
+		for (List<NLSSearchResultRequestor> requestors : fRequestors.values()) {
+			for (NLSSearchResultRequestor requestor : requestors)
+				requestor.beginReporting();
+		}
+	}
+
+	@Override
+	public void acceptSearchMatch(SearchMatch match) throws CoreException {
+		if (match.getAccuracy() == SearchMatch.A_INACCURATE)
+			return;
+		if (match.getOffset() == -1 || match.getLength() == -1)
+			return;
+		if (!(match.getElement() instanceof IJavaElement))
+			return;
+
+		// matches outside of compilation units never have a key, see NLSSearchResultRequestor#findKey
+		IJavaElement element= (IJavaElement) match.getElement();
+		ICompilationUnit unit= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (unit == null)
+			return;
+
+		IType accessorClass= findReferencedAccessorClass(match, unit);
+		if (accessorClass == null)
+			return;
+		for (NLSSearchResultRequestor requestor : fRequestors.get(accessorClass))
+			requestor.acceptSearchMatch(match);
+	}
+
+	/**
+	 * Finds the accessor class referenced by the given match. The name in the source
+	 * is enough unless several accessor classes have the same simple name.
+	 *
+	 * @param match the match
+	 * @param unit the compilation unit containing the match
+	 * @return the accessor class or <code>null</code> if it cannot be determined
+	 * @throws CoreException if the unit cannot be accessed
+	 */
+	private IType findReferencedAccessorClass(SearchMatch match, ICompilationUnit unit) throws CoreException {
+		String source= fUnitSource.getSource(unit);
+		if (source == null || match.getOffset() + match.getLength() > source.length())
+			return null;
+
+		String reference= source.substring(match.getOffset(), match.getOffset() + match.getLength()).replaceAll("\\s", ""); //$NON-NLS-1$ //$NON-NLS-2$
+		String simpleName= reference.substring(reference.lastIndexOf('.') + 1);
+		List<IType> candidates= fAccessorsBySimpleName.get(simpleName);
+		if (candidates == null)
+			return null;
+		if (candidates.size() == 1)
+			return candidates.get(0);
+
+		if (reference.indexOf('.') != -1) {
+			for (IType candidate : candidates) {
+				if (candidate.getFullyQualifiedName('.').equals(reference))
+					return candidate;
+			}
+		}
+		IJavaElement[] elements= unit.codeSelect(match.getOffset(), match.getLength());
+		for (IJavaElement selected : elements) {
+			if (candidates.contains(selected))
+				return (IType) selected;
+		}
+		return null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
 
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -84,24 +87,45 @@ public class NLSSearchQuery implements ISearchQuery {
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_wrapperNotExists, JavaElementLabels.getElementLabel(wrapperClass, JavaElementLabels.ALL_DEFAULT)), null);
 				if (! propertieFile.exists())
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_propertiesNotExists, BasicElementLabels.getResourceName(propertieFile)), null);
+			}
 
-				SearchPattern pattern= SearchPattern.createPattern(wrapperClass, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			// search the references to all accessor classes at once
+			NLSCombinedSearchRequestor combinedRequestor= new NLSCombinedSearchRequestor(fResult);
+			List<IType> wrapperClasses= new ArrayList<>(fWrapperClass.length);
+			List<NLSSearchResultRequestor> requestors= new ArrayList<>(fWrapperClass.length);
+			List<SearchPattern> patterns= new ArrayList<>(fWrapperClass.length);
+			for (int i= 0; i < fWrapperClass.length; i++) {
+				SearchPattern pattern= SearchPattern.createPattern(fWrapperClass[i], IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 				if (pattern == null) {
+					monitor.worked(5);
 					continue;
 				}
+				IType wrapperClass= (IType) fWrapperClass[i];
+				wrapperClasses.add(wrapperClass);
+				requestors.add(combinedRequestor.addAccessorClass(wrapperClass, fPropertiesFile[i]));
+				patterns.add(pattern);
+			}
+			if (patterns.isEmpty())
+				return Status.OK_STATUS;
+
+			try {
+				SearchPattern pattern= patterns.get(0);
+				for (int i= 1; i < patterns.size(); i++)
+					pattern= SearchPattern.createOrPattern(pattern, patterns.get(i));
 				SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+				SearchEngine engine= new SearchEngine();
+				engine.search(pattern, participants, fScope, combinedRequestor, new SubProgressMonitor(monitor, 4 * patterns.size()));
 
-				NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(propertieFile, fResult);
-				try {
-					SearchEngine engine= new SearchEngine();
-					engine.search(pattern, participants, fScope, requestor, new SubProgressMonitor(monitor, 4));
+				for (int i= 0; i < requestors.size(); i++) {
+					NLSSearchResultRequestor requestor= requestors.get(i);
+					IType wrapperClass= wrapperClasses.get(i);
 					requestor.reportUnusedPropertyNames(new SubProgressMonitor(monitor, 1));
 
-					ICompilationUnit compilationUnit= ((IType)wrapperClass).getCompilationUnit();
+					ICompilationUnit compilationUnit= wrapperClass.getCompilationUnit();
 					CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
 
 					boolean hasUnusedPropertie= false;
-					for (IField field : ((IType)wrapperClass).getFields()) {
+					for (IField field : wrapperClass.getFields()) {
 						if (isNLSField(field)) {
 							ISourceRange sourceRange= field.getSourceRange();
 							if (sourceRange != null) {
@@ -118,10 +142,9 @@ public class NLSSearchQuery implements ISearchQuery {
 					}
 					if (hasUnusedPropertie)
 						fResult.addCompilationUnitGroup(groupElement);
-
-				} catch (CoreException e) {
-					return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
 				}
+			} catch (CoreException e) {
+				return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
 			}
 		} finally {
 			monitor.done();
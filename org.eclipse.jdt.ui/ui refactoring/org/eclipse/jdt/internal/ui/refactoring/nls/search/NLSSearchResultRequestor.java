@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,11 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -44,6 +46,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.compiler.IScanner;
@@ -85,10 +88,31 @@ class NLSSearchResultRequestor extends SearchRequestor {
 	private IFile fPropertiesFile;
 	private Properties fProperties;
 	private HashSet<String> fUsedPropertyNames;
+	private final UnitSource fUnitSource;
+	/**
+	 * Lines of the properties file, read once when the first key position is needed.
+	 */
+	private List<String> fPropertyLines;
+	private List<Integer> fPropertyLineDelimiterLengths;
 
 	public NLSSearchResultRequestor(IFile propertiesFile, NLSSearchResult result) {
+		this(propertiesFile, result, new UnitSource());
+	}
+
+	/**
+	 * @param propertiesFile the properties file of the accessor class
+	 * @param result the search result
+	 * @param unitSource the source of the compilation units, shared by requestors that
+	 *            get matches from the same search
+	 */
+	public NLSSearchResultRequestor(IFile propertiesFile, NLSSearchResult result, UnitSource unitSource) {
 		fPropertiesFile= propertiesFile;
 		fResult= result;
+		fUnitSource= unitSource;
+	}
+
+	public IFile getPropertiesFile() {
+		return fPropertiesFile;
 	}
 
 	/*
@@ -243,20 +267,11 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		if (unit == null)
 			return null;
 
-		String source= unit.getSource();
+		String source= fUnitSource.getSource(unit);
 		if (source == null)
 			return null;
 
-		IJavaProject javaProject= unit.getJavaProject();
-		IScanner scanner= null;
-		if (javaProject != null) {
-			String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
-			String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
-			scanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
-		} else {
-			scanner= ToolFactory.createScanner(false, false, false, false);
-		}
-		scanner.setSource(source.toCharArray());
+		IScanner scanner= fUnitSource.getScanner();
 		scanner.resetTo(keyPositionResult.getOffset() + keyPositionResult.getLength(), source.length());
 
 		try {
@@ -334,6 +349,36 @@ class NLSSearchResultRequestor extends SearchRequestor {
 	 * @return	the start position of the property name in the file, -1 if not found
 	 */
 	private int findPropertyNameStartPosition(String propertyName) {
+		if (fPropertyLines == null)
+			readPropertyLines();
+
+		int start= 0;
+		int keyLength= propertyName.length();
+		for (int i= 0; i < fPropertyLines.size(); i++) {
+			String line= fPropertyLines.get(i);
+			int index= line.indexOf(propertyName);
+			int charPos= index + keyLength;
+			char terminatorChar= 0;
+			boolean hasNoValue= (charPos >= line.length());
+			if (index > -1 && !hasNoValue)
+				terminatorChar= line.charAt(charPos);
+			if (line.trim().startsWith(propertyName) &&
+					(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
+				return start + index;
+			}
+			start += line.length() + fPropertyLineDelimiterLengths.get(i).intValue();
+		}
+		return -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
+	}
+
+	/**
+	 * Reads the lines of the properties file, so that the positions of all unused and
+	 * duplicate keys can be found without reading the file again.
+	 */
+	private void readPropertyLines() {
+		fPropertyLines= new ArrayList<>();
+		fPropertyLineDelimiterLengths= new ArrayList<>();
+
 		// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
 		InputStream stream= null;
 		LineReader lineReader= null;
@@ -349,7 +394,7 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		} catch (CoreException cex) {
 			// failed to get input stream
 			JavaPlugin.log(cex);
-			return -1;
+			return;
 		} catch (IOException e) {
 			if (stream != null) {
 				try {
@@ -358,36 +403,20 @@ class NLSSearchResultRequestor extends SearchRequestor {
 					JavaPlugin.log(ce);
 				}
 			}
-			return -1;
+			return;
 		}
-		int start= 0;
 		try {
 			StringBuffer buf= new StringBuffer(80);
 			int eols= lineReader.readLine(buf);
-			int keyLength= propertyName.length();
 			while (eols > 0) {
-				String line= buf.toString();
-				int i= line.indexOf(propertyName);
-				int charPos= i + keyLength;
-				char terminatorChar= 0;
-				boolean hasNoValue= (charPos >= line.length());
-				if (i > -1 && !hasNoValue)
-					terminatorChar= line.charAt(charPos);
-				if (line.trim().startsWith(propertyName) &&
-						(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
-					start += line.indexOf(propertyName);
-					eols= -17; // found key
-				} else {
-					start += line.length() + eols;
-					buf.setLength(0);
-					eols= lineReader.readLine(buf);
-				}
+				fPropertyLines.add(buf.toString());
+				fPropertyLineDelimiterLengths.add(Integer.valueOf(eols));
+				eols= lineReader.readLine(buf);
 			}
-			if (eols != -17)
-				start= -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
 		} catch (IOException ex) {
 			JavaPlugin.log(ex);
-			return -1;
+			fPropertyLines.clear();
+			fPropertyLineDelimiterLengths.clear();
 		} finally {
 			try {
 				lineReader.close();
@@ -395,7 +424,6 @@ class NLSSearchResultRequestor extends SearchRequestor {
 				JavaPlugin.log(ex);
 			}
 		}
-		return start;
 	}
 
 	private void loadProperties() {
@@ -447,4 +475,47 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		fResult.addFileEntryGroup(groupElement);
 	}
 
+	/**
+	 * Source and scanner of the compilation unit that contains the current match. The search
+	 * engine reports matches unit by unit, so each unit is read and scanned only once, even
+	 * if the matches are dispatched to the requestors of several accessor classes.
+	 */
+	static final class UnitSource {
+
+		private ICompilationUnit fUnit;
+		private String fSource;
+		private IScanner fScanner;
+
+		/**
+		 * @param unit the compilation unit
+		 * @return the source of the unit or <code>null</code> if the unit has no source
+		 * @throws JavaModelException if the source cannot be accessed
+		 */
+		String getSource(ICompilationUnit unit) throws JavaModelException {
+			if (!unit.equals(fUnit)) {
+				fSource= unit.getSource();
+				fUnit= unit;
+				fScanner= null;
+			}
+			return fSource;
+		}
+
+		/**
+		 * @return a scanner on the source of the unit last passed to {@link #getSource(ICompilationUnit)}
+		 */
+		IScanner getScanner() {
+			if (fScanner == null) {
+				IJavaProject javaProject= fUnit.getJavaProject();
+				if (javaProject != null) {
+					String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
+					String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
+					fScanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
+				} else {
+					fScanner= ToolFactory.createScanner(false, false, false, false);
+				}
+				fScanner.setSource(fSource.toCharArray());
+			}
+			return fScanner;
+		}
+	}
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.compare;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+/**
+ * A cache of values computed from the contents of compare inputs, keyed by the contents.
+ * <p>
+ * When comparing many files, the ancestor and one of the sides, or several local history
+ * states, often have the same contents. The cache keeps the most recently used values
+ * as long as neither their number nor the total length of their keys exceeds a given limit.
+ * Values computed from changed contents are cached under a different key, the values of the
+ * old contents are evicted when they are no longer among the most recently used ones.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @param <V> the type of the cached values
+ */
+public class ContentCache<V> {
+
+	private final LinkedHashMap<String, V> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+	private final int fMaxEntries;
+	private final int fMaxCharacters;
+	private int fCharacters;
+
+	/**
+	 * @param maxEntries the maximum number of cached values
+	 * @param maxCharacters the maximum total length of the cached contents
+	 */
+	public ContentCache(int maxEntries, int maxCharacters) {
+		fMaxEntries= maxEntries;
+		fMaxCharacters= maxCharacters;
+	}
+
+	/**
+	 * @param contents the contents
+	 * @return the value cached for the contents, or <code>null</code>
+	 */
+	public synchronized V get(String contents) {
+		return fEntries.get(contents);
+	}
+
+	/**
+	 * Caches a value unless the contents are longer than the capacity of this cache.
+	 *
+	 * @param contents the contents
+	 * @param value the value computed from the contents
+	 */
+	public synchronized void put(String contents, V value) {
+		int length= contents.length();
+		if (length > fMaxCharacters)
+			return;
+		if (fEntries.put(contents, value) == null)
+			fCharacters+= length;
+		Iterator<Entry<String, V>> iter= fEntries.entrySet().iterator();
+		while (fCharacters > fMaxCharacters || fEntries.size() > fMaxEntries) {
+			// the entry just added is the most recently used one and is never removed
+			String eldest= iter.next().getKey();
+			iter.remove();
+			fCharacters-= eldest.length();
+		}
+	}
+}
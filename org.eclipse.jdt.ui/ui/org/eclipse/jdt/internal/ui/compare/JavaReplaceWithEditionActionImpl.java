@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,6 @@ package org.eclipse.jdt.internal.ui.compare;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
-import org.eclipse.team.core.TeamException;
-import org.eclipse.team.ui.history.ElementLocalHistoryPageSource;
 import org.eclipse.team.ui.history.HistoryPageCompareEditorInput;
 
 import org.eclipse.swt.widgets.Shell;
@@ -106,13 +104,13 @@ class JavaReplaceWithEditionActionImpl extends JavaHistoryActionImpl {
 			String errorTitle= CompareMessages.ReplaceFromHistory_title;
 			String errorMessage= CompareMessages.ReplaceFromHistory_internalErrorMessage;
 			try {
-				ITypedElement ti = ElementLocalHistoryPageSource.getPreviousEdition(file, input);
+				ITypedElement ti = MemberHistory.getPreviousEdition(file, input, null);
 				if (ti == null) {
 					MessageDialog.openInformation(shell, errorTitle, CompareMessages.ReplaceFromHistory_parsingErrorMessage);
 					return;
 				}
 				replace(input, file, ti);
-			} catch (TeamException e) {
+			} catch (CoreException e) {
 				ExceptionHandler.handle(e, shell, errorTitle, errorMessage);
 			}
 		} else {
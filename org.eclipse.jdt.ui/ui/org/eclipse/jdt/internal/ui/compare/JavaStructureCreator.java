@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,11 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 public class JavaStructureCreator extends StructureCreator {
 
+	/**
+	 * Contents without white space of recently compared nodes, keyed by the contents.
+	 */
+	private static final ContentCache<String> fgContentsCache= new ContentCache<>(1000, 2 * 1024 * 1024);
+
 	private Map<String, String> fDefaultCompilerOptions;
 
 	/**
@@ -321,6 +326,11 @@ public class JavaStructureCreator extends StructureCreator {
 		if (!ignoreWhiteSpace)
 			return content;
 
+		String cached= fgContentsCache.get(content);
+		if (cached != null)
+			return cached;
+		String raw= content;
+
 		// replace whitespace by a single blank
 		StringBuilder buf= new StringBuilder();
 		char[] b= content.toCharArray();
@@ -352,6 +362,7 @@ public class JavaStructureCreator extends StructureCreator {
 				}
 			}
 			content= buf.toString(); // success!
+			fgContentsCache.put(raw, content);
 		} catch (InvalidInputException ex) {
 			// NeedWork
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.compare;
 
+import java.util.Arrays;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.compare.contentmergeviewer.ITokenComparator;
@@ -34,6 +36,11 @@ public class JavaTokenComparator implements ITokenComparator {
 
 	private static final boolean DEBUG= false;
 
+	/**
+	 * Token ranges of recently compared texts, keyed by the text. The arrays are never modified.
+	 */
+	private static final ContentCache<int[][]> fgTokenCache= new ContentCache<>(1000, 4 * 1024 * 1024);
+
 	private final String fText;
 	private int fCount;
 	private int[] fStarts;
@@ -45,10 +52,33 @@ public class JavaTokenComparator implements ITokenComparator {
 	 * @param text the text to be tokenized
 	 */
 	public JavaTokenComparator(String text) {
+		this(text, true);
+	}
+
+	private JavaTokenComparator(String text, boolean useCache) {
 		Assert.isLegal(text != null);
 
 		fText= text;
 
+		int[][] ranges= useCache ? fgTokenCache.get(text) : null;
+		if (ranges != null) {
+			fStarts= ranges[0];
+			fLengths= ranges[1];
+			fCount= fStarts.length;
+			return;
+		}
+
+		tokenize();
+
+		// the arrays were allocated for the worst case of one token per character
+		fStarts= Arrays.copyOf(fStarts, fCount);
+		fLengths= Arrays.copyOf(fLengths, fCount);
+		if (useCache)
+			fgTokenCache.put(text, new int[][] { fStarts, fLengths });
+	}
+
+	private void tokenize() {
+		String text= fText;
 		int length= fText.length();
 		fStarts= new int[length];
 		fLengths= new int[length];
@@ -103,7 +133,7 @@ public class JavaTokenComparator implements ITokenComparator {
 		if (DEBUG)
 			System.out.println("parsingText>" + text + "<(" + start + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-		ITokenComparator subTokenizer= javaCode ? new JavaTokenComparator(text) : new TokenComparator(text);
+		ITokenComparator subTokenizer= javaCode ? new JavaTokenComparator(text, false) : new TokenComparator(text);
 		int count= subTokenizer.getRangeCount();
 		for (int i= 0; i < count; i++) {
 			int subStart= subTokenizer.getTokenStart(i);
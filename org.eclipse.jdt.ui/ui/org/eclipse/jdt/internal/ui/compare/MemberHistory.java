@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.compare;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFileState;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.compare.HistoryItem;
+import org.eclipse.compare.IStreamContentAccessor;
+import org.eclipse.compare.ITypedElement;
+import org.eclipse.compare.ResourceNode;
+import org.eclipse.compare.structuremergeviewer.IStructureComparator;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIStatus;
+
+/**
+ * Finds the local history states of a file in which a member changed without building the
+ * structure of every state.
+ * <p>
+ * The structure of a state is built once to compute a fingerprint of the contents of each
+ * member. The fingerprints are kept in a small index per file, which is persisted in the state
+ * location of the plug-in, so later requests only build the structure of the states they return.
+ * States never change, so the index is only extended with new states and pruned from states
+ * that no longer exist. The index files of files that no longer exist or that were not used for
+ * longer than the local history keeps its states are removed.
+ * </p>
+ * <p>
+ * Only "Replace with Previous Element from Local History" uses the index. The "Compare With"
+ * and "Replace With Element from Local History" pages are created by
+ * {@link JavaElementHistoryPageSource}, whose superclass builds the structure of every state
+ * itself.
+ * </p>
+ */
+public final class MemberHistory {
+
+	private static final String INDEX_FOLDER= "memberHistory"; //$NON-NLS-1$
+	private static final String INDEX_EXTENSION= ".idx"; //$NON-NLS-1$
+	private static final int MAGIC= 0x4A4D4849; // "JMHI"
+	private static final int VERSION= 1;
+	private static final int MAX_FILES= 10;
+
+	private static final char PATH_SEPARATOR= '/';
+
+	/**
+	 * The fingerprints of the members in the states of a file, keyed by the modification time
+	 * of the state.
+	 */
+	private static final class FileIndex {
+		final String fPath;
+		final Map<Long, Map<String, Long>> fStates= new HashMap<>();
+		boolean fDirty;
+
+		FileIndex(String path) {
+			fPath= path;
+		}
+	}
+
+	private static boolean fgStaleIndexesRemoved;
+
+	private static final Map<String, FileIndex> fgIndices= new LinkedHashMap<String, FileIndex>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, FileIndex> eldest) {
+			return size() > MAX_FILES;
+		}
+	};
+
+	private MemberHistory() {
+	}
+
+	/**
+	 * Returns the member in the most recent local history state of the file in which it differs
+	 * from the current contents of the file.
+	 *
+	 * @param file the file
+	 * @param member the member
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the member in the previous edition, or <code>null</code> if there is none
+	 * @throws CoreException if the history or the contents of the file cannot be read
+	 */
+	public static ITypedElement getPreviousEdition(IFile file, IMember member, IProgressMonitor monitor) throws CoreException {
+		JavaStructureCreator creator= createStructureCreator(member);
+		String[] path= creator.getPath(member, null);
+		if (path == null)
+			return null;
+		String key= String.join(String.valueOf(PATH_SEPARATOR), path);
+
+		SubMonitor progress= SubMonitor.convert(monitor, 2);
+		IFileState[] states= file.getHistory(progress.split(1));
+		Long current= computeFingerprints(creator, getCurrentContents(file)).get(key);
+
+		FileIndex index= getIndex(file);
+		try {
+			SubMonitor loopProgress= progress.split(1).setWorkRemaining(states.length);
+			for (IFileState state : states) {
+				Long fingerprint= getFingerprints(creator, file, state, index).get(key);
+				loopProgress.worked(1);
+				if (fingerprint != null && !fingerprint.equals(current)) {
+					IStructureComparator node= creator.locate(member, createEdition(file, state));
+					if (node instanceof ITypedElement)
+						return (ITypedElement) node;
+				}
+			}
+		} finally {
+			save(index, states);
+		}
+		return null;
+	}
+
+	private static JavaStructureCreator createStructureCreator(IMember member) {
+		JavaStructureCreator creator= new JavaStructureCreator();
+		IJavaProject javaProject= member.getJavaProject();
+		if (javaProject != null)
+			creator.setDefaultCompilerOptions(javaProject.getOptions(true));
+		return creator;
+	}
+
+	private static ITypedElement createEdition(IFile file, IFileState state) {
+		return new HistoryItem(new ResourceNode(file), state);
+	}
+
+	private static String getCurrentContents(IFile file) throws CoreException {
+		ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+		if (buffer != null)
+			return buffer.getDocument().get();
+		return JavaCompareUtilities.readString(new ResourceNode(file));
+	}
+
+	private static Map<String, Long> getFingerprints(JavaStructureCreator creator, IFile file, IFileState state, FileIndex index) throws CoreException {
+		Long modificationTime= Long.valueOf(state.getModificationTime());
+		synchronized (index) {
+			Map<String, Long> fingerprints= index.fStates.get(modificationTime);
+			if (fingerprints != null)
+				return fingerprints;
+		}
+		String contents= JavaCompareUtilities.readString((IStreamContentAccessor) createEdition(file, state));
+		Map<String, Long> fingerprints= computeFingerprints(creator, contents);
+		synchronized (index) {
+			index.fStates.put(modificationTime, fingerprints);
+			index.fDirty= true;
+		}
+		return fingerprints;
+	}
+
+	private static Map<String, Long> computeFingerprints(JavaStructureCreator creator, String contents) throws CoreException {
+		Map<String, Long> fingerprints= new HashMap<>();
+		if (contents == null)
+			return fingerprints;
+		IStructureComparator root= creator.createStructureComparator(null, new Document(contents), null, null);
+		if (root instanceof JavaNode)
+			addFingerprints((JavaNode) root, null, contents, fingerprints);
+		return fingerprints;
+	}
+
+	private static void addFingerprints(JavaNode parent, String parentPath, String contents, Map<String, Long> fingerprints) {
+		Object[] children= parent.getChildren();
+		if (children == null)
+			return;
+		for (Object child : children) {
+			JavaNode node= (JavaNode) child;
+			String path= parentPath == null ? node.getId() : parentPath + PATH_SEPARATOR + node.getId();
+			Position range= node.getRange();
+			int end= Math.min(range.getOffset() + range.getLength(), contents.length());
+			fingerprints.put(path, Long.valueOf(fingerprint(contents, range.getOffset(), end)));
+			addFingerprints(node, path, contents, fingerprints);
+		}
+	}
+
+	/**
+	 * Computes a 64-bit FNV-1a hash of a range of characters.
+	 *
+	 * @param contents the contents
+	 * @param start the start of the range
+	 * @param end the end of the range, exclusive
+	 * @return the hash of the range
+	 */
+	private static long fingerprint(String contents, int start, int end) {
+		long hash= 0xcbf29ce484222325L;
+		for (int i= start; i < end; i++) {
+			hash^= contents.charAt(i);
+			hash*= 0x100000001b3L;
+		}
+		return hash ^ (end - start);
+	}
+
+	private static FileIndex getIndex(IFile file) {
+		String path= file.getFullPath().toString();
+		synchronized (fgIndices) {
+			if (!fgStaleIndexesRemoved) {
+				fgStaleIndexesRemoved= true;
+				removeStaleIndexes();
+			}
+			FileIndex index= fgIndices.get(path);
+			if (index == null) {
+				index= load(path);
+				fgIndices.put(path, index);
+			}
+			return index;
+		}
+	}
+
+	private static File getIndexFolder() {
+		return JavaPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toFile();
+	}
+
+	/**
+	 * Returns the file that stores the index of a file.
+	 *
+	 * @param file the file
+	 * @return the index file, which may not exist
+	 */
+	public static File getIndexFile(IFile file) {
+		return getIndexFile(file.getFullPath().toString());
+	}
+
+	private static File getIndexFile(String path) {
+		return new File(getIndexFolder(), Long.toHexString(fingerprint(path, 0, path.length())) + INDEX_EXTENSION);
+	}
+
+	/**
+	 * Removes the index files of files that no longer exist and of files whose index was not
+	 * used for longer than the local history keeps its states. The indices kept in memory are
+	 * discarded.
+	 */
+	public static void removeStaleIndexes() {
+		synchronized (fgIndices) {
+			fgIndices.clear();
+			File[] files= getIndexFolder().listFiles((dir, name) -> name.endsWith(INDEX_EXTENSION));
+			if (files == null)
+				return;
+			long oldest= System.currentTimeMillis() - ResourcesPlugin.getWorkspace().getDescription().getFileStateLongevity();
+			for (File file : files) {
+				if (file.lastModified() < oldest || !indexedFileExists(file))
+					file.delete();
+			}
+		}
+	}
+
+	private static boolean indexedFileExists(File indexFile) {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return false;
+			return ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(in.readUTF())).exists();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static FileIndex load(String path) {
+		FileIndex index= new FileIndex(path);
+		File file= getIndexFile(path);
+		if (!file.exists())
+			return index;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !path.equals(in.readUTF()))
+				return index;
+			int stateCount= in.readInt();
+			for (int i= 0; i < stateCount; i++) {
+				Long modificationTime= Long.valueOf(in.readLong());
+				int memberCount= in.readInt();
+				Map<String, Long> fingerprints= new HashMap<>(memberCount * 2);
+				for (int k= 0; k < memberCount; k++)
+					fingerprints.put(in.readUTF(), Long.valueOf(in.readLong()));
+				index.fStates.put(modificationTime, fingerprints);
+			}
+		} catch (IOException e) {
+			index.fStates.clear();
+			JavaPlugin.log(JavaUIStatus.createError(IStatus.ERROR, e.getMessage(), e));
+		}
+		return index;
+	}
+
+	/**
+	 * Removes the states that no longer exist from the index and writes it if it changed. An
+	 * index that did not change is marked as used, an index without states is deleted.
+	 *
+	 * @param index the index
+	 * @param states the existing states of the file
+	 */
+	private static void save(FileIndex index, IFileState[] states) {
+		synchronized (index) {
+			Set<Long> existing= new HashSet<>();
+			for (IFileState state : states)
+				existing.add(Long.valueOf(state.getModificationTime()));
+			if (index.fStates.keySet().retainAll(existing))
+				index.fDirty= true;
+
+			File file= getIndexFile(index.fPath);
+			if (index.fStates.isEmpty()) {
+				file.delete();
+				index.fDirty= false;
+				return;
+			}
+			if (!index.fDirty) {
+				if (file.exists())
+					file.setLastModified(System.currentTimeMillis());
+				return;
+			}
+			file.getParentFile().mkdirs();
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeUTF(index.fPath);
+				out.writeInt(index.fStates.size());
+				for (Map.Entry<Long, Map<String, Long>> state : index.fStates.entrySet()) {
+					out.writeLong(state.getKey().longValue());
+					out.writeInt(state.getValue().size());
+					for (Map.Entry<String, Long> member : state.getValue().entrySet()) {
+						out.writeUTF(member.getKey());
+						out.writeLong(member.getValue().longValue());
+					}
+				}
+				index.fDirty= false;
+			} catch (IOException e) {
+				JavaPlugin.log(JavaUIStatus.createError(IStatus.ERROR, e.getMessage(), e));
+			}
+		}
+	}
+}
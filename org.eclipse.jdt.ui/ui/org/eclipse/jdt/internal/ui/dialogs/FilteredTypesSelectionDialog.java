@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -486,6 +487,9 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		typeSearchFilter.setMatchEverythingMode(true);
 
 		try {
+			// the resident index answers queries without waiting for the search engine
+			if (TypeNameIndex.getInstance().search(typeSearchFilter.getTypeInfoFilter(), requestor, progressMonitor))
+				return;
 			engine.searchAllTypeNames(packPattern == null ? null : packPattern.toCharArray(),
 					typeSearchFilter.getPackageFlags(),
 					typePattern.toCharArray(),
@@ -943,6 +947,10 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 			return true;
 		}
 
+		public TypeInfoFilter getTypeInfoFilter() {
+			return fTypeInfoFilter;
+		}
+
 		public int getElementKind() {
 			return fTypeInfoFilter.getElementKind();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,6 +87,18 @@ public abstract class AbstractCleanUp implements ICleanUp {
 		return new CleanUpRequirements(false, false, false, null);
 	}
 
+	/**
+	 * Tells whether this clean up needs an AST with resolved bindings. Only relevant if
+	 * {@link #getRequirements()} requires an AST. Clean ups that only look at the syntax
+	 * can return <code>false</code>, which allows to parse the compilation unit without
+	 * resolving bindings if no other clean up needs them.
+	 *
+	 * @return <code>true</code> if this clean up needs resolved bindings
+	 */
+	public boolean requiresBindings() {
+		return true;
+	}
+
 	/*
 	 * @see org.eclipse.jdt.ui.cleanup.ICleanUp#checkPreConditions(org.eclipse.jdt.core.IJavaProject, org.eclipse.jdt.core.ICompilationUnit[], org.eclipse.core.runtime.IProgressMonitor)
 	 * @since 3.5
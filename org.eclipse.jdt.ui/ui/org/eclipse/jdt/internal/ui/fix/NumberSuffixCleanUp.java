@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Fabrice TIERCELIN and others.
+ * Copyright (c) 2019, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,11 @@ public class NumberSuffixCleanUp extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
 	}
 
+	@Override
+	public boolean requiresBindings() {
+		return false;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.NUMBER_SUFFIX)) {
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIStatus;
+
+/**
+ * Remembers the name of the source file of the class files exported to a JAR.
+ * <p>
+ * Finding the class files of a compilation unit requires reading the source file attribute of
+ * every class file in its output folder. The names are kept together with the modification
+ * stamp and the local time stamp of the class file, so a re-export of the same JAR only reads
+ * the class files that were built again since the last export. The index is persisted in the
+ * state location of the plug-in, one file per JAR location. The files of JARs that no longer
+ * exist or that were not exported for {@link #MAX_AGE} are removed.
+ * </p>
+ * <p>
+ * This class is not thread safe. An index is only used by one export at a time.
+ * </p>
+ */
+public final class ClassFileSourceIndex {
+
+	private static final String INDEX_FOLDER= "jarExport"; //$NON-NLS-1$
+	private static final String INDEX_EXTENSION= ".idx"; //$NON-NLS-1$
+	private static final int MAGIC= 0x4A434649; // "JCFI"
+	private static final int VERSION= 1;
+
+	/**
+	 * The time after which the index of a JAR that is not exported again is removed.
+	 */
+	private static final long MAX_AGE= TimeUnit.DAYS.toMillis(30);
+
+	private static boolean fgStaleIndexesRemoved;
+
+	private static final class Entry {
+		final long fModificationStamp;
+		final long fLocalTimeStamp;
+		final String fSourceName;
+
+		Entry(long modificationStamp, long localTimeStamp, String sourceName) {
+			fModificationStamp= modificationStamp;
+			fLocalTimeStamp= localTimeStamp;
+			fSourceName= sourceName;
+		}
+	}
+
+	private final String fJarLocation;
+	private final Map<String, Entry> fEntries= new HashMap<>();
+	private boolean fDirty;
+
+	private ClassFileSourceIndex(String jarLocation) {
+		fJarLocation= jarLocation;
+	}
+
+	/**
+	 * Returns the source file name recorded for a class file if the class file did not change
+	 * since it was recorded.
+	 *
+	 * @param classFile the class file
+	 * @return the name of the source file, or <code>null</code> if the class file must be read
+	 */
+	public String getSourceName(IFile classFile) {
+		Entry entry= fEntries.get(classFile.getFullPath().toString());
+		if (entry == null
+				|| entry.fModificationStamp != classFile.getModificationStamp()
+				|| entry.fLocalTimeStamp != classFile.getLocalTimeStamp())
+			return null;
+		return entry.fSourceName;
+	}
+
+	/**
+	 * Records the source file name read from a class file.
+	 *
+	 * @param classFile the class file
+	 * @param sourceName the name of the source file
+	 */
+	public void putSourceName(IFile classFile, String sourceName) {
+		fEntries.put(classFile.getFullPath().toString(), new Entry(classFile.getModificationStamp(), classFile.getLocalTimeStamp(), sourceName));
+		fDirty= true;
+	}
+
+	private static File getIndexFolder() {
+		return JavaPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toFile();
+	}
+
+	/**
+	 * Returns the file that stores the index of a JAR.
+	 *
+	 * @param jarLocation the absolute location of the JAR
+	 * @return the index file, which may not exist
+	 */
+	public static File getIndexFile(IPath jarLocation) {
+		return getIndexFile(jarLocation.toOSString());
+	}
+
+	private static File getIndexFile(String jarLocation) {
+		return new File(getIndexFolder(), Integer.toHexString(jarLocation.hashCode()) + INDEX_EXTENSION);
+	}
+
+	/**
+	 * Removes the index files of JARs that no longer exist and of JARs that were not exported
+	 * for {@link #MAX_AGE}.
+	 */
+	public static void removeStaleIndexes() {
+		File[] files= getIndexFolder().listFiles((dir, name) -> name.endsWith(INDEX_EXTENSION));
+		if (files == null)
+			return;
+		long oldest= System.currentTimeMillis() - MAX_AGE;
+		for (File file : files) {
+			if (file.lastModified() < oldest || !jarExists(file))
+				file.delete();
+		}
+	}
+
+	private static boolean jarExists(File indexFile) {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return false;
+			return new File(in.readUTF()).exists();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Loads the index of a JAR.
+	 *
+	 * @param jarLocation the absolute location of the JAR
+	 * @return the index, empty if the JAR was not exported before
+	 */
+	public static ClassFileSourceIndex load(IPath jarLocation) {
+		if (!fgStaleIndexesRemoved) {
+			fgStaleIndexesRemoved= true;
+			removeStaleIndexes();
+		}
+		ClassFileSourceIndex index= new ClassFileSourceIndex(jarLocation.toOSString());
+		File file= getIndexFile(index.fJarLocation);
+		if (!file.exists())
+			return index;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !index.fJarLocation.equals(in.readUTF()))
+				return index;
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				String path= in.readUTF();
+				index.fEntries.put(path, new Entry(in.readLong(), in.readLong(), in.readUTF()));
+			}
+		} catch (IOException e) {
+			index.fEntries.clear();
+			JavaPlugin.log(JavaUIStatus.createError(IStatus.ERROR, e.getMessage(), e));
+		}
+		return index;
+	}
+
+	/**
+	 * Removes the class files that no longer exist and writes the index if it changed. An index
+	 * that did not change is marked as used.
+	 */
+	public void save() {
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		for (Iterator<String> iter= fEntries.keySet().iterator(); iter.hasNext();) {
+			if (!root.getFile(new Path(iter.next())).exists()) {
+				iter.remove();
+				fDirty= true;
+			}
+		}
+		File file= getIndexFile(fJarLocation);
+		if (!fDirty) {
+			if (file.exists())
+				file.setLastModified(System.currentTimeMillis());
+			return;
+		}
+
+		file.getParentFile().mkdirs();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(fJarLocation);
+			out.writeInt(fEntries.size());
+			for (Map.Entry<String, Entry> entry : fEntries.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().fModificationStamp);
+				out.writeLong(entry.getValue().fLocalTimeStamp);
+				out.writeUTF(entry.getValue().fSourceName);
+			}
+			fDirty= false;
+		} catch (IOException e) {
+			JavaPlugin.log(JavaUIStatus.createError(IStatus.ERROR, e.getMessage(), e));
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * A bounded queue between a producer that walks the elements to export and the thread that
+ * writes them to the JAR. The producer runs in a background job and overlaps the collection of
+ * the files and the lookup of the class files with the compression of the entries. As the queue
+ * is bounded, the memory used does not depend on the number of exported files.
+ * <p>
+ * Only the thread that calls {@link #run(IExportTask, IProgressMonitor)} executes the tasks,
+ * so the JAR builder and the progress monitor are never accessed concurrently.
+ * </p>
+ */
+final class JarExportQueue {
+
+	/**
+	 * A unit of work of the export.
+	 */
+	interface IExportTask {
+
+		/**
+		 * @param progressMonitor the progress monitor of the operation
+		 * @throws InterruptedException if the export is canceled
+		 */
+		void run(IProgressMonitor progressMonitor) throws InterruptedException;
+	}
+
+	private static final int CAPACITY= 256;
+	private static final long POLL_INTERVAL= 100;
+
+	private final BlockingQueue<IExportTask> fTasks= new ArrayBlockingQueue<>(CAPACITY);
+	private volatile boolean fCanceled;
+	private volatile boolean fProducerDone;
+	private volatile Throwable fProducerFailure;
+
+	/**
+	 * A progress monitor for the producer. Progress is forwarded through the queue, cancellation
+	 * is reported when the operation is canceled.
+	 */
+	private final IProgressMonitor fProducerMonitor= new NullProgressMonitor() {
+		@Override
+		public void worked(int work) {
+			offer(monitor -> monitor.worked(work));
+		}
+
+		@Override
+		public void subTask(String name) {
+			offer(monitor -> monitor.subTask(name));
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fCanceled;
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			if (canceled)
+				fCanceled= true;
+		}
+	};
+
+	/**
+	 * Adds a task, waiting while the queue is full.
+	 *
+	 * @param task the task to execute in the thread of the operation
+	 * @throws InterruptedException if the export is canceled
+	 */
+	void put(IExportTask task) throws InterruptedException {
+		while (!fTasks.offer(task, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+			if (fCanceled)
+				throw new InterruptedException();
+		}
+	}
+
+	private void offer(IExportTask task) {
+		try {
+			put(task);
+		} catch (InterruptedException e) {
+			fCanceled= true;
+		}
+	}
+
+	/**
+	 * Runs the producer in a background job and executes the tasks it adds until it is done.
+	 *
+	 * @param producer the producer, called with a progress monitor that forwards to the queue
+	 * @param progressMonitor the progress monitor of the operation
+	 * @throws InterruptedException if the export is canceled
+	 */
+	void run(IExportTask producer, IProgressMonitor progressMonitor) throws InterruptedException {
+		Job job= Job.create(JarPackagerMessages.JarFileExportOperation_exportJob, monitor -> {
+			try {
+				producer.run(fProducerMonitor);
+			} catch (InterruptedException | RuntimeException e) {
+				fProducerFailure= e;
+			} finally {
+				fProducerDone= true;
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.schedule();
+
+		boolean completed= false;
+		try {
+			while (true) {
+				if (progressMonitor.isCanceled())
+					throw new InterruptedException();
+				IExportTask task= fTasks.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (task != null)
+					task.run(progressMonitor);
+				else if (fProducerDone && fTasks.isEmpty())
+					break;
+			}
+			completed= true;
+		} finally {
+			if (!completed) {
+				fCanceled= true;
+				fTasks.clear();
+			}
+			job.join();
+		}
+
+		Throwable failure= fProducerFailure;
+		if (failure instanceof InterruptedException)
+			throw (InterruptedException) failure;
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+	}
+}
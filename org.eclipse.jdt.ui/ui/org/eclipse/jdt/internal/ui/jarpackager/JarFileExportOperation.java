@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,7 @@ import org.eclipse.jdt.ui.refactoring.RefactoringSaveHelper;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackager.JarExportQueue.IExportTask;
 import org.eclipse.jdt.internal.ui.util.BusyIndicatorRunnableContext;
 
 /**
@@ -109,6 +110,25 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		protected void setMessage(String message) {
 			super.setMessage(message);
 		}
+		/*
+		 * the elements may be collected in a background job
+		 */
+		@Override
+		public synchronized void add(IStatus status) {
+			super.add(status);
+		}
+		@Override
+		public synchronized void addAll(IStatus status) {
+			super.addAll(status);
+		}
+		@Override
+		public synchronized void merge(IStatus status) {
+			super.merge(status);
+		}
+		@Override
+		public synchronized IStatus[] getChildren() {
+			return super.getChildren();
+		}
 	}
 
 	private IJarBuilder fJarBuilder;
@@ -121,6 +141,8 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 	private MessageMultiStatus fStatus;
 	private StandardJavaElementContentProvider fJavaElementContentProvider;
 	private boolean fFilesSaved;
+	private JarExportQueue fExportQueue;
+	private ClassFileSourceIndex fClassFileSourceIndex;
 
 	/**
 	 * Creates an instance of this class.
@@ -399,21 +421,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 	private void exportJavaElement(IProgressMonitor progressMonitor, IJavaElement je) throws InterruptedException {
 		if (je.getElementType() == IJavaElement.PACKAGE_FRAGMENT_ROOT && ((IPackageFragmentRoot) je).isArchive()) {
 			IPackageFragmentRoot root= (IPackageFragmentRoot) je;
-			ZipFile jarFile= null;
-			try {
-				jarFile= JarPackagerUtil.getArchiveFile(root.getPath());
-				fJarBuilder.writeArchive(jarFile, progressMonitor);
-			} catch (CoreException e) {
-				addWarning(Messages.format(JarPackagerMessages.JarFileExportOperation_OpenZipFileError_message, new Object[] { JavaElementLabels.getElementLabel(root, JavaElementLabels.ALL_DEFAULT), e.getLocalizedMessage() }), e);
-			} finally {
-				try {
-					if (jarFile != null) {
-						jarFile.close();
-					}
-				} catch (IOException e) {
-					addWarning(Messages.format(JarPackagerMessages.JarFileExportOperation_CloseZipFileError_message, new Object[] { JavaElementLabels.getElementLabel(root, JavaElementLabels.ALL_DEFAULT), e.getLocalizedMessage() }), e);
-				}
-			}
+			write(progressMonitor, monitor -> writeArchive(root, monitor));
 			return;
 		} else if (je.getElementType() == IJavaElement.PACKAGE_FRAGMENT_ROOT && ((IPackageFragmentRoot) je).isExternal()) {
 			//External class folder
@@ -430,6 +438,24 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		}
 	}
 
+	private void writeArchive(IPackageFragmentRoot root, IProgressMonitor progressMonitor) {
+		ZipFile jarFile= null;
+		try {
+			jarFile= JarPackagerUtil.getArchiveFile(root.getPath());
+			fJarBuilder.writeArchive(jarFile, progressMonitor);
+		} catch (CoreException e) {
+			addWarning(Messages.format(JarPackagerMessages.JarFileExportOperation_OpenZipFileError_message, new Object[] { JavaElementLabels.getElementLabel(root, JavaElementLabels.ALL_DEFAULT), e.getLocalizedMessage() }), e);
+		} finally {
+			try {
+				if (jarFile != null) {
+					jarFile.close();
+				}
+			} catch (IOException e) {
+				addWarning(Messages.format(JarPackagerMessages.JarFileExportOperation_CloseZipFileError_message, new Object[] { JavaElementLabels.getElementLabel(root, JavaElementLabels.ALL_DEFAULT), e.getLocalizedMessage() }), e);
+			}
+		}
+	}
+
 	private void exportExternalClassFolder(IPackageFragmentRoot classFolder, IProgressMonitor progressMonitor) throws InterruptedException {
 		try {
 			for (IJavaElement child : classFolder.getChildren()) {
@@ -448,9 +474,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 			IPath destination= path.removeFirstSegments(classFolderPath.segmentCount()).setDevice(null);
 
 			try {
-				((IJarBuilderExtension) fJarBuilder).writeFile(path.toFile(), destination);
-			} catch (CoreException e) {
-				handleCoreExceptionOnExport(e);
+				write(progressMonitor, monitor -> writeFile(path.toFile(), destination));
 			} finally {
 				progressMonitor.worked(1);
 				ModalContext.checkCanceled(progressMonitor);
@@ -479,10 +503,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		} else if (resource instanceof IFile) {
 			try {
 				IPath destinationPath= resource.getFullPath().removeFirstSegments(leadingSegmentsToRemove);
-				progressMonitor.subTask(Messages.format(JarPackagerMessages.JarFileExportOperation_exporting, BasicElementLabels.getPathLabel(destinationPath, false)));
-				fJarBuilder.writeFile((IFile)resource, destinationPath);
-			} catch (CoreException ex) {
-				handleCoreExceptionOnExport(ex);
+				write(progressMonitor, monitor -> writeFile(monitor, (IFile) resource, destinationPath));
 			} finally {
 				progressMonitor.worked(1);
 				ModalContext.checkCanceled(progressMonitor);
@@ -542,7 +563,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 			return findPackageFragmentRoot(jProject, path.removeLastSegments(1));
 	}
 
-	private void exportResource(IProgressMonitor progressMonitor, IPackageFragmentRoot pkgRoot, boolean isInJavaProject, IResource resource, IPath destinationPath) {
+	private void exportResource(IProgressMonitor progressMonitor, IPackageFragmentRoot pkgRoot, boolean isInJavaProject, IResource resource, IPath destinationPath) throws InterruptedException {
 
 		// Handle case where META-INF/MANIFEST.MF is part of the exported files
 		if (fJarPackage.areClassFilesExported() && "META-INF/MANIFEST.MF".equals(destinationPath.toString())) {//$NON-NLS-1$
@@ -562,12 +583,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 					((isNonJavaResource || (pkgRoot != null && !isJavaFile(resource) && !isClassFile(resource)))
 					|| isInClassFolder && isClassFile(resource)))
 			|| (fJarPackage.areJavaFilesExported() && (isNonJavaResource || (pkgRoot != null && !isClassFile(resource)) || (isInClassFolder && isClassFile(resource) && !fJarPackage.areClassFilesExported())))) {
-			try {
-				progressMonitor.subTask(Messages.format(JarPackagerMessages.JarFileExportOperation_exporting, BasicElementLabels.getPathLabel(destinationPath, false)));
-				fJarBuilder.writeFile((IFile)resource, destinationPath);
-			} catch (CoreException ex) {
-				handleCoreExceptionOnExport(ex);
-			}
+			write(progressMonitor, monitor -> writeFile(monitor, (IFile) resource, destinationPath));
 		}
 	}
 
@@ -581,7 +597,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		}
 	}
 
-	private void exportClassFiles(IProgressMonitor progressMonitor, ITypeRoot typeRootElement, IPath destinationPath) {
+	private void exportClassFiles(IProgressMonitor progressMonitor, ITypeRoot typeRootElement, IPath destinationPath) throws InterruptedException {
 		if (fJarPackage.areClassFilesExported()) {
 			try {
 				if (!typeRootElement.exists())
@@ -593,12 +609,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 				while (iter.hasNext()) {
 					IFile file= (IFile)iter.next();
 					IPath classFilePath= baseDestinationPath.append(file.getName());
-					progressMonitor.subTask(Messages.format(JarPackagerMessages.JarFileExportOperation_exporting, BasicElementLabels.getPathLabel(classFilePath, false)));
-					try {
-						fJarBuilder.writeFile(file, classFilePath);
-					} catch (CoreException ex) {
-						handleCoreExceptionOnExport(ex);
-					}
+					write(progressMonitor, monitor -> writeFile(monitor, file, classFilePath));
 				}
 			} catch (CoreException ex) {
 				addToStatus(ex);
@@ -606,6 +617,38 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		}
 	}
 
+	/**
+	 * Writes to the JAR builder. The task is executed immediately, or by the thread of the
+	 * operation if the elements are collected in a background job.
+	 *
+	 * @param progressMonitor the progress monitor
+	 * @param task the task that writes to the JAR builder
+	 * @throws InterruptedException thrown when cancelled
+	 */
+	private void write(IProgressMonitor progressMonitor, IExportTask task) throws InterruptedException {
+		if (fExportQueue != null)
+			fExportQueue.put(task);
+		else
+			task.run(progressMonitor);
+	}
+
+	private void writeFile(IProgressMonitor progressMonitor, IFile file, IPath destinationPath) {
+		progressMonitor.subTask(Messages.format(JarPackagerMessages.JarFileExportOperation_exporting, BasicElementLabels.getPathLabel(destinationPath, false)));
+		try {
+			fJarBuilder.writeFile(file, destinationPath);
+		} catch (CoreException ex) {
+			handleCoreExceptionOnExport(ex);
+		}
+	}
+
+	private void writeFile(File file, IPath destinationPath) {
+		try {
+			((IJarBuilderExtension) fJarBuilder).writeFile(file, destinationPath);
+		} catch (CoreException e) {
+			handleCoreExceptionOnExport(e);
+		}
+	}
+
 	/**
 	 * Exports the resources as specified by the JAR package.
 	 * @param progressMonitor the progress monitor
@@ -845,14 +888,17 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		/*
 		 * XXX: Bug 6584: Need a way to get class files for a java file (or CU)
 		 */
-		IClassFileReader cfReader= null;
 		IResource[] members= container.members();
 		Map<String, ArrayList<IResource>> map= new HashMap<>(members.length);
 		for (IResource member : members) {
 			if (isClassFile(member)) {
 				IFile classFile = (IFile) member;
-				URI location= classFile.getLocationURI();
-				if (location != null) {
+				String javaName= fClassFileSourceIndex != null ? fClassFileSourceIndex.getSourceName(classFile) : null;
+				if (javaName == null) {
+					URI location= classFile.getLocationURI();
+					if (location == null)
+						continue;
+					IClassFileReader cfReader= null;
 					InputStream contents= null;
 					try {
 						contents= EFS.getStore(location).openInputStream(EFS.NONE, monitor);
@@ -867,28 +913,30 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 								e));
 						}
 					}
-					if (cfReader != null) {
-						ISourceAttribute sourceAttribute= cfReader.getSourceFileAttribute();
-						if (sourceAttribute == null) {
-							/*
-							* Can't fully build the map because one or more
-							* class file does not contain the name of its
-							* source file.
-							*/
-							addWarning(Messages.format(
-								JarPackagerMessages.JarFileExportOperation_classFileWithoutSourceFileAttribute,
-								BasicElementLabels.getURLPart(Resources.getLocationString(classFile))), null);
-							return null;
-						}
-						String javaName= new String(sourceAttribute.getSourceFileName());
-						ArrayList<IResource> classFiles= map.get(javaName);
-						if (classFiles == null) {
-							classFiles= new ArrayList<>(3);
-							map.put(javaName, classFiles);
-						}
-						classFiles.add(classFile);
+					if (cfReader == null)
+						continue;
+					ISourceAttribute sourceAttribute= cfReader.getSourceFileAttribute();
+					if (sourceAttribute == null) {
+						/*
+						* Can't fully build the map because one or more
+						* class file does not contain the name of its
+						* source file.
+						*/
+						addWarning(Messages.format(
+							JarPackagerMessages.JarFileExportOperation_classFileWithoutSourceFileAttribute,
+							BasicElementLabels.getURLPart(Resources.getLocationString(classFile))), null);
+						return null;
 					}
+					javaName= new String(sourceAttribute.getSourceFileName());
+					if (fClassFileSourceIndex != null)
+						fClassFileSourceIndex.putSourceName(classFile, javaName);
 				}
+				ArrayList<IResource> classFiles= map.get(javaName);
+				if (classFiles == null) {
+					classFiles= new ArrayList<>(3);
+					map.put(javaName, classFiles);
+				}
+				classFiles.add(classFile);
 			}
 		}
 		return map;
@@ -1004,7 +1052,8 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		try {
 			if (!preconditionsOK())
 				throw new InvocationTargetException(null, JarPackagerMessages.JarFileExportOperation_jarCreationFailedSeeDetails);
-			int totalWork= countSelectedElements();
+			// the elements collected in the background are not walked in advance to count them
+			int totalWork= fJarPackage.isCollectingInBackground() ? IProgressMonitor.UNKNOWN : countSelectedElements();
 			if (fJarPackage.areGeneratedFilesExported()
 				&& ((!isAutoBuilding() && fJarPackage.isBuildingIfNeeded())
 					|| (isAutoBuilding() && fFilesSaved))) {
@@ -1016,10 +1065,21 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 			} else
 				progressMonitor.beginTask("", totalWork); //$NON-NLS-1$
 
+			if (fJarPackage.areClassFileSourcesRemembered())
+				fClassFileSourceIndex= ClassFileSourceIndex.load(fJarPackage.getAbsoluteJarLocation());
 			fJarBuilder = fJarPackage.getJarBuilder();
 			fJarBuilder.open(fJarPackage, fParentShell, fStatus);
 
-			exportSelectedElements(progressMonitor);
+			if (fJarPackage.isCollectingInBackground()) {
+				fExportQueue= new JarExportQueue();
+				try {
+					fExportQueue.run(this::exportSelectedElements, progressMonitor);
+				} finally {
+					fExportQueue= null;
+				}
+			} else {
+				exportSelectedElements(progressMonitor);
+			}
 			if (getStatus().getSeverity() != IStatus.ERROR) {
 				progressMonitor.subTask(JarPackagerMessages.JarFileExportOperation_savingFiles);
 				saveFiles();
@@ -1033,6 +1093,10 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 			} catch (CoreException ex) {
 				addToStatus(ex);
 			}
+			if (fClassFileSourceIndex != null) {
+				fClassFileSourceIndex.save();
+				fClassFileSourceIndex= null;
+			}
 			progressMonitor.done();
 		}
 	}
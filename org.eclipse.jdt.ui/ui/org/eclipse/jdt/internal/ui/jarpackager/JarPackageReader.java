@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -170,6 +170,8 @@ public class JarPackageReader extends Object implements IJarDescriptionReader {
 			jarPackage.setBuildIfNeeded(getBooleanAttribute(element, "buildIfNeeded", jarPackage.isBuildingIfNeeded())); //$NON-NLS-1$
 			jarPackage.setIncludeDirectoryEntries(getBooleanAttribute(element, "includeDirectoryEntries", false)); //$NON-NLS-1$
 			jarPackage.setRefactoringAware(getBooleanAttribute(element, "storeRefactorings", false)); //$NON-NLS-1$
+			jarPackage.setCollectInBackground(getBooleanAttribute(element, "collectInBackground", false)); //$NON-NLS-1$
+			jarPackage.setRememberClassFileSources(getBooleanAttribute(element, "rememberClassFileSources", false)); //$NON-NLS-1$
 		}
 	}
 
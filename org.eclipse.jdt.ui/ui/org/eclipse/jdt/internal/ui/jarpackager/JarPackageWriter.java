@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -151,6 +151,8 @@ public class JarPackageWriter extends Object implements IJarDescriptionWriter {
 		options.setAttribute("buildIfNeeded", "" + jarPackage.isBuildingIfNeeded()); //$NON-NLS-2$ //$NON-NLS-1$
 		options.setAttribute("includeDirectoryEntries", "" + jarPackage.areDirectoryEntriesIncluded());  //$NON-NLS-1$//$NON-NLS-2$
 		options.setAttribute("storeRefactorings", "" + jarPackage.isRefactoringAware());  //$NON-NLS-1$//$NON-NLS-2$
+		options.setAttribute("collectInBackground", "" + jarPackage.isCollectingInBackground());  //$NON-NLS-1$//$NON-NLS-2$
+		options.setAttribute("rememberClassFileSources", "" + jarPackage.areClassFileSourcesRemembered());  //$NON-NLS-1$//$NON-NLS-2$
 	}
 
 	private void xmlWriteRefactoring(JarPackageData jarPackage, Document document, Element xmlJarDesc) throws DOMException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,7 @@ public final class JarPackagerMessages extends NLS {
 	public static String JarFileExportOperation_exportFinishedWithWarnings;
 
 	public static String JarFileExportOperation_exporting;
+	public static String JarFileExportOperation_exportJob;
 
 	public static String JarFileExportOperation_fileUnsaved;
 
@@ -195,7 +195,7 @@ import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.ImplementOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
-import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
@@ -1664,6 +1664,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	 * @since 3.1
 	 */
 	private IRegion fMarkOccurrenceTargetRegion;
+	/**
+	 * The occurrences of the bindings already marked in the current AST.
+	 * Replaced whenever a new AST is reported.
+	 */
+	private volatile OccurrencesIndex fOccurrencesIndex;
 
 	/**
 	 * The internal shell activation listener for updating occurrences.
@@ -3335,10 +3340,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (locations == null && selectedNode instanceof Name) {
 			IBinding binding= ((Name)selectedNode).resolveBinding();
 			if (binding != null && markOccurrencesOfType(binding)) {
-				OccurrencesFinder finder= new OccurrencesFinder();
-				if (finder.initialize(astRoot, selectedNode) == null) {
-					locations= finder.getOccurrences();
-				}
+				locations= getOccurrencesIndex(astRoot).getOccurrences((Name)selectedNode);
 			}
 		}
 
@@ -3357,6 +3359,22 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		fOccurrencesFinderJob.run(new NullProgressMonitor());
 	}
 
+	/**
+	 * Returns the occurrences index for the given AST. The index is shared between
+	 * selection changes as long as the AST does not change.
+	 *
+	 * @param astRoot the compilation unit AST
+	 * @return the occurrences index for <code>astRoot</code>
+	 */
+	private OccurrencesIndex getOccurrencesIndex(CompilationUnit astRoot) {
+		OccurrencesIndex index= fOccurrencesIndex;
+		if (index == null || index.getASTRoot() != astRoot) {
+			index= new OccurrencesIndex(astRoot);
+			fOccurrencesIndex= index;
+		}
+		return index;
+	}
+
 	protected void installOccurrencesFinder(boolean forceUpdate) {
 		fMarkOccurrenceAnnotations= true;
 
@@ -3383,6 +3401,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 	protected void uninstallOccurrencesFinder() {
 		fMarkOccurrenceAnnotations= false;
+		fOccurrencesIndex= null;
 
 		if (fOccurrencesFinderJob != null) {
 			fOccurrencesFinderJob.cancel();
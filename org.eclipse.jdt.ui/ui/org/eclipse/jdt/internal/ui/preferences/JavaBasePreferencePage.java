@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -198,6 +198,7 @@ public class JavaBasePreferencePage extends PreferencePage implements IWorkbench
 
 		addCheckBox(group, PreferencesMessages.JavaBasePreferencePage_search_small_menu, null, PreferenceConstants.SEARCH_USE_REDUCED_MENU);
 		addCheckBox(group, PreferencesMessages.JavaBasePreferencePage_search_enable_parallel, fJavaCorePreferences, SEARCH_ENABLE_PARALLEL_SEARCH);
+		addCheckBox(group, PreferencesMessages.JavaBasePreferencePage_search_concurrent_participants, null, PreferenceConstants.SEARCH_CONCURRENT_PARTICIPANTS);
 
 		Button rebuildIndexButton= new Button(group, SWT.PUSH);
 		rebuildIndexButton.setText(PreferencesMessages.JavaBasePreferencePage_rebuildIndexButtonName);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -115,6 +115,7 @@ public final class PreferencesMessages extends NLS {
 	public static String JavaBasePreferencePage_search;
 	public static String JavaBasePreferencePage_search_small_menu;
 	public static String JavaBasePreferencePage_search_enable_parallel;
+	public static String JavaBasePreferencePage_search_concurrent_participants;
 	public static String JavaBuildConfigurationBlock_build_recreate_modified;
 	public static String JavadocConfigurationBlock_error_archive_not_found_in_workspace;
 	public static String JavadocConfigurationBlock_external_radio;
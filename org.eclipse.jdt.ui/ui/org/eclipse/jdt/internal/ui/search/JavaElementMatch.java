@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,43 +17,55 @@ import org.eclipse.search.ui.text.Match;
 
 /**
  * A search match with additional java-specific info.
+ * <p>
+ * Searches can report hundreds of thousands of matches, so the accuracy and the
+ * boolean properties are packed into a single field.
+ * </p>
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
+
+	private static final int ACCURACY_MASK= 0x0F;
+	private static final int WRITE_ACCESS= 0x10;
+	private static final int READ_ACCESS= 0x20;
+	private static final int JAVADOC= 0x40;
+	private static final int SUPER_INVOCATION= 0x80;
+
 	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private final short fFlags;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
 		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		int flags= accuracy & ACCURACY_MASK;
+		if (isWriteAccess)
+			flags|= WRITE_ACCESS;
+		if (isReadAccess)
+			flags|= READ_ACCESS;
+		if (isJavadoc)
+			flags|= JAVADOC;
+		if (isSuperInvocation)
+			flags|= SUPER_INVOCATION;
+		fFlags= (short) flags;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return fFlags & ACCURACY_MASK;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fFlags & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fFlags & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fFlags & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fFlags & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,10 +20,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -45,6 +47,7 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.search.ElementQuerySpecification;
 import org.eclipse.jdt.ui.search.IMatchPresentation;
 import org.eclipse.jdt.ui.search.IQueryParticipant;
@@ -169,43 +172,44 @@ public class JavaSearchQuery implements ISearchQuery {
 			if (pattern == null) {
 				return new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, Messages.format(SearchMessages.JavaSearchQuery_error_unsupported_pattern, stringPattern), null);
 			}
-			SubMonitor subMonitor= SubMonitor.convert(monitor, Messages.format(SearchMessages.JavaSearchQuery_task_label, stringPattern), totalTicks);
+			String taskLabel= Messages.format(SearchMessages.JavaSearchQuery_task_label, stringPattern);
+			SubMonitor subMonitor= SubMonitor.convert(monitor, taskLabel, totalTicks);
 
 			boolean ignorePotentials= NewSearchUI.arePotentialMatchesIgnored();
 			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
 
 
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
-			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
-				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
-
-				final int iPrime= i;
-				ISafeRunnable runnable= new ISafeRunnable() {
-					@Override
-					public void handleException(Throwable exception) {
-						participantDescriptors[iPrime].getDescriptor().disable();
-						String message= SearchMessages.JavaSearchQuery_error_participant_search;
-						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
-					}
-
-					@Override
-					public void run() throws Exception {
-
-						final IQueryParticipant participant= participantDescriptors[iPrime].getParticipant();
-
-						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
-						stats.startRun();
-
-						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
+			// if enabled, the participants run in jobs while the Java search engine searches
+			boolean concurrentParticipants= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SEARCH_CONCURRENT_PARTICIPANTS);
+			if (concurrentParticipants && participantDescriptors.length > 0) {
+				Job[] jobs= new Job[participantDescriptors.length];
+				for (int i= 0; i < participantDescriptors.length; i++) {
+					final SearchParticipantRecord participantDescriptor= participantDescriptors[i];
+					jobs[i]= Job.create(taskLabel, jobMonitor -> {
+						SafeRunner.run(createParticipantRunnable(participantDescriptor, textResult, jobMonitor));
+					});
+					jobs[i].setSystem(true);
+					jobs[i].schedule();
+				}
+				try {
+					engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+					for (int i= 0; i < jobs.length; i++) {
+						try {
+							jobs[i].join(0, subMonitor.split(ticks[i]));
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new OperationCanceledException();
 						}
-
-						stats.endRun();
 					}
-				};
-
-				SafeRunner.run(runnable);
+				} finally {
+					for (Job job : jobs)
+						job.cancel();
+				}
+			} else {
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+				for (int i= 0; i < participantDescriptors.length; i++) {
+					SafeRunner.run(createParticipantRunnable(participantDescriptors[i], textResult, subMonitor.split(ticks[i])));
+				}
 			}
 
 		} catch (CoreException e) {
@@ -215,6 +219,33 @@ public class JavaSearchQuery implements ISearchQuery {
 		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
 	}
 
+	private ISafeRunnable createParticipantRunnable(final SearchParticipantRecord participantDescriptor, JavaSearchResult textResult, final IProgressMonitor participantPM) {
+		final ISearchRequestor requestor= new SearchRequestor(participantDescriptor.getParticipant(), textResult);
+		return new ISafeRunnable() {
+			@Override
+			public void handleException(Throwable exception) {
+				participantDescriptor.getDescriptor().disable();
+				String message= SearchMessages.JavaSearchQuery_error_participant_search;
+				JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+			}
+
+			@Override
+			public void run() throws Exception {
+
+				final IQueryParticipant participant= participantDescriptor.getParticipant();
+
+				final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
+				stats.startRun();
+
+				for (QuerySpecification querySpecification : fPatternDataList) {
+					participant.search(requestor, querySpecification, participantPM);
+				}
+
+				stats.endRun();
+			}
+		};
+	}
+
 	private int getMatchMode(String pattern) {
 		if (pattern.indexOf('*') != -1 || pattern.indexOf('?') != -1) {
 			return SearchPattern.R_PATTERN_MATCH;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
 import org.eclipse.jdt.core.search.FieldReferenceMatch;
 import org.eclipse.jdt.core.search.LocalVariableDeclarationMatch;
@@ -27,14 +33,34 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Collects the matches of a Java search into a search result. Matches are added in batches
+ * with {@link AbstractTextSearchResult#addMatches(Match[])}, so the search view is updated
+ * once per batch and not once per match. A batch is only delivered when the matches of
+ * a file are complete, either when it is large enough or when the last batch was delivered
+ * a while ago, so that matches of a slow search still show up in time. The remaining matches
+ * are delivered in {@link #endReporting()}.
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	private static final int BATCH_SIZE= 500;
+
+	/**
+	 * The time in milliseconds after which a batch is delivered even if it is not full.
+	 */
+	private static final long FLUSH_INTERVAL= 150;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
+	private final List<Match> fBatch= new ArrayList<>();
+	private IOpenable fBatchFile;
+	private long fLastFlush;
 
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
@@ -63,16 +89,33 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			IOpenable file= enclosingElement.getOpenable();
+			if (!Objects.equals(file, fBatchFile)) {
+				if (fBatch.size() >= BATCH_SIZE || System.currentTimeMillis() - fLastFlush >= FLUSH_INTERVAL)
+					flush();
+				fBatchFile= file;
+			}
+			fBatch.add(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
 		}
 	}
 
 	@Override
 	public void beginReporting() {
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
 	public void endReporting() {
+		flush();
+	}
+
+	private void flush() {
+		if (fBatch.isEmpty())
+			return;
+		fSearch.addMatches(fBatch.toArray(new Match[fBatch.size()]));
+		fBatch.clear();
+		fBatchFile= null;
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -53,6 +54,8 @@ public class CombinedWordRule implements IRule {
 
 		/** The table of predefined words and token for this matcher */
 		private Map<CharacterBuffer, IToken> fWords= new HashMap<>();
+		/** Incremented whenever the words change */
+		private int fModificationCount;
 
 		/**
 		 * Adds a word and the token to be returned if it is detected.
@@ -65,6 +68,7 @@ public class CombinedWordRule implements IRule {
 			Assert.isNotNull(token);
 
 			fWords.put(new CharacterBuffer(word), token);
+			fModificationCount++;
 		}
 
 		/**
@@ -77,15 +81,51 @@ public class CombinedWordRule implements IRule {
 		public IToken evaluate(ICharacterScanner scanner, CharacterBuffer word) {
 			IToken token= fWords.get(word);
 			if (token != null)
-				return token;
+				return adaptToken(token);
 			return Token.UNDEFINED;
 		}
 
+		/**
+		 * Returns the token for a detected word of this matcher. Subclasses may
+		 * override to replace the token depending on their state.
+		 *
+		 * @param token the token associated with the word
+		 * @return the token, or {@link Token#UNDEFINED} if this matcher does not accept the word
+		 */
+		protected IToken adaptToken(IToken token) {
+			return token;
+		}
+
 		/**
 		 * Removes all words.
 		 */
 		public void clearWords() {
 			fWords.clear();
+			fModificationCount++;
+		}
+
+		Iterable<CharacterBuffer> getWords() {
+			return fWords.keySet();
+		}
+
+		Set<Map.Entry<CharacterBuffer, IToken>> getEntries() {
+			return fWords.entrySet();
+		}
+
+		int getModificationCount() {
+			return fModificationCount;
+		}
+
+		/*
+		 * Words of matchers that keep the default evaluation can be matched
+		 * by a word automaton.
+		 */
+		boolean isDefaultEvaluation() {
+			try {
+				return getClass().getMethod("evaluate", ICharacterScanner.class, CharacterBuffer.class).getDeclaringClass() == WordMatcher.class; //$NON-NLS-1$
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
 		}
 	}
 
@@ -242,6 +282,18 @@ public class CombinedWordRule implements IRule {
 
 	/** List of word matchers */
 	private List<WordMatcher> fMatchers= new ArrayList<>();
+	/**
+	 * Automaton over the words of all matchers, <code>null</code> if not yet built
+	 */
+	private WordTrie fTrie;
+	/**
+	 * Whether {@link #fTrie} reflects the current matchers
+	 */
+	private boolean fTrieValid;
+	/**
+	 * Sum of the matchers' modification counts when {@link #fTrie} was built
+	 */
+	private int fTrieModificationCount;
 
 	/**
 	 * Creates a rule which, with the help of an word detector, will return the token
@@ -318,6 +370,7 @@ public class CombinedWordRule implements IRule {
 	 */
 	public void addWordMatcher(WordMatcher matcher) {
 		fMatchers.add(matcher);
+		fTrieValid= false;
 	}
 
 	/**
@@ -343,6 +396,10 @@ public class CombinedWordRule implements IRule {
 		if (fDetector.isWordStart((char) c)) {
 			if (fColumn == UNDEFINED || (fColumn == scanner.getColumn() - 1)) {
 
+				WordTrie trie= getTrie();
+				if (trie != null)
+					return evaluate(scanner, trie, c);
+
 				fBuffer.clear();
 				do {
 					fBuffer.append((char) c);
@@ -367,6 +424,71 @@ public class CombinedWordRule implements IRule {
 		return Token.UNDEFINED;
 	}
 
+	/**
+	 * Reads the word while advancing the automaton, so the word needs not be
+	 * buffered nor hashed.
+	 *
+	 * @param scanner the scanner
+	 * @param trie the automaton of all matchers
+	 * @param c the first character of the word
+	 * @return the token of the word
+	 */
+	private IToken evaluate(ICharacterScanner scanner, WordTrie trie, int c) {
+		int state= WordTrie.START_STATE;
+		int length= 0;
+		do {
+			state= trie.next(state, (char) c);
+			length++;
+			c= scanner.read();
+		} while (c != ICharacterScanner.EOF && fDetector.isWordPart((char) c));
+		scanner.unread();
+
+		if (state != WordTrie.DEAD_STATE) {
+			IToken token= trie.getToken(state);
+			if (token != null)
+				return token;
+		}
+
+		if (fDefaultToken.isUndefined()) {
+			for (int i= 0; i < length; i++)
+				scanner.unread();
+		}
+
+		return fDefaultToken;
+	}
+
+	/**
+	 * Returns the automaton over the words of all matchers, building it if the
+	 * matchers or their words have changed.
+	 *
+	 * @return the automaton or <code>null</code> if a matcher has its own evaluation
+	 */
+	private WordTrie getTrie() {
+		int modificationCount= 0;
+		for (WordMatcher matcher : fMatchers)
+			modificationCount+= matcher.getModificationCount();
+
+		if (!fTrieValid || modificationCount != fTrieModificationCount) {
+			fTrie= null;
+			if (isDefaultEvaluation()) {
+				WordTrie trie= new WordTrie(fMatchers);
+				if (trie.isComplete())
+					fTrie= trie;
+			}
+			fTrieValid= true;
+			fTrieModificationCount= modificationCount;
+		}
+		return fTrie;
+	}
+
+	private boolean isDefaultEvaluation() {
+		for (WordMatcher matcher : fMatchers) {
+			if (!matcher.isDefaultEvaluation())
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Returns the characters in the buffer to the scanner.
 	 *
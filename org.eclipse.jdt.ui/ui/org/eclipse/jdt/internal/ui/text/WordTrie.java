@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.rules.IToken;
+
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule.CharacterBuffer;
+import org.eclipse.jdt.internal.ui.text.CombinedWordRule.WordMatcher;
+
+
+/**
+ * A deterministic automaton over the words of several {@link WordMatcher}s.
+ * <p>
+ * Words are matched one character at a time while the scanner reads them, so
+ * classifying a word needs neither a buffer nor a hash lookup. Only ASCII
+ * characters that occur in one of the words have transitions; any other
+ * character leads to the {@link #DEAD_STATE dead state}.
+ * </p>
+ */
+final class WordTrie {
+
+	/** State from which no word can be reached anymore */
+	static final int DEAD_STATE= 0;
+
+	/** The initial state */
+	static final int START_STATE= 1;
+
+	private static final int ASCII= 128;
+
+	/** Maps an ASCII character to its column in the transition table, or -1 */
+	private final int[] fColumns= new int[ASCII];
+	/** Number of distinct characters in all words */
+	private int fColumnCount;
+	/** The transition table, one row of <code>fColumnCount</code> entries per state */
+	private int[] fTransitions;
+	/** Per accepting state, the token of each matcher or <code>null</code> */
+	private IToken[][] fTokens;
+	/** The matchers, in evaluation order */
+	private final WordMatcher[] fMatchers;
+	/** Number of states in use */
+	private int fStateCount;
+	/** Whether all words could be added */
+	private boolean fComplete= true;
+
+	/**
+	 * Builds the automaton for the given matchers.
+	 *
+	 * @param matchers the matchers in evaluation order
+	 */
+	WordTrie(List<WordMatcher> matchers) {
+		fMatchers= matchers.toArray(new WordMatcher[matchers.size()]);
+
+		Arrays.fill(fColumns, -1);
+		int stateEstimate= 2;
+		for (WordMatcher matcher : fMatchers) {
+			for (CharacterBuffer word : matcher.getWords()) {
+				stateEstimate+= word.length();
+				for (int i= 0; i < word.length(); i++) {
+					char c= word.charAt(i);
+					if (c < ASCII && fColumns[c] == -1)
+						fColumns[c]= fColumnCount++;
+				}
+			}
+		}
+
+		fTransitions= new int[stateEstimate * Math.max(fColumnCount, 1)];
+		fTokens= new IToken[stateEstimate][];
+		fStateCount= 2;
+		for (int m= 0; m < fMatchers.length; m++) {
+			for (Map.Entry<CharacterBuffer, IToken> entry : fMatchers[m].getEntries()) {
+				add(entry.getKey(), m, entry.getValue());
+			}
+		}
+	}
+
+	private void add(CharacterBuffer word, int matcher, IToken token) {
+		int state= START_STATE;
+		for (int i= 0; i < word.length(); i++) {
+			char c= word.charAt(i);
+			if (c >= ASCII) {
+				fComplete= false;
+				return;
+			}
+			int index= state * fColumnCount + fColumns[c];
+			int target= fTransitions[index];
+			if (target == DEAD_STATE) {
+				target= fStateCount++;
+				fTransitions[index]= target;
+			}
+			state= target;
+		}
+		if (fTokens[state] == null)
+			fTokens[state]= new IToken[fMatchers.length];
+		if (fTokens[state][matcher] == null)
+			fTokens[state][matcher]= token;
+	}
+
+	/**
+	 * Tells whether the automaton accepts all words of its matchers. Words with
+	 * non-ASCII characters are not supported.
+	 *
+	 * @return <code>true</code> if all words are accepted
+	 */
+	boolean isComplete() {
+		return fComplete;
+	}
+
+	/**
+	 * Returns the state reached from <code>state</code> by reading <code>c</code>.
+	 *
+	 * @param state the current state
+	 * @param c the character read
+	 * @return the next state
+	 */
+	int next(int state, char c) {
+		if (state == DEAD_STATE || c >= ASCII)
+			return DEAD_STATE;
+		int column= fColumns[c];
+		if (column == -1)
+			return DEAD_STATE;
+		return fTransitions[state * fColumnCount + column];
+	}
+
+	/**
+	 * Returns the token of the first matcher that accepts the word leading to the
+	 * given state.
+	 *
+	 * @param state the state reached after reading a word
+	 * @return the token or <code>null</code> if no matcher accepts the word
+	 */
+	IToken getToken(int state) {
+		IToken[] tokens= fTokens[state];
+		if (tokens == null)
+			return null;
+		for (int i= 0; i < tokens.length; i++) {
+			if (tokens[i] == null)
+				continue;
+			IToken token= fMatchers[i].adaptToken(tokens[i]);
+			if (!token.isUndefined())
+				return token;
+		}
+		return null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,12 +47,15 @@ public final class ContributedProcessorDescriptor {
 	private Boolean fStatus;
 	private String fRequiredSourceLevel;
 	private final Set<String> fHandledMarkerTypes;
+	private final boolean fRequiresUIThread;
 
 	private static final String ID= "id"; //$NON-NLS-1$
 	private static final String CLASS= "class"; //$NON-NLS-1$
 
 	private static final String REQUIRED_SOURCE_LEVEL= "requiredSourceLevel"; //$NON-NLS-1$
 
+	private static final String REQUIRES_UI_THREAD= "requiresUIThread"; //$NON-NLS-1$
+
 	private static final String HANDLED_MARKER_TYPES= "handledMarkerTypes"; //$NON-NLS-1$
 	private static final String MARKER_TYPE= "markerType"; //$NON-NLS-1$
 
@@ -65,6 +68,8 @@ public final class ContributedProcessorDescriptor {
 		}
 		fRequiredSourceLevel= element.getAttribute(REQUIRED_SOURCE_LEVEL);
 		fHandledMarkerTypes= testMarkerTypes ? getHandledMarkerTypes(element) : null;
+		// Not Boolean.parse() to ensure fRequiresUIThread is true if attribute is not set/null
+		fRequiresUIThread= !Boolean.FALSE.toString().equals(element.getAttribute(REQUIRES_UI_THREAD));
 	}
 
 	private Set<String> getHandledMarkerTypes(IConfigurationElement element) {
@@ -127,7 +132,7 @@ public final class ContributedProcessorDescriptor {
 		return false;
 	}
 
-	public Object getProcessor(ICompilationUnit cunit, Class<?> expectedType) {
+	public synchronized Object getProcessor(ICompilationUnit cunit, Class<?> expectedType) {
 		if (matches(cunit)) {
 			if (fProcessorInstance == null) {
 				try {
@@ -156,4 +161,21 @@ public final class ContributedProcessorDescriptor {
 		return fHandledMarkerTypes == null || fHandledMarkerTypes.contains(markerType);
 	}
 
+	/**
+	 * @return the identifier of the described extension
+	 */
+	public String getId() {
+		return fConfigurationElement.getAttribute(ID);
+	}
+
+	/**
+	 * Returns the <code>requiresUIThread</code> flag of the described extension. Processors
+	 * that do not require the UI thread may run in parallel with other processors.
+	 *
+	 * @return the requiresUIThread flag of the described extension
+	 */
+	public boolean requiresUIThread() {
+		return fRequiresUIThread;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ package org.eclipse.jdt.internal.ui.text.correction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -25,6 +27,7 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IMarker;
 
@@ -51,6 +54,7 @@ import org.eclipse.ltk.core.refactoring.NullChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -72,6 +76,17 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	private static final String QUICKFIX_PROCESSOR_CONTRIBUTION_ID= "quickFixProcessors"; //$NON-NLS-1$
 	private static final String QUICKASSIST_PROCESSOR_CONTRIBUTION_ID= "quickAssistProcessors"; //$NON-NLS-1$
 
+	/**
+	 * The time in milliseconds to wait for the processors running in parallel. The proposals of
+	 * processors that do not finish in time are dropped.
+	 */
+	private static final long PROCESSOR_DEADLINE= 2000;
+
+	/**
+	 * Processors running in parallel that take longer than this number of milliseconds are logged.
+	 */
+	private static final long SLOW_PROCESSOR_THRESHOLD= 500;
+
 	private static ContributedProcessorDescriptor[] fgContributedAssistProcessors= null;
 	private static ContributedProcessorDescriptor[] fgContributedCorrectionProcessors= null;
 
@@ -457,8 +472,23 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 
 	public static IStatus collectCorrections(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
+		ContributedProcessorDescriptor[] processors= getCorrectionProcessors();
+		if (hasConcurrentProcessors(processors)) {
+			ArrayList<ProcessorRun> runs= new ArrayList<>();
+			for (ContributedProcessorDescriptor curr : processors) {
+				IProblemLocation[] handled= getHandledProblems(locations, curr);
+				if (handled != null) {
+					runs.add(new ProcessorRun(curr, (runContext, result) -> {
+						SafeCorrectionCollector collector= new SafeCorrectionCollector(runContext, result);
+						collector.setProblemLocations(handled);
+						return collector;
+					}));
+				}
+			}
+			return collectConcurrently(context, runs, proposals);
+		}
 		SafeCorrectionCollector collector= new SafeCorrectionCollector(context, proposals);
-		for (ContributedProcessorDescriptor curr : getCorrectionProcessors()) {
+		for (ContributedProcessorDescriptor curr : processors) {
 			IProblemLocation[] handled= getHandledProblems(locations, curr);
 			if (handled != null) {
 				collector.setProblemLocations(handled);
@@ -502,12 +532,134 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 	public static IStatus collectAssists(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
 		ContributedProcessorDescriptor[] processors= getAssistProcessors();
+		if (hasConcurrentProcessors(processors)) {
+			ArrayList<ProcessorRun> runs= new ArrayList<>(processors.length);
+			for (ContributedProcessorDescriptor curr : processors) {
+				runs.add(new ProcessorRun(curr, (runContext, result) -> new SafeAssistCollector(runContext, locations, result)));
+			}
+			return collectConcurrently(context, runs, proposals);
+		}
 		SafeAssistCollector collector= new SafeAssistCollector(context, locations, proposals);
 		collector.process(processors);
 
 		return collector.getStatus();
 	}
 
+	private static boolean hasConcurrentProcessors(ContributedProcessorDescriptor[] processors) {
+		for (ContributedProcessorDescriptor processor : processors) {
+			if (!processor.requiresUIThread()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A processor together with the collector and the proposals of a single invocation.
+	 */
+	private static final class ProcessorRun {
+		private final ContributedProcessorDescriptor fDescriptor;
+		private final BiFunction<IInvocationContext, Collection<IJavaCompletionProposal>, SafeCorrectionProcessorAccess> fCollectorFactory;
+		private final List<IJavaCompletionProposal> fProposals= new ArrayList<>();
+		private SafeCorrectionProcessorAccess fCollector;
+		private long fDuration;
+		private volatile boolean fDone;
+		private volatile boolean fDropped;
+
+		public ProcessorRun(ContributedProcessorDescriptor descriptor, BiFunction<IInvocationContext, Collection<IJavaCompletionProposal>, SafeCorrectionProcessorAccess> collectorFactory) {
+			fDescriptor= descriptor;
+			fCollectorFactory= collectorFactory;
+		}
+
+		public void run(IInvocationContext context) {
+			long start= System.currentTimeMillis();
+			fCollector= fCollectorFactory.apply(context, fProposals);
+			fCollector.process(fDescriptor);
+			fDuration= System.currentTimeMillis() - start;
+			fDone= true;
+		}
+
+		/**
+		 * Runs the processor with its own AST, unless its proposals were dropped before it started.
+		 *
+		 * @param context the invocation context
+		 */
+		public void runInJob(IInvocationContext context) {
+			if (fDropped)
+				return;
+			ICompilationUnit cu= context.getCompilationUnit();
+			AssistContext jobContext= new AssistContext(cu, context.getSelectionOffset(), context.getSelectionLength());
+			jobContext.setASTRoot(ASTResolving.createQuickFixAST(cu, null));
+			if (!fDropped)
+				run(jobContext);
+		}
+	}
+
+	/**
+	 * Runs the processors that do not require the UI thread in parallel and the others in the
+	 * calling thread. The processors running in parallel do not share the AST of the context,
+	 * every one of them works on its own AST. The proposals are added in the order of the
+	 * processors, the proposals of processors that do not finish before the deadline are dropped.
+	 *
+	 * @param context the invocation context
+	 * @param runs the processors to run
+	 * @param proposals the collection to add the proposals to
+	 * @return the status of the processors
+	 */
+	private static IStatus collectConcurrently(IInvocationContext context, List<ProcessorRun> runs, Collection<IJavaCompletionProposal> proposals) {
+		long deadline= System.currentTimeMillis() + PROCESSOR_DEADLINE;
+
+		Job[] jobs= new Job[runs.size()];
+		for (int i= 0; i < jobs.length; i++) {
+			ProcessorRun run= runs.get(i);
+			if (!run.fDescriptor.requiresUIThread()) {
+				jobs[i]= Job.create("Correction processor " + run.fDescriptor.getId(), monitor -> { //$NON-NLS-1$
+					run.runInJob(context);
+				});
+				jobs[i].setSystem(true);
+				jobs[i].schedule();
+			}
+		}
+		for (int i= 0; i < jobs.length; i++) {
+			if (jobs[i] == null)
+				runs.get(i).run(context);
+		}
+
+		MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.OK, CorrectionMessages.JavaCorrectionProcessor_error_status, null);
+		for (int i= 0; i < jobs.length; i++) {
+			ProcessorRun run= runs.get(i);
+			if (jobs[i] != null && !run.fDone) {
+				long remaining= deadline - System.currentTimeMillis();
+				try {
+					if (remaining > 0)
+						jobs[i].join(remaining, null);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (!run.fDone) {
+				// a job still running only adds to its own AST and proposals, which are dropped
+				run.fDropped= true;
+				if (jobs[i] != null)
+					jobs[i].cancel();
+				JavaPlugin.log(new Status(IStatus.WARNING, JavaUI.ID_PLUGIN, "Correction processor '" + run.fDescriptor.getId() + "' did not finish within " + PROCESSOR_DEADLINE + " ms, its proposals are dropped")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				continue;
+			}
+			if (jobs[i] != null && run.fDuration > SLOW_PROCESSOR_THRESHOLD) {
+				JavaPlugin.log(new Status(IStatus.WARNING, JavaUI.ID_PLUGIN, "Correction processor '" + run.fDescriptor.getId() + "' took " + run.fDuration + " ms")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			proposals.addAll(run.fProposals);
+			IStatus runStatus= run.fCollector.getStatus();
+			if (!runStatus.isOK()) {
+				status.merge(runStatus);
+			}
+		}
+		if (status.isOK()) {
+			return Status.OK_STATUS;
+		}
+		return status;
+	}
+
 	/*
 	 * @see IContentAssistProcessor#getErrorMessage()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -272,70 +272,93 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 
 	public static final String REMOVE_UNNECESSARY_ARRAY_CREATION_ID= "org.eclipse.jdt.ui.correction.removeArrayCreation.assist"; //$NON-NLS-1$
 
+	private final QuickAssistProviderRegistry fProviders;
+
 	public QuickAssistProcessor() {
 		super();
+		fProviders= createProviders();
+	}
+
+	/**
+	 * Creates the registry of the quick assist providers, in the order in which their proposals
+	 * are computed. The node types of a provider are the types of which one must be on the path
+	 * from the covering node to the root for the provider to apply.
+	 *
+	 * @return the registry
+	 */
+	private QuickAssistProviderRegistry createProviders() {
+		QuickAssistProviderRegistry registry= new QuickAssistProviderRegistry();
+
+		// quick assists that show up also if there is an error/warning
+		registry.add("RenameLocal", true, (i, p) -> getRenameLocalProposals(i.fContext, i.fCoveringNode, i.fLocations, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("RenameRefactoring", true, (i, p) -> getRenameRefactoringProposal(i.fContext, i.fCoveringNode, i.fLocations, p)); //$NON-NLS-1$
+		registry.add("AssignToVariable", true, (i, p) -> getAssignToVariableProposals(i.fContext, i.fCoveringNode, i.fLocations, p)); //$NON-NLS-1$
+		registry.add("AssignParamToField", true, (i, p) -> getAssignParamToFieldProposals(i.fContext, i.fCoveringNode, p), ASTNode.SINGLE_VARIABLE_DECLARATION); //$NON-NLS-1$
+		registry.add("AssignAllParamsToFields", true, (i, p) -> getAssignAllParamsToFieldsProposals(i.fContext, i.fCoveringNode, p), ASTNode.SINGLE_VARIABLE_DECLARATION); //$NON-NLS-1$
+		registry.add("InferDiamondArguments", true, (i, p) -> getInferDiamondArgumentsProposal(i.fContext, i.fCoveringNode, i.fLocations, p)); //$NON-NLS-1$
+		registry.add("GenerateForLoop", true, (i, p) -> getGenerateForLoopProposals(i.fContext, i.fCoveringNode, i.fLocations, p)); //$NON-NLS-1$
+		registry.add("JUnitTestCase", true, (i, p) -> getJUnitTestCaseProposal(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("NewImplementation", true, (i, p) -> getNewImplementationProposal(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("NewInterfaceImplementation", true, (i, p) -> getNewInterfaceImplementationProposal(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("SplitSwitchLabel", true, (i, p) -> getSplitSwitchLabelProposal(i.fContext, i.fCoveringNode, p), ASTNode.SWITCH_CASE); //$NON-NLS-1$
+		registry.add("AddMethodDeclaration", true, (i, p) -> getAddMethodDeclaration(i.fContext, i.fCoveringNode, p), ASTNode.EXPRESSION_METHOD_REFERENCE); //$NON-NLS-1$
+
+		registry.add("CatchClauseToThrows", false, (i, p) -> getCatchClauseToThrowsProposals(i.fContext, i.fCoveringNode, p), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		registry.add("PickoutTypeFromMulticatch", false, (i, p) -> getPickoutTypeFromMulticatchProposals(i.fContext, i.fCoveringNode, i.getCoveredNodes(), p), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		registry.add("ConvertToMultiCatch", false, (i, p) -> getConvertToMultiCatchProposals(i.fContext, i.fCoveringNode, p), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		registry.add("UnrollMultiCatch", false, (i, p) -> getUnrollMultiCatchProposals(i.fContext, i.fCoveringNode, p), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		registry.add("TryWithResource", false, (i, p) -> p == null //$NON-NLS-1$
+				? getTryWithResourceProposals(i.fContext, i.fCoveringNode, i.getCoveredNodes(), null)
+				: getTryWithResourceAssistProposals(i.fLocations, i.fContext, i.fCoveringNode, i.getCoveredNodes(), p));
+		registry.add("UnWrap", false, (i, p) -> getUnWrapProposals(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("JoinVariable", false, (i, p) -> getJoinVariableProposals(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("SplitVariable", false, (i, p) -> getSplitVariableProposals(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("AddFinally", false, (i, p) -> getAddFinallyProposals(i.fContext, i.fCoveringNode, p), ASTNode.TRY_STATEMENT); //$NON-NLS-1$
+		registry.add("AddElse", false, (i, p) -> getAddElseProposals(i.fContext, i.fCoveringNode, p), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		registry.add("AddBlock", false, (i, p) -> getAddBlockProposals(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("InvertEquals", false, (i, p) -> getInvertEqualsProposal(i.fContext, i.fCoveringNode, p), ASTNode.METHOD_INVOCATION); //$NON-NLS-1$
+		registry.add("ArrayInitializerToArrayCreation", false, (i, p) -> getArrayInitializerToArrayCreation(i.fContext, i.fCoveringNode, p), ASTNode.ARRAY_INITIALIZER); //$NON-NLS-1$
+		registry.add("CreateInSuperClass", false, (i, p) -> getCreateInSuperClassProposals(i.fContext, i.fCoveringNode, p), ASTNode.METHOD_DECLARATION); //$NON-NLS-1$
+		registry.add("ExtractVariable", false, (i, p) -> getExtractVariableProposal(i.fContext, i.hasProblemsAtLocation(), p)); //$NON-NLS-1$
+		registry.add("ExtractMethod", false, (i, p) -> getExtractMethodProposal(i.fContext, i.fCoveringNode, i.hasProblemsAtLocation(), p)); //$NON-NLS-1$
+		registry.add("ExtractMethodFromLambda", false, (i, p) -> getExtractMethodFromLambdaProposal(i.fContext, i.fCoveringNode, i.hasProblemsAtLocation(), p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		registry.add("InlineLocal", false, (i, p) -> getInlineLocalProposal(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("ConvertLocalToField", false, (i, p) -> getConvertLocalToFieldProposal(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("ConvertAnonymousToNested", false, (i, p) -> getConvertAnonymousToNestedProposal(i.fContext, i.fCoveringNode, p), ASTNode.CLASS_INSTANCE_CREATION); //$NON-NLS-1$
+		registry.add("ConvertAnonymousClassCreationsToLambda", false, (i, p) -> getConvertAnonymousClassCreationsToLambdaProposals(i.fContext, i.fCoveringNode, p), ASTNode.CLASS_INSTANCE_CREATION); //$NON-NLS-1$
+		registry.add("ConvertLambdaToAnonymousClassCreations", false, (i, p) -> getConvertLambdaToAnonymousClassCreationsProposals(i.fContext, i.fCoveringNode, p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		registry.add("ChangeLambdaBodyToBlock", false, (i, p) -> getChangeLambdaBodyToBlockProposal(i.fContext, i.fCoveringNode, p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		registry.add("ChangeLambdaBodyToExpression", false, (i, p) -> getChangeLambdaBodyToExpressionProposal(i.fContext, i.fCoveringNode, p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		registry.add("AddInferredLambdaParameterTypes", false, (i, p) -> getAddInferredLambdaParameterTypes(i.fContext, i.fCoveringNode, p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		registry.add("AddVarLambdaParameterTypes", false, (i, p) -> getAddVarLambdaParameterTypes(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("RemoveVarOrInferredLambdaParameterTypes", false, (i, p) -> getRemoveVarOrInferredLambdaParameterTypes(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("ConvertMethodReferenceToLambda", false, (i, p) -> getConvertMethodReferenceToLambdaProposal(i.fContext, i.fCoveringNode, p), //$NON-NLS-1$
+				ASTNode.EXPRESSION_METHOD_REFERENCE, ASTNode.SUPER_METHOD_REFERENCE, ASTNode.TYPE_METHOD_REFERENCE, ASTNode.CREATION_REFERENCE);
+		registry.add("ConvertLambdaToMethodReference", false, (i, p) -> getConvertLambdaToMethodReferenceProposal(i.fContext, i.fCoveringNode, p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		registry.add("FixParenthesesInLambdaExpression", false, (i, p) -> getFixParenthesesInLambdaExpression(i.fContext, i.fCoveringNode, p), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		// the iterable loop proposal is only computed if the for loop cannot be converted to an enhanced for loop
+		registry.add("ConvertForLoop", false, (i, p) -> getConvertForLoopProposal(i.fContext, i.fCoveringNode, p) || getConvertIterableLoopProposal(i.fContext, i.fCoveringNode, p), ASTNode.FOR_STATEMENT); //$NON-NLS-1$
+		registry.add("UnnecessaryArrayCreation", false, (i, p) -> getUnnecessaryArrayCreationProposal(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("ConvertEnhancedForLoop", false, (i, p) -> getConvertEnhancedForLoopProposal(i.fContext, i.fCoveringNode, p), ASTNode.ENHANCED_FOR_STATEMENT); //$NON-NLS-1$
+		registry.add("RemoveBlock", false, (i, p) -> getRemoveBlockProposals(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("MakeVariableDeclarationFinal", false, (i, p) -> getMakeVariableDeclarationFinalProposals(i.fContext, p)); //$NON-NLS-1$
+		registry.add("ConvertStringConcatenation", false, (i, p) -> ConvertStringConcatenationProposals.getProposals(i.fContext, p)); //$NON-NLS-1$
+		registry.add("MissingCaseStatement", false, (i, p) -> getMissingCaseStatementProposals(i.fContext, i.fCoveringNode, p), ASTNode.SWITCH_STATEMENT); //$NON-NLS-1$
+		registry.addProposalsOnly("ConvertVarTypeToResolvedType", false, (i, p) -> getConvertVarTypeToResolvedTypeProposal(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.addProposalsOnly("ConvertResolvedTypeToVarType", false, (i, p) -> getConvertResolvedTypeToVarTypeProposal(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("AddStaticImport", false, (i, p) -> getAddStaticImportProposals(i.fContext, i.fCoveringNode, p), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		registry.add("AddStaticMemberFavorites", false, (i, p) -> getAddStaticMemberFavoritesProposals(i.fContext, i.fCoveringNode, p), ASTNode.IMPORT_DECLARATION); //$NON-NLS-1$
+		registry.add("ConvertToSwitchExpression", false, (i, p) -> getConvertToSwitchExpressionProposals(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		registry.add("DoWhileRatherThanWhile", false, (i, p) -> getDoWhileRatherThanWhileProposal(i.fContext, i.fCoveringNode, p), ASTNode.WHILE_STATEMENT); //$NON-NLS-1$
+		registry.add("StringConcatToTextBlock", false, (i, p) -> getStringConcatToTextBlockProposal(i.fContext, i.fCoveringNode, p)); //$NON-NLS-1$
+		return registry;
 	}
 
 	@Override
 	public boolean hasAssists(IInvocationContext context) throws CoreException {
 		ASTNode coveringNode= context.getCoveringNode();
 		if (coveringNode != null) {
-			ArrayList<ASTNode> coveredNodes= AdvancedQuickAssistProcessor.getFullyCoveredNodes(context, coveringNode);
-			return getCatchClauseToThrowsProposals(context, coveringNode, null)
-					|| getPickoutTypeFromMulticatchProposals(context, coveringNode, coveredNodes, null)
-					|| getConvertToMultiCatchProposals(context, coveringNode, null)
-					|| getUnrollMultiCatchProposals(context, coveringNode, null)
-					|| getRenameLocalProposals(context, coveringNode, null, null)
-					|| getRenameRefactoringProposal(context, coveringNode, null, null)
-					|| getAssignToVariableProposals(context, coveringNode, null, null)
-					|| getUnWrapProposals(context, coveringNode, null)
-					|| getAssignParamToFieldProposals(context, coveringNode, null)
-					|| getAssignAllParamsToFieldsProposals(context, coveringNode, null)
-					|| getJoinVariableProposals(context, coveringNode, null)
-					|| getAddFinallyProposals(context, coveringNode, null)
-					|| getAddElseProposals(context, coveringNode, null)
-					|| getSplitVariableProposals(context, coveringNode, null)
-					|| getAddBlockProposals(context, coveringNode, null)
-					|| getTryWithResourceProposals(context, coveringNode, null, null)
-					|| getArrayInitializerToArrayCreation(context, coveringNode, null)
-					|| getCreateInSuperClassProposals(context, coveringNode, null)
-					|| getInvertEqualsProposal(context, coveringNode, null)
-					|| getConvertForLoopProposal(context, coveringNode, null)
-					|| getConvertIterableLoopProposal(context, coveringNode, null)
-					|| getConvertEnhancedForLoopProposal(context, coveringNode, null)
-					|| getGenerateForLoopProposals(context, coveringNode, null, null)
-					|| getUnnecessaryArrayCreationProposal(context, coveringNode, null)
-					|| getExtractVariableProposal(context, false, null)
-					|| getExtractMethodProposal(context, coveringNode, false, null)
-					|| getExtractMethodFromLambdaProposal(context, coveringNode, false, null)
-					|| getInlineLocalProposal(context, coveringNode, null)
-					|| getConvertLocalToFieldProposal(context, coveringNode, null)
-					|| getConvertAnonymousToNestedProposal(context, coveringNode, null)
-					|| getConvertAnonymousClassCreationsToLambdaProposals(context, coveringNode, null)
-					|| getConvertLambdaToAnonymousClassCreationsProposals(context, coveringNode, null)
-					|| getChangeLambdaBodyToBlockProposal(context, coveringNode, null)
-					|| getChangeLambdaBodyToExpressionProposal(context, coveringNode, null)
-					|| getAddInferredLambdaParameterTypes(context, coveringNode, null)
-					|| getAddVarLambdaParameterTypes(context, coveringNode, null)
-					|| getAddMethodDeclaration(context, coveringNode, null)
-					|| getRemoveVarOrInferredLambdaParameterTypes(context, coveringNode, null)
-					|| getConvertMethodReferenceToLambdaProposal(context, coveringNode, null)
-					|| getConvertLambdaToMethodReferenceProposal(context, coveringNode, null)
-					|| getConvertToSwitchExpressionProposals(context, coveringNode, null)
-					|| getFixParenthesesInLambdaExpression(context, coveringNode, null)
-					|| getRemoveBlockProposals(context, coveringNode, null)
-					|| getMakeVariableDeclarationFinalProposals(context, null)
-					|| getMissingCaseStatementProposals(context, coveringNode, null)
-					|| ConvertStringConcatenationProposals.getProposals(context, null)
-					|| getInferDiamondArgumentsProposal(context, coveringNode, null, null)
-					|| getJUnitTestCaseProposal(context, coveringNode, null)
-					|| getNewImplementationProposal(context, coveringNode, null)
-					|| getNewInterfaceImplementationProposal(context, coveringNode, null)
-					|| getAddStaticImportProposals(context, coveringNode, null)
-					|| getDoWhileRatherThanWhileProposal(context, coveringNode, null)
-					|| getStringConcatToTextBlockProposal(context, coveringNode, null)
-					|| getAddStaticMemberFavoritesProposals(context, coveringNode, null)
-					|| getSplitSwitchLabelProposal(context, coveringNode, null);
+			return fProviders.hasAssists(new QuickAssistProviderRegistry.Invocation(context, coveringNode, null));
 		}
 		return false;
 	}
@@ -344,72 +367,9 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
 		ASTNode coveringNode= context.getCoveringNode();
 		if (coveringNode != null) {
-			ArrayList<ASTNode> coveredNodes= AdvancedQuickAssistProcessor.getFullyCoveredNodes(context, coveringNode);
 			ArrayList<ICommandAccess> resultingCollections= new ArrayList<>();
-			boolean noErrorsAtLocation= noErrorsAtLocation(locations);
-
-			// quick assists that show up also if there is an error/warning
-			getRenameLocalProposals(context, coveringNode, locations, resultingCollections);
-			getRenameRefactoringProposal(context, coveringNode, locations, resultingCollections);
-			getAssignToVariableProposals(context, coveringNode, locations, resultingCollections);
-			getAssignParamToFieldProposals(context, coveringNode, resultingCollections);
-			getAssignAllParamsToFieldsProposals(context, coveringNode, resultingCollections);
-			getInferDiamondArgumentsProposal(context, coveringNode, locations, resultingCollections);
-			getGenerateForLoopProposals(context, coveringNode, locations, resultingCollections);
-			getJUnitTestCaseProposal(context, coveringNode, resultingCollections);
-			getNewImplementationProposal(context, coveringNode, resultingCollections);
-			getNewInterfaceImplementationProposal(context, coveringNode, resultingCollections);
-			getSplitSwitchLabelProposal(context, coveringNode, resultingCollections);
-			getAddMethodDeclaration(context, coveringNode, resultingCollections);
-
-			if (noErrorsAtLocation) {
-				boolean problemsAtLocation= locations.length != 0;
-				getCatchClauseToThrowsProposals(context, coveringNode, resultingCollections);
-				getPickoutTypeFromMulticatchProposals(context, coveringNode, coveredNodes, resultingCollections);
-				getConvertToMultiCatchProposals(context, coveringNode, resultingCollections);
-				getUnrollMultiCatchProposals(context, coveringNode, resultingCollections);
-				getTryWithResourceAssistProposals(locations, context, coveringNode, coveredNodes, resultingCollections);
-				getUnWrapProposals(context, coveringNode, resultingCollections);
-				getJoinVariableProposals(context, coveringNode, resultingCollections);
-				getSplitVariableProposals(context, coveringNode, resultingCollections);
-				getAddFinallyProposals(context, coveringNode, resultingCollections);
-				getAddElseProposals(context, coveringNode, resultingCollections);
-				getAddBlockProposals(context, coveringNode, resultingCollections);
-				getInvertEqualsProposal(context, coveringNode, resultingCollections);
-				getArrayInitializerToArrayCreation(context, coveringNode, resultingCollections);
-				getCreateInSuperClassProposals(context, coveringNode, resultingCollections);
-				getExtractVariableProposal(context, problemsAtLocation, resultingCollections);
-				getExtractMethodProposal(context, coveringNode, problemsAtLocation, resultingCollections);
-				getExtractMethodFromLambdaProposal(context, coveringNode, problemsAtLocation, resultingCollections);
-				getInlineLocalProposal(context, coveringNode, resultingCollections);
-				getConvertLocalToFieldProposal(context, coveringNode, resultingCollections);
-				getConvertAnonymousToNestedProposal(context, coveringNode, resultingCollections);
-				getConvertAnonymousClassCreationsToLambdaProposals(context, coveringNode, resultingCollections);
-				getConvertLambdaToAnonymousClassCreationsProposals(context, coveringNode, resultingCollections);
-				getChangeLambdaBodyToBlockProposal(context, coveringNode, resultingCollections);
-				getChangeLambdaBodyToExpressionProposal(context, coveringNode, resultingCollections);
-				getAddInferredLambdaParameterTypes(context, coveringNode, resultingCollections);
-				getAddVarLambdaParameterTypes(context, coveringNode, resultingCollections);
-				getRemoveVarOrInferredLambdaParameterTypes(context, coveringNode, resultingCollections);
-				getConvertMethodReferenceToLambdaProposal(context, coveringNode, resultingCollections);
-				getConvertLambdaToMethodReferenceProposal(context, coveringNode, resultingCollections);
-				getFixParenthesesInLambdaExpression(context, coveringNode, resultingCollections);
-				if (!getConvertForLoopProposal(context, coveringNode, resultingCollections))
-					getConvertIterableLoopProposal(context, coveringNode, resultingCollections);
-				getUnnecessaryArrayCreationProposal(context, coveringNode, resultingCollections);
-				getConvertEnhancedForLoopProposal(context, coveringNode, resultingCollections);
-				getRemoveBlockProposals(context, coveringNode, resultingCollections);
-				getMakeVariableDeclarationFinalProposals(context, resultingCollections);
-				ConvertStringConcatenationProposals.getProposals(context, resultingCollections);
-				getMissingCaseStatementProposals(context, coveringNode, resultingCollections);
-				getConvertVarTypeToResolvedTypeProposal(context, coveringNode, resultingCollections);
-				getConvertResolvedTypeToVarTypeProposal(context, coveringNode, resultingCollections);
-				getAddStaticImportProposals(context, coveringNode, resultingCollections);
-				getAddStaticMemberFavoritesProposals(context, coveringNode, resultingCollections);
-				getConvertToSwitchExpressionProposals(context, coveringNode, resultingCollections);
-				getDoWhileRatherThanWhileProposal(context, coveringNode, resultingCollections);
-				getStringConcatToTextBlockProposal(context, coveringNode, resultingCollections);
-			}
+			QuickAssistProviderRegistry.Invocation invocation= new QuickAssistProviderRegistry.Invocation(context, coveringNode, locations);
+			fProviders.collectProposals(invocation, noErrorsAtLocation(locations), resultingCollections);
 			return resultingCollections.toArray(new IJavaCompletionProposal[resultingCollections.size()]);
 		}
 		return null;
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.PerformanceStats;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+import org.eclipse.jdt.ui.text.java.correction.ICommandAccess;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The quick assist providers of a processor, indexed by the types of the AST nodes they
+ * apply to. A provider that requires node types only runs if the covering node or one of
+ * its ancestors has one of these types. The applicable providers run in the order in
+ * which they were added, both to test whether an assist is available and to compute the
+ * proposals.
+ * <p>
+ * If the {@link #PERFORMANCE_EVENT} is enabled, the time spent in each provider is
+ * reported with the name of the provider as blame.
+ * </p>
+ */
+final class QuickAssistProviderRegistry {
+
+	/** The name of the performance event used to trace the providers. */
+	private static final String PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/quickassist/providers"; //$NON-NLS-1$
+
+	/** If <code>true</code>, execution time of the providers is measured. */
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERFORMANCE_EVENT);
+
+	private static final String HAS_ASSISTS= "hasAssists"; //$NON-NLS-1$
+	private static final String GET_ASSISTS= "getAssists"; //$NON-NLS-1$
+
+	/**
+	 * A quick assist provider.
+	 */
+	interface IQuickAssistProvider {
+
+		/**
+		 * Tests whether the provider applies and collects its proposals.
+		 *
+		 * @param invocation the invocation
+		 * @param proposals the collection to add the proposals to, or <code>null</code> to only
+		 *            test whether the provider applies
+		 * @return <code>true</code> if the provider applies
+		 * @throws CoreException if the proposals cannot be computed
+		 */
+		boolean collect(Invocation invocation, ArrayList<ICommandAccess> proposals) throws CoreException;
+	}
+
+	/**
+	 * The arguments passed to the providers.
+	 */
+	static final class Invocation {
+
+		final IInvocationContext fContext;
+		final ASTNode fCoveringNode;
+		final IProblemLocation[] fLocations;
+		private ArrayList<ASTNode> fCoveredNodes;
+
+		Invocation(IInvocationContext context, ASTNode coveringNode, IProblemLocation[] locations) {
+			fContext= context;
+			fCoveringNode= coveringNode;
+			fLocations= locations;
+		}
+
+		/**
+		 * @return the nodes fully covered by the selection, computed on first access
+		 */
+		ArrayList<ASTNode> getCoveredNodes() {
+			if (fCoveredNodes == null)
+				fCoveredNodes= AdvancedQuickAssistProcessor.getFullyCoveredNodes(fContext, fCoveringNode);
+			return fCoveredNodes;
+		}
+
+		/**
+		 * @return <code>true</code> if the assist is invoked on problem locations
+		 */
+		boolean hasProblemsAtLocation() {
+			return fLocations != null && fLocations.length != 0;
+		}
+	}
+
+	private static final class Entry {
+		final String fName;
+		final IQuickAssistProvider fProvider;
+		final boolean fShownWithErrors;
+		final boolean fComputesProposalsOnly;
+
+		Entry(String name, IQuickAssistProvider provider, boolean shownWithErrors, boolean computesProposalsOnly) {
+			fName= name;
+			fProvider= provider;
+			fShownWithErrors= shownWithErrors;
+			fComputesProposalsOnly= computesProposalsOnly;
+		}
+	}
+
+	private final List<Entry> fEntries= new ArrayList<>();
+
+	/** The indices of the providers that apply to any node. */
+	private final BitSet fUnconstrained= new BitSet();
+
+	/** The indices of the providers by the node types they require. */
+	private final Map<Integer, BitSet> fByNodeType= new HashMap<>();
+
+	/**
+	 * Adds a provider.
+	 *
+	 * @param name the name of the provider, used to report its performance
+	 * @param shownWithErrors <code>true</code> if the proposals are also shown if there are
+	 *            errors at the location
+	 * @param provider the provider
+	 * @param nodeTypes the node types of which one must be on the path from the covering node
+	 *            to the root, see {@link ASTNode#getNodeType()}. If empty, the provider applies
+	 *            to any node.
+	 * @return this registry
+	 */
+	QuickAssistProviderRegistry add(String name, boolean shownWithErrors, IQuickAssistProvider provider, int... nodeTypes) {
+		return add(name, shownWithErrors, false, provider, nodeTypes);
+	}
+
+	/**
+	 * Adds a provider that is only used to compute proposals and not to test whether an
+	 * assist is available.
+	 *
+	 * @param name the name of the provider, used to report its performance
+	 * @param shownWithErrors <code>true</code> if the proposals are also shown if there are
+	 *            errors at the location
+	 * @param provider the provider
+	 * @param nodeTypes the node types of which one must be on the path from the covering node
+	 *            to the root. If empty, the provider applies to any node.
+	 * @return this registry
+	 */
+	QuickAssistProviderRegistry addProposalsOnly(String name, boolean shownWithErrors, IQuickAssistProvider provider, int... nodeTypes) {
+		return add(name, shownWithErrors, true, provider, nodeTypes);
+	}
+
+	private QuickAssistProviderRegistry add(String name, boolean shownWithErrors, boolean computesProposalsOnly, IQuickAssistProvider provider, int... nodeTypes) {
+		int index= fEntries.size();
+		fEntries.add(new Entry(name, provider, shownWithErrors, computesProposalsOnly));
+		if (nodeTypes.length == 0) {
+			fUnconstrained.set(index);
+		} else {
+			for (int nodeType : nodeTypes)
+				fByNodeType.computeIfAbsent(Integer.valueOf(nodeType), k -> new BitSet()).set(index);
+		}
+		return this;
+	}
+
+	/**
+	 * Tests whether one of the providers applies.
+	 *
+	 * @param invocation the invocation
+	 * @return <code>true</code> if one of the providers applies
+	 * @throws CoreException if a provider fails
+	 */
+	boolean hasAssists(Invocation invocation) throws CoreException {
+		BitSet applicable= getApplicableProviders(invocation.fCoveringNode);
+		for (int i= applicable.nextSetBit(0); i >= 0; i= applicable.nextSetBit(i + 1)) {
+			Entry entry= fEntries.get(i);
+			if (!entry.fComputesProposalsOnly && run(entry, invocation, null, HAS_ASSISTS))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the proposals of the applicable providers.
+	 *
+	 * @param invocation the invocation
+	 * @param noErrorsAtLocation <code>false</code> to only run the providers that are also shown
+	 *            if there are errors at the location
+	 * @param proposals the collection to add the proposals to
+	 * @throws CoreException if a provider fails
+	 */
+	void collectProposals(Invocation invocation, boolean noErrorsAtLocation, ArrayList<ICommandAccess> proposals) throws CoreException {
+		BitSet applicable= getApplicableProviders(invocation.fCoveringNode);
+		for (int i= applicable.nextSetBit(0); i >= 0; i= applicable.nextSetBit(i + 1)) {
+			Entry entry= fEntries.get(i);
+			if (noErrorsAtLocation || entry.fShownWithErrors)
+				run(entry, invocation, proposals, GET_ASSISTS);
+		}
+	}
+
+	private BitSet getApplicableProviders(ASTNode coveringNode) {
+		BitSet applicable= (BitSet) fUnconstrained.clone();
+		for (ASTNode node= coveringNode; node != null; node= node.getParent()) {
+			BitSet providers= fByNodeType.get(Integer.valueOf(node.getNodeType()));
+			if (providers != null)
+				applicable.or(providers);
+		}
+		return applicable;
+	}
+
+	private static boolean run(Entry entry, Invocation invocation, ArrayList<ICommandAccess> proposals, String operation) throws CoreException {
+		if (!MEASURE_PERFORMANCE)
+			return entry.fProvider.collect(invocation, proposals);
+
+		PerformanceStats stats= PerformanceStats.getStats(PERFORMANCE_EVENT, entry.fName);
+		stats.startRun(operation);
+		try {
+			return entry.fProvider.collect(invocation, proposals);
+		} finally {
+			stats.endRun();
+		}
+	}
+}
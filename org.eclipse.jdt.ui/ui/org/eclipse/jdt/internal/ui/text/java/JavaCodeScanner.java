@@ -176,10 +176,8 @@ public final class JavaCodeScanner extends AbstractJavaScanner {
 		}
 
 		@Override
-		public IToken evaluate(ICharacterScanner scanner, CombinedWordRule.CharacterBuffer word) {
-			IToken token= super.evaluate(scanner, word);
-
-			if (fIsVersionMatch || token.isUndefined())
+		protected IToken adaptToken(IToken token) {
+			if (fIsVersionMatch)
 				return token;
 
 			return fDefaultToken;
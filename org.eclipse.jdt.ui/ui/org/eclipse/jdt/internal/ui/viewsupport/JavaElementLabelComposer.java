@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,43 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		}
 	}
 
+	/**
+	 * A buffer backed by an unsynchronized {@link StringBuilder}.
+	 */
+	public static class FlexibleStringBuilder extends FlexibleBuffer {
+		private final StringBuilder fStringBuilder;
+
+		public FlexibleStringBuilder(StringBuilder stringBuilder) {
+			fStringBuilder= stringBuilder;
+		}
+
+		@Override
+		public FlexibleBuffer append(char ch) {
+			fStringBuilder.append(ch);
+			return this;
+		}
+
+		@Override
+		public FlexibleBuffer append(String string) {
+			fStringBuilder.append(string);
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return fStringBuilder.length();
+		}
+
+		@Override
+		public String toString() {
+			return fStringBuilder.toString();
+		}
+
+		@Override
+		public void setStyle(int offset, int length, Styler styler) {
+			// no style
+		}
+	}
 
 	public static class FlexibleStyledString extends FlexibleBuffer {
 		private final StyledString fStyledString;
@@ -212,6 +249,25 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		this(new FlexibleStringBuffer(buffer));
 	}
 
+	/**
+	 * Creates a new java element composer based on the given builder.
+	 *
+	 * @param builder the string builder
+	 */
+	public JavaElementLabelComposer(StringBuilder builder) {
+		this(new FlexibleStringBuilder(builder));
+	}
+
+	/**
+	 * Returns the preferences that influence the labels besides the rendering flags, for
+	 * example to decide whether cached labels are still valid.
+	 *
+	 * @return the package name compression and abbreviation patterns
+	 */
+	public static String getLabelSettings() {
+		return getPkgNamePatternForPackagesView() + '\n' + getPkgNameAbbreviationPatternForPackagesView();
+	}
+
 
 
 	@Override
@@ -573,7 +629,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		return store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES);
 	}
 
-	private String getPkgNamePatternForPackagesView() {
+	private static String getPkgNamePatternForPackagesView() {
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		if (!store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES))
 			return ""; //$NON-NLS-1$
@@ -586,7 +642,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		return store.getBoolean(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES);
 	}
 
-	private String getPkgNameAbbreviationPatternForPackagesView() {
+	private static String getPkgNameAbbreviationPatternForPackagesView() {
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		if (!store.getBoolean(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES))
 			return ""; //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.util.Strings;
@@ -381,6 +382,10 @@ public class JavaElementLabels {
 
 	private static final Styler DECORATIONS_STYLE= StyledString.DECORATIONS_STYLER;
 
+	private static final JavaElementLabelCache<String> fgLabelCache= new JavaElementLabelCache<>();
+
+	private static final JavaElementLabelCache<StyledString> fgStyledLabelCache= new JavaElementLabelCache<>();
+
 
 	private JavaElementLabels() {
 	}
@@ -491,9 +496,11 @@ public class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		return fgLabelCache.getLabel(element, flags, JavaElementLabelComposer.getLabelSettings(), (e, f) -> {
+			StringBuilder result= new StringBuilder();
+			new JavaElementLabelComposer(result).appendElementLabel(e, f);
+			return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		});
 	}
 
 	/**
@@ -506,9 +513,13 @@ public class JavaElementLabels {
 	 * @since 3.4
 	 */
 	public static StyledString getStyledElementLabel(IJavaElement element, long flags) {
-		StyledString result= new StyledString();
-		getElementLabel(element, flags, result);
-		return Strings.markJavaElementLabelLTR(result);
+		StyledString label= fgStyledLabelCache.getLabel(element, flags, JavaElementLabelComposer.getLabelSettings(), (e, f) -> {
+			StyledString result= new StyledString();
+			getElementLabel(e, f, result);
+			return Strings.markJavaElementLabelLTR(result);
+		});
+		// the cached label is shared, callers may modify the returned one
+		return new StyledString().append(label);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -3283,6 +3283,16 @@ public class PreferenceConstants {
 	 */
 	public static final String SEARCH_USE_REDUCED_MENU= "Search.usereducemenu"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls whether the query participants of a Java search run in
+	 * parallel with the Java search engine instead of after it.
+	 * <p>
+	 * Value is of type <code>Boolean</code>.
+	 * </p>
+	 * @since 3.27
+	 */
+	public static final String SEARCH_CONCURRENT_PARTICIPANTS= "Search.concurrentParticipants"; //$NON-NLS-1$
+
 	/**
 	 * A named preference that controls if the Java Browsing views are linked to the active editor.
 	 * <p>
@@ -3969,6 +3979,7 @@ public class PreferenceConstants {
 		store.setDefault(PreferenceConstants.LINK_BROWSING_MEMBERS_TO_EDITOR, true);
 
 		store.setDefault(PreferenceConstants.SEARCH_USE_REDUCED_MENU, true);
+		store.setDefault(PreferenceConstants.SEARCH_CONCURRENT_PARTICIPANTS, false);
 
 		// AppearancePreferencePage
 		store.setDefault(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,6 +134,12 @@ public class JarPackageData {
 	// Add directory entries to the jar
 	private boolean fIncludeDirectoryEntries;
 
+	// Collect the exported elements in a background job while the jar is written
+	private boolean fCollectInBackground;
+
+	// Remember the source files of the class files between exports of the jar
+	private boolean fRememberClassFileSources;
+
 	// Projects for which to store refactoring information
 	private IProject[] fRefactoringProjects= {};
 
@@ -1057,6 +1063,66 @@ public class JarPackageData {
 		fIncludeDirectoryEntries = includeDirectoryEntries;
 	}
 
+	/**
+	 * Tells whether the elements to export are collected in a background job
+	 * while the JAR is written.
+	 * <p>
+	 * If <code>true</code>, the collection of the files and the compression of
+	 * the entries overlap, and the progress of the export is indeterminate.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the elements are collected in the background
+	 *
+	 * @since 3.27
+	 */
+	public boolean isCollectingInBackground() {
+		return fCollectInBackground;
+	}
+
+	/**
+	 * Sets the option to collect the elements to export in a background job
+	 * while the JAR is written.
+	 *
+	 * @param collectInBackground <code>true</code> to collect the elements
+	 *  in the background, <code>false</code> otherwise
+	 *
+	 * @since 3.27
+	 */
+	public void setCollectInBackground(boolean collectInBackground) {
+		fCollectInBackground= collectInBackground;
+	}
+
+	/**
+	 * Tells whether the source files of the exported class files are
+	 * remembered between exports of the same JAR.
+	 * <p>
+	 * If <code>true</code>, a re-export only reads the class files that
+	 * were built again since the previous export to find the class files
+	 * of the exported compilation units.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the source files of the class files are
+	 *  remembered
+	 *
+	 * @since 3.27
+	 */
+	public boolean areClassFileSourcesRemembered() {
+		return fRememberClassFileSources;
+	}
+
+	/**
+	 * Sets the option to remember the source files of the exported class
+	 * files between exports of the same JAR.
+	 *
+	 * @param remember <code>true</code> to remember the source files of the
+	 *  class files, <code>false</code> otherwise
+	 *
+	 * @since 3.27
+	 */
+	public void setRememberClassFileSources(boolean remember) {
+		fRememberClassFileSources= remember;
+	}
+
 	/**
 	 * Returns the projects for which refactoring information should be stored.
 	 * <p>
@@ -24,12 +24,14 @@ import org.eclipse.ltk.core.refactoring.tests.scripting.RefactoringScriptingTest
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	CompositeChangeTests.class,
 	RefactoringContextTest.class,
 	ParticipantTests.class,
 	RefactoringHistoryTests.class,
 	RefactoringScriptingTests.class,
 	ResourceRefactoringTests.class,
-	ResourceRefactoringUndoTests.class
+	ResourceRefactoringUndoTests.class,
+	UndoEditStoreTests.class
 })
 public class AllTests {
 }
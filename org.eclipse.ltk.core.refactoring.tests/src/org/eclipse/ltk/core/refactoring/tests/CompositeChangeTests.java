@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+public class CompositeChangeTests {
+
+	private static final int FILE_COUNT= 20;
+
+	private SimpleTestProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	private IFile[] createFiles() throws CoreException {
+		IFolder folder= fProject.createFolder("test");
+		IFile[] files= new IFile[FILE_COUNT];
+		for (int i= 0; i < files.length; i++) {
+			files[i]= fProject.createFile(folder, "test" + i + ".txt", "section one section two");
+		}
+		return files;
+	}
+
+	private CompositeChange createChange(IFile[] files, int offset) {
+		CompositeChange change= new CompositeChange("composite");
+		for (IFile file : files) {
+			TextFileChange textFileChange= new TextFileChange("", file);
+			textFileChange.setEdit(new ReplaceEdit(offset, 3, "three"));
+			change.add(textFileChange);
+		}
+		change.setParallelPerform(true);
+		return change;
+	}
+
+	@Test
+	public void testParallelPerformAndUndo() throws Exception {
+		IFile[] files= createFiles();
+		CompositeChange change= createChange(files, 8);
+
+		Change[] undo= new Change[1];
+		ResourcesPlugin.getWorkspace().run(pm -> {
+			change.initializeValidationData(new NullProgressMonitor());
+			undo[0]= change.perform(new NullProgressMonitor());
+		}, null);
+		for (IFile file : files) {
+			assertEquals("section three section two", fProject.getContent(file));
+		}
+		assertEquals(0, change.getChildren().length);
+
+		assertNotNull(undo[0]);
+		assertEquals(FILE_COUNT, ((CompositeChange) undo[0]).getChildren().length);
+		ResourcesPlugin.getWorkspace().run(pm -> {
+			undo[0].initializeValidationData(new NullProgressMonitor());
+			undo[0].perform(new NullProgressMonitor());
+		}, null);
+		for (IFile file : files) {
+			assertEquals("section one section two", fProject.getContent(file));
+		}
+	}
+
+	@Test
+	public void testParallelPerformFailureKeepsFiles() throws Exception {
+		IFile[] files= createFiles();
+		CompositeChange change= createChange(files, 8);
+		Change failing= change.getChildren()[FILE_COUNT / 2];
+		((TextFileChange) failing).setEdit(new ReplaceEdit(100, 3, "three"));
+
+		try {
+			ResourcesPlugin.getWorkspace().run(pm -> {
+				change.initializeValidationData(new NullProgressMonitor());
+				change.perform(new NullProgressMonitor());
+			}, null);
+			fail("edit outside of document must fail");
+		} catch (CoreException e) {
+			// expected
+		}
+		for (IFile file : files) {
+			assertEquals("section one section two", fProject.getContent(file));
+		}
+	}
+
+	@Test
+	public void testParallelPerformCanceledReleasesDocuments() throws Exception {
+		IFile[] files= createFiles();
+		CompositeChange change= createChange(files, 8);
+		NullProgressMonitor monitor= new NullProgressMonitor() {
+			@Override
+			public void worked(int work) {
+				if (work > 0)
+					setCanceled(true);
+			}
+		};
+
+		try {
+			ResourcesPlugin.getWorkspace().run(pm -> {
+				change.initializeValidationData(new NullProgressMonitor());
+				change.perform(monitor);
+			}, null);
+			fail("perform must be canceled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		for (IFile file : files) {
+			assertNull(FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE));
+			assertEquals("section one section two", fProject.getContent(file));
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.UndoEdit;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ltk.internal.core.refactoring.UndoEditStore;
+
+public class UndoEditStoreTests {
+
+	@After
+	public void tearDown() {
+		UndoEditStore.getInstance().setMemoryBudget(-1);
+	}
+
+	private static String createContent() {
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < 1000; i++) {
+			buffer.append("line ").append(i).append('\n');
+		}
+		return buffer.toString();
+	}
+
+	@Test
+	public void testSpillAndLoad() throws Exception {
+		String original= createContent();
+		IDocument document= new Document(original);
+		MultiTextEdit edit= new MultiTextEdit();
+		edit.addChild(new ReplaceEdit(0, 4000, "start"));
+		edit.addChild(new ReplaceEdit(5000, 10, "middle"));
+		UndoEdit undo= edit.apply(document, TextEdit.CREATE_UNDO);
+
+		UndoEditStore store= UndoEditStore.getInstance();
+		store.setMemoryBudget(0);
+		long spilled= store.getSpilledSize();
+		int spillCount= store.getSpillCount();
+		UndoEditStore.Entry entry= store.add(undo);
+		assertTrue(entry.isSpilled());
+		assertEquals(spillCount + 1, store.getSpillCount());
+		assertEquals(spilled + entry.getSize(), store.getSpilledSize());
+
+		entry.getEdit().apply(document);
+		assertFalse(entry.isSpilled());
+		assertEquals(original, document.get());
+
+		entry.dispose();
+		assertEquals(spilled, store.getSpilledSize());
+	}
+
+	@Test
+	public void testSmallEditsStayInMemory() throws Exception {
+		IDocument document= new Document(createContent());
+		UndoEdit undo= new ReplaceEdit(0, 4, "row").apply(document, TextEdit.CREATE_UNDO);
+
+		UndoEditStore store= UndoEditStore.getInstance();
+		store.setMemoryBudget(0);
+		long retained= store.getRetainedSize();
+		UndoEditStore.Entry entry= store.add(undo);
+		assertFalse(entry.isSpilled());
+		assertEquals(retained + entry.getSize(), store.getRetainedSize());
+
+		entry.dispose();
+		assertEquals(retained, store.getRetainedSize());
+	}
+
+	@Test
+	public void testReloadedEditIsRetained() throws Exception {
+		IDocument document= new Document(createContent());
+		UndoEdit undo= new ReplaceEdit(0, 4000, "start").apply(document, TextEdit.CREATE_UNDO);
+
+		UndoEditStore store= UndoEditStore.getInstance();
+		store.setMemoryBudget(0);
+		long retained= store.getRetainedSize();
+		long spilled= store.getSpilledSize();
+		UndoEditStore.Entry entry= store.add(undo);
+		assertTrue(entry.isSpilled());
+
+		entry.getEdit();
+		assertEquals(retained + entry.getSize(), store.getRetainedSize());
+		assertEquals(spilled, store.getSpilledSize());
+
+		entry.dispose();
+		assertEquals(retained, store.getRetainedSize());
+	}
+
+	@Test
+	public void testSpillUnpairedSurrogates() throws Exception {
+		StringBuilder buffer= new StringBuilder(createContent());
+		buffer.setCharAt(10, '\uD800');
+		buffer.setCharAt(20, '\uDC00');
+		String original= buffer.toString();
+		IDocument document= new Document(original);
+		UndoEdit undo= new ReplaceEdit(0, 4000, "start").apply(document, TextEdit.CREATE_UNDO);
+
+		UndoEditStore store= UndoEditStore.getInstance();
+		store.setMemoryBudget(0);
+		UndoEditStore.Entry entry= store.add(undo);
+		assertTrue(entry.isSpilled());
+
+		entry.getEdit().apply(document);
+		assertEquals(original, document.get());
+		entry.dispose();
+	}
+}
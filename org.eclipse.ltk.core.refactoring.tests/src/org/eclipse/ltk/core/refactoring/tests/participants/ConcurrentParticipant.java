@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.participants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExecutableExtension;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.participants.CheckConditionsContext;
+import org.eclipse.ltk.core.refactoring.participants.RenameParticipant;
+
+/**
+ * A participant whose name is the last segment of its extension id. The condition
+ * checks of all instances are delegated to {@link #fgCheck}.
+ */
+public class ConcurrentParticipant extends RenameParticipant implements IExecutableExtension {
+
+	public interface Check {
+		RefactoringStatus check(String name, IProgressMonitor pm);
+	}
+
+	public static Check fgCheck;
+	public static List<String> fgChecked;
+	public static List<String> fgCreated;
+
+	private String fName;
+
+	public static void reset() {
+		fgCheck= null;
+		fgChecked= Collections.synchronizedList(new ArrayList<>());
+		fgCreated= Collections.synchronizedList(new ArrayList<>());
+	}
+
+	@Override
+	public void setInitializationData(IConfigurationElement config, String propertyName, Object data) throws CoreException {
+		String id= config.getAttribute("id");
+		fName= id.substring(id.lastIndexOf('.') + 1);
+	}
+
+	@Override
+	protected boolean initialize(Object element) {
+		return true;
+	}
+
+	@Override
+	public String getName() {
+		return fName;
+	}
+
+	@Override
+	public RefactoringStatus checkConditions(IProgressMonitor pm, CheckConditionsContext context) throws OperationCanceledException {
+		fgChecked.add(fName);
+		if (fgCheck == null)
+			return new RefactoringStatus();
+		return fgCheck.check(fName, pm);
+	}
+
+	@Override
+	public Change createChange(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+		fgCreated.add(fName);
+		return null;
+	}
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.participants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.ILogListener;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+
+/**
+ * Tests the participants declared <code>threadSafe</code>. The participants of
+ * {@link ElementConcurrent} are declared in the order <code>Concurrent1</code>,
+ * <code>Concurrent2</code>, <code>Serial</code> and <code>Concurrent3</code>,
+ * where all but <code>Serial</code> are thread safe.
+ */
+public class ConcurrentParticipantTests {
+
+	private static final String CONCURRENT1= "Concurrent1";
+	private static final String CONCURRENT2= "Concurrent2";
+	private static final String SERIAL= "Serial";
+	private static final String CONCURRENT3= "Concurrent3";
+
+	private ElementRenameRefactoring fRefactoring;
+
+	private ILogListener fLogListener;
+	private List<IStatus> fLogEntries;
+
+	@Before
+	public void setUp() throws Exception {
+		ConcurrentParticipant.reset();
+		fLogEntries= new ArrayList<>();
+		fLogListener= (status, plugin) -> fLogEntries.add(status);
+		Platform.addLogListener(fLogListener);
+
+		fRefactoring= new ElementRenameRefactoring(ElementRenameRefactoring.CONCURRENT);
+		fRefactoring.checkInitialConditions(new NullProgressMonitor());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Platform.removeLogListener(fLogListener);
+		ConcurrentParticipant.reset();
+	}
+
+	@Test
+	public void testThreadSafeParticipantsCheckedConcurrently() throws Exception {
+		Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+
+		Map<String, Thread> threads= new ConcurrentHashMap<>();
+		CountDownLatch bothRunning= new CountDownLatch(2);
+		ConcurrentParticipant.fgCheck= (name, pm) -> {
+			threads.put(name, Thread.currentThread());
+			if (CONCURRENT1.equals(name) || CONCURRENT2.equals(name)) {
+				bothRunning.countDown();
+				if (!await(bothRunning))
+					return RefactoringStatus.createFatalErrorStatus(name + " not checked concurrently");
+			}
+			return new RefactoringStatus();
+		};
+
+		RefactoringStatus status= fRefactoring.checkFinalConditions(new NullProgressMonitor());
+
+		assertTrue(status.toString(), status.isOK());
+		assertEquals(Arrays.asList(CONCURRENT1, CONCURRENT2, SERIAL, CONCURRENT3), sorted(ConcurrentParticipant.fgChecked));
+		assertNotSame(Thread.currentThread(), threads.get(CONCURRENT1));
+		assertNotSame(Thread.currentThread(), threads.get(CONCURRENT2));
+		assertSame(Thread.currentThread(), threads.get(SERIAL));
+		// a single thread safe participant is not worth a job
+		assertSame(Thread.currentThread(), threads.get(CONCURRENT3));
+	}
+
+	@Test
+	public void testMergeOrder() throws Exception {
+		CountDownLatch secondChecked= new CountDownLatch(1);
+		ConcurrentParticipant.fgCheck= (name, pm) -> {
+			if (CONCURRENT1.equals(name))
+				await(secondChecked); // let Concurrent2 finish first
+			if (CONCURRENT2.equals(name))
+				secondChecked.countDown();
+			return RefactoringStatus.createWarningStatus(name);
+		};
+
+		RefactoringStatus status= fRefactoring.checkFinalConditions(new NullProgressMonitor());
+
+		List<String> messages= new ArrayList<>();
+		for (RefactoringStatusEntry entry : status.getEntries())
+			messages.add(entry.getMessage());
+		assertEquals(Arrays.asList(CONCURRENT1, CONCURRENT2, SERIAL, CONCURRENT3), messages);
+	}
+
+	@Test
+	public void testFatalErrorInConcurrentCheck() throws Exception {
+		ConcurrentParticipant.fgCheck= (name, pm) -> {
+			if (CONCURRENT1.equals(name))
+				return RefactoringStatus.createFatalErrorStatus(name);
+			return RefactoringStatus.createWarningStatus(name);
+		};
+
+		RefactoringStatus status= fRefactoring.checkFinalConditions(new NullProgressMonitor());
+
+		assertTrue(status.hasFatalError());
+		assertEquals(1, status.getEntries().length);
+		assertFalse(ConcurrentParticipant.fgChecked.contains(SERIAL));
+		assertFalse(ConcurrentParticipant.fgChecked.contains(CONCURRENT3));
+	}
+
+	@Test
+	public void testFatalErrorInSerialCheck() throws Exception {
+		ConcurrentParticipant.fgCheck= (name, pm) -> {
+			if (SERIAL.equals(name))
+				return RefactoringStatus.createFatalErrorStatus(name);
+			return new RefactoringStatus();
+		};
+
+		RefactoringStatus status= fRefactoring.checkFinalConditions(new NullProgressMonitor());
+
+		assertTrue(status.hasFatalError());
+		assertEquals(Arrays.asList(CONCURRENT1, CONCURRENT2, SERIAL), sorted(ConcurrentParticipant.fgChecked));
+	}
+
+	@Test
+	public void testFailingConcurrentParticipantRemoved() throws Exception {
+		RuntimeException failure= new RuntimeException(CONCURRENT2);
+		ConcurrentParticipant.fgCheck= (name, pm) -> {
+			if (CONCURRENT2.equals(name))
+				throw failure;
+			return new RefactoringStatus();
+		};
+
+		RefactoringStatus status= fRefactoring.checkFinalConditions(new NullProgressMonitor());
+
+		assertEquals(RefactoringStatus.ERROR, status.getSeverity());
+		assertEquals(Arrays.asList(CONCURRENT1, CONCURRENT2, SERIAL, CONCURRENT3), sorted(ConcurrentParticipant.fgChecked));
+		assertEquals(1, fLogEntries.size());
+		assertSame(failure, fLogEntries.get(0).getException());
+
+		fRefactoring.createChange(new NullProgressMonitor());
+		assertEquals(Arrays.asList(CONCURRENT1, SERIAL, CONCURRENT3), ConcurrentParticipant.fgCreated);
+	}
+
+	@Test
+	public void testCanceledConcurrentCheck() throws Exception {
+		ConcurrentParticipant.fgCheck= (name, pm) -> {
+			if (CONCURRENT1.equals(name)) {
+				pm.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			return new RefactoringStatus();
+		};
+
+		NullProgressMonitor pm= new NullProgressMonitor();
+		try {
+			fRefactoring.checkFinalConditions(pm);
+			fail("check not canceled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+
+		assertTrue(pm.isCanceled());
+		assertFalse(ConcurrentParticipant.fgChecked.contains(SERIAL));
+		assertFalse(ConcurrentParticipant.fgChecked.contains(CONCURRENT3));
+		assertEquals(0, fLogEntries.size());
+	}
+
+	private static boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static List<String> sorted(List<String> names) {
+		List<String> result;
+		synchronized (names) {
+			result= new ArrayList<>(names);
+		}
+		// the order of the declarations
+		List<String> order= Arrays.asList(CONCURRENT1, CONCURRENT2, SERIAL, CONCURRENT3);
+		result.sort((n1, n2) -> order.indexOf(n1) - order.indexOf(n2));
+		return result;
+	}
+}
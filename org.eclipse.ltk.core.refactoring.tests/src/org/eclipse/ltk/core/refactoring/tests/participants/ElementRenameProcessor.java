@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -68,7 +68,9 @@ public class ElementRenameProcessor extends RenameProcessor {
 					fElements= new Object[] { new ElementWorkingPre() };
 			} else
 				fElements= new Object[] { new ElementWorking() };
-		} else
+		} else if ((options & ElementRenameRefactoring.CONCURRENT) != 0)
+			fElements= new Object[] { new ElementConcurrent() };
+		else
 			fElements= new Object[] { new Element() };
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,9 @@ public class ElementRenameRefactoring extends RenameRefactoring {
 	// Use the participants that are never disabled
 	public static final int ALWAYS_ENABLED= 0x08;
 
+	// Use the participants of ElementConcurrent
+	public static final int CONCURRENT= 0x10;
+
 	public ElementRenameRefactoring(int options) {
 		super(new ElementRenameProcessor(options));
 	}
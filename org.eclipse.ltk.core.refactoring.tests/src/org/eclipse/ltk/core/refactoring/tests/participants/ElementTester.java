@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.participants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.expressions.PropertyTester;
+
+public class ElementTester extends PropertyTester {
+
+	public static final AtomicInteger fgTests= new AtomicInteger();
+
+	@Override
+	public boolean test(Object receiver, String property, Object[] args, Object expectedValue) {
+		fgTests.incrementAndGet();
+		return ((ElementTested) receiver).fEnabled;
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.participants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.eclipse.core.expressions.EvaluationContext;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Platform;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.internal.core.refactoring.ParticipantDescriptor;
+
+/**
+ * Tests the cache of the results of enablement expressions.
+ */
+public class ParticipantDescriptorTests {
+
+	private static final String PROCESSOR= ElementRenameProcessor.class.getName();
+
+	/**
+	 * Counts how often the element is looked up, once for the cache key and once
+	 * more for each evaluation of an expression on the element.
+	 */
+	private static class CountingContext extends EvaluationContext {
+
+		int fElementLookups;
+
+		CountingContext(Object element, String processorIdentifier) {
+			super(null, element);
+			addVariable("element", element);
+			addVariable("affectedNatures", Collections.emptyList());
+			addVariable("processorIdentifier", processorIdentifier);
+		}
+
+		@Override
+		public Object getVariable(String name) {
+			if ("element".equals(name))
+				fElementLookups++;
+			return super.getVariable(name);
+		}
+	}
+
+	@Test
+	public void testCacheableExpressionEvaluatedOnce() throws Exception {
+		// enabled for instances of Element
+		ParticipantDescriptor descriptor= getDescriptor("FailingParticipant");
+
+		CountingContext first= new CountingContext(new Element(), PROCESSOR);
+		assertTrue(descriptor.matches(first, null, new RefactoringStatus()));
+		CountingContext second= new CountingContext(new Element(), PROCESSOR);
+		assertTrue(descriptor.matches(second, null, new RefactoringStatus()));
+		assertEquals(1, second.fElementLookups);
+		assertTrue(first.fElementLookups > second.fElementLookups);
+
+		// another element type is a new key
+		CountingContext otherType= new CountingContext(new ElementWorking(), PROCESSOR);
+		assertFalse(descriptor.matches(otherType, null, new RefactoringStatus()));
+		assertEquals(first.fElementLookups, otherType.fElementLookups);
+		otherType= new CountingContext(new ElementWorking(), PROCESSOR);
+		assertFalse(descriptor.matches(otherType, null, new RefactoringStatus()));
+		assertEquals(1, otherType.fElementLookups);
+
+		// so is another processor
+		CountingContext otherProcessor= new CountingContext(new Element(), "org.eclipse.ltk.core.refactoring.tests.OtherProcessor");
+		assertTrue(descriptor.matches(otherProcessor, null, new RefactoringStatus()));
+		assertEquals(first.fElementLookups, otherProcessor.fElementLookups);
+	}
+
+	@Test
+	public void testElementDependentExpressionEvaluatedAgain() throws Exception {
+		// enabled by a property tester
+		ParticipantDescriptor descriptor= getDescriptor("TestedParticipant");
+		int tests= ElementTester.fgTests.get();
+
+		assertTrue(descriptor.matches(new CountingContext(new ElementTested(true), PROCESSOR), null, new RefactoringStatus()));
+		assertEquals(tests + 1, ElementTester.fgTests.get());
+
+		// same element type, but a different result
+		assertFalse(descriptor.matches(new CountingContext(new ElementTested(false), PROCESSOR), null, new RefactoringStatus()));
+		assertEquals(tests + 2, ElementTester.fgTests.get());
+
+		assertTrue(descriptor.matches(new CountingContext(new ElementTested(true), PROCESSOR), null, new RefactoringStatus()));
+		assertEquals(tests + 3, ElementTester.fgTests.get());
+	}
+
+	private static ParticipantDescriptor getDescriptor(String name) {
+		String id= ParticipantDescriptorTests.class.getPackage().getName() + "." + name;
+		for (IConfigurationElement element : Platform.getExtensionRegistry().getConfigurationElementsFor("org.eclipse.ltk.core.refactoring.renameParticipants")) {
+			if (id.equals(element.getAttribute("id")))
+				return new ParticipantDescriptor(element);
+		}
+		fail("participant not declared: " + id);
+		return null;
+	}
+}
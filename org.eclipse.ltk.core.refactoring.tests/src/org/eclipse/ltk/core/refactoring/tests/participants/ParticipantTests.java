@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2020 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,9 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	FailingParticipantTests.class,
 	SharedTextChangeTests.class,
-	CancelingParticipantTests.class
+	CancelingParticipantTests.class,
+	ConcurrentParticipantTests.class,
+	ParticipantDescriptorTests.class
 })
 public class ParticipantTests {
 }
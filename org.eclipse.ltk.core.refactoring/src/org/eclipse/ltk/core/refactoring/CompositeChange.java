@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,38 @@ package org.eclipse.ltk.core.refactoring;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.UndoEdit;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ltk.internal.core.refactoring.Changes;
 
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCoreMessages;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
@@ -47,6 +69,7 @@ public class CompositeChange extends Change {
 	private String fName;
 	private List<Change> fChanges;
 	private boolean fIsSynthetic;
+	private boolean fParallelPerform;
 	private Change fUndoUntilException;
 
 	/**
@@ -96,6 +119,46 @@ public class CompositeChange extends Change {
 		fIsSynthetic= true;
 	}
 
+	/**
+	 * Returns whether independent text file changes of this change are
+	 * performed concurrently.
+	 *
+	 * @return <code>true</code> if parallel perform is enabled; otherwise
+	 *  <code>false</code>
+	 *
+	 * @see #setParallelPerform(boolean)
+	 * @since 3.13
+	 */
+	public boolean isParallelPerform() {
+		return fParallelPerform;
+	}
+
+	/**
+	 * Enables or disables parallel perform for this change.
+	 * <p>
+	 * If enabled and all enabled children are plain {@link TextFileChange}s on
+	 * distinct files that are not connected to a file buffer yet, the documents
+	 * are acquired and the text edits are applied concurrently. The buffers are
+	 * committed afterwards in the order of the children in the thread calling
+	 * {@link #perform(IProgressMonitor)}, so the resources are still modified
+	 * under the scheduling rule held by the caller. If a text edit cannot be
+	 * applied, no file gets modified at all. If the children are not independent,
+	 * the change is performed sequentially.
+	 * </p>
+	 * <p>
+	 * Subclasses of <code>TextFileChange</code> are always performed sequentially,
+	 * since they may acquire their documents in ways that are bound to the calling
+	 * thread.
+	 * </p>
+	 *
+	 * @param parallel <code>true</code> to enable parallel perform
+	 *
+	 * @since 3.13
+	 */
+	public void setParallelPerform(boolean parallel) {
+		fParallelPerform= parallel;
+	}
+
 	@Override
 	public String getName() {
 		return fName;
@@ -258,11 +321,20 @@ public class CompositeChange extends Change {
 	 * undo objects of all executed children.
 	 * </p>
 	 * <p>
+	 * If {@link #setParallelPerform(boolean) parallel perform} is enabled, independent
+	 * text file changes are performed concurrently.
+	 * </p>
+	 * <p>
 	 * Client are allowed to extend this method.
 	 * </p>
 	 */
 	@Override
 	public Change perform(IProgressMonitor pm) throws CoreException {
+		if (fParallelPerform && !internalContinueOnCancel()) {
+			TextFileChange[] textFileChanges= getIndependentTextFileChanges();
+			if (textFileChanges != null)
+				return performParallel(textFileChanges, pm);
+		}
 		fUndoUntilException= null;
 		List<Change> undos= new ArrayList<>(fChanges.size());
 		pm.beginTask("", fChanges.size()); //$NON-NLS-1$
@@ -300,17 +372,7 @@ public class CompositeChange extends Change {
 				iter.remove();
 				// Make sure we dispose the change since it will now longer be
 				// in the list of children when call CompositeChange#dispose()
-				final Change changeToDispose= change;
-				SafeRunner.run(new ISafeRunnable() {
-					@Override
-					public void run() throws Exception {
-						changeToDispose.dispose();
-					}
-					@Override
-					public void handleException(Throwable exception) {
-						RefactoringCorePlugin.log(exception);
-					}
-				});
+				disposeChange(change);
 			}
 			if (canceled)
 				throw new OperationCanceledException();
@@ -327,6 +389,227 @@ public class CompositeChange extends Change {
 		}
 	}
 
+	/**
+	 * Returns the enabled children if all of them are text file changes which
+	 * can be performed independently of each other.
+	 *
+	 * @return the enabled text file changes, or <code>null</code> if the
+	 *  children have to be performed sequentially
+	 */
+	private TextFileChange[] getIndependentTextFileChanges() {
+		List<TextFileChange> result= new ArrayList<>(fChanges.size());
+		Set<IPath> paths= new HashSet<>();
+		for (Change change : fChanges) {
+			if (!change.isEnabled())
+				continue;
+			// subclasses may perform or acquire their documents in ways that are not thread safe,
+			// e.g. by becoming a working copy
+			if (change.getClass() != TextFileChange.class)
+				return null;
+			TextFileChange textFileChange= (TextFileChange) change;
+			IPath path= textFileChange.getFile().getFullPath();
+			if (!paths.add(path))
+				return null;
+			// documents shared with editors must be modified in the UI thread
+			if (FileBuffers.getTextFileBufferManager().getTextFileBuffer(path, LocationKind.IFILE) != null)
+				return null;
+			result.add(textFileChange);
+		}
+		return result.size() > 1 ? result.toArray(new TextFileChange[result.size()]) : null;
+	}
+
+	private static final class EditResult {
+		IDocument fDocument;
+		UndoEdit fUndo;
+		Exception fException;
+	}
+
+	private Change performParallel(TextFileChange[] changes, IProgressMonitor pm) throws CoreException {
+		fUndoUntilException= null;
+		pm.beginTask("", 2 * changes.length); //$NON-NLS-1$
+		pm.setTaskName(RefactoringCoreMessages.CompositeChange_performingChangesTask_name);
+
+		EditResult[] results= performEditsParallel(changes, pm);
+		for (int i= 0; i < results.length; i++) {
+			if (results[i].fException != null) {
+				releaseDocuments(changes, results, 0);
+				Exception e= results[i].fException;
+				internalHandleException(changes[i], e);
+				if (e instanceof CoreException)
+					throw (CoreException) e;
+				if (e instanceof BadLocationException)
+					throw Changes.asCoreException((BadLocationException) e);
+				if (e instanceof MalformedTreeException)
+					throw Changes.asCoreException((MalformedTreeException) e);
+				throw (RuntimeException) e;
+			}
+		}
+		if (pm.isCanceled()) {
+			releaseDocuments(changes, results, 0);
+			throw new OperationCanceledException();
+		}
+
+		// commit the buffers in the calling thread, which owns the scheduling rule
+		List<Change> undos= new ArrayList<>(fChanges.size());
+		Change change= null;
+		int next= 0;
+		try {
+			for (Iterator<Change> iter= fChanges.iterator(); iter.hasNext();) {
+				change= iter.next();
+				if (change.isEnabled()) {
+					TextFileChange textFileChange= changes[next];
+					EditResult result= results[next];
+					next++;
+					Change undoChange;
+					try {
+						textFileChange.commit(result.fDocument, new SubProgressMonitor(pm, 1));
+						undoChange= textFileChange.createUndoChange(result.fUndo);
+					} finally {
+						IDocument document= result.fDocument;
+						result.fDocument= null;
+						textFileChange.releaseDocument(document, new NullProgressMonitor());
+					}
+					if (undos != null) {
+						if (undoChange == null) {
+							undos= null;
+						} else {
+							undos.add(undoChange);
+						}
+					}
+				}
+				iter.remove();
+				disposeChange(change);
+			}
+			if (undos != null) {
+				Collections.reverse(undos);
+				return createUndoChange(undos.toArray(new Change[undos.size()]));
+			} else {
+				return null;
+			}
+		} catch (CoreException | RuntimeException e) {
+			releaseDocuments(changes, results, next);
+			handleUndos(change, undos);
+			internalHandleException(change, e);
+			throw e;
+		} finally {
+			pm.done();
+		}
+	}
+
+	/**
+	 * Acquires the documents and applies the text edits of the given changes
+	 * concurrently. The documents stay acquired unless an exception is reported
+	 * in the corresponding result. Returns only after all workers have finished.
+	 * If the operation is canceled, all acquired documents are released.
+	 *
+	 * @param changes the changes to perform
+	 * @param pm the progress monitor, only accessed from the calling thread
+	 * @return the results in the order of the given changes
+	 */
+	private static EditResult[] performEditsParallel(TextFileChange[] changes, IProgressMonitor pm) {
+		EditResult[] results= new EditResult[changes.length];
+		for (int i= 0; i < changes.length; i++)
+			results[i]= new EditResult();
+
+		AtomicInteger nextChange= new AtomicInteger();
+		AtomicInteger performed= new AtomicInteger();
+		AtomicBoolean canceled= new AtomicBoolean();
+		int workers= Math.min(changes.length, Runtime.getRuntime().availableProcessors());
+		CountDownLatch finished= new CountDownLatch(workers);
+		for (int w= 0; w < workers; w++) {
+			Job job= new Job(RefactoringCoreMessages.CompositeChange_performingChangesTask_name) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						int i;
+						while ((i= nextChange.getAndIncrement()) < changes.length) {
+							if (!canceled.get())
+								performEdits(changes[i], results[i]);
+							performed.incrementAndGet();
+						}
+					} finally {
+						finished.countDown();
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+
+		boolean interrupted= false;
+		int worked= 0;
+		while (true) {
+			try {
+				if (finished.await(100, TimeUnit.MILLISECONDS))
+					break;
+			} catch (InterruptedException e) {
+				// keep waiting, the workers must not outlive this call
+				interrupted= true;
+				canceled.set(true);
+			}
+			if (pm.isCanceled())
+				canceled.set(true);
+			int count= performed.get();
+			pm.worked(count - worked);
+			worked= count;
+		}
+		pm.worked(changes.length - worked);
+
+		if (interrupted || canceled.get() || pm.isCanceled()) {
+			releaseDocuments(changes, results, 0);
+			if (interrupted)
+				Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		return results;
+	}
+
+	private static void performEdits(TextFileChange change, EditResult result) {
+		try {
+			result.fDocument= change.acquireDocument(new NullProgressMonitor());
+			result.fUndo= change.performEdits(result.fDocument);
+		} catch (CoreException | BadLocationException | RuntimeException e) {
+			result.fException= e;
+			releaseDocument(change, result);
+		} catch (Error e) {
+			// report errors like the sequential path would
+			result.fException= new RuntimeException(e);
+			releaseDocument(change, result);
+		}
+	}
+
+	private static void releaseDocument(TextFileChange change, EditResult result) {
+		IDocument document= result.fDocument;
+		if (document != null) {
+			result.fDocument= null;
+			try {
+				change.releaseDocument(document, new NullProgressMonitor());
+			} catch (CoreException e) {
+				RefactoringCorePlugin.log(e);
+			}
+		}
+	}
+
+	private static void releaseDocuments(TextFileChange[] changes, EditResult[] results, int start) {
+		for (int i= start; i < results.length; i++) {
+			releaseDocument(changes[i], results[i]);
+		}
+	}
+
+	private static void disposeChange(Change change) {
+		SafeRunner.run(new ISafeRunnable() {
+			@Override
+			public void run() throws Exception {
+				change.dispose();
+			}
+			@Override
+			public void handleException(Throwable exception) {
+				RefactoringCorePlugin.log(exception);
+			}
+		});
+	}
+
 	private void handleUndos(Change failedChange, List<Change> undos) {
 		if (undos == null) {
 			fUndoUntilException= null;
@@ -41,6 +41,7 @@ import org.eclipse.ltk.internal.core.refactoring.Changes;
 import org.eclipse.ltk.internal.core.refactoring.ContentStamps;
 import org.eclipse.ltk.internal.core.refactoring.Lock;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+import org.eclipse.ltk.internal.core.refactoring.UndoEditStore;
 
 /**
  * A change to perform the reverse change of a {@link TextFileChange}.
@@ -57,7 +58,7 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
 public class UndoTextFileChange extends Change {
 
 	private String fName;
-	private UndoEdit fUndo;
+	private UndoEditStore.Entry fUndo;
 	private IFile fFile;
 	private ContentStamp fContentStampToRestore;
 	private int fSaveMode;
@@ -84,7 +85,7 @@ public class UndoTextFileChange extends Change {
 		Assert.isNotNull(undo);
 		fName= name;
 		fFile= file;
-		fUndo= undo;
+		fUndo= UndoEditStore.getInstance().add(undo);
 		fContentStampToRestore= stamp;
 		fSaveMode= saveMode;
 	}
@@ -267,7 +268,7 @@ public class UndoTextFileChange extends Change {
 	private UndoEdit doPerformEdits(IDocument document, boolean[] setContentStampSuccess) throws MalformedTreeException, BadLocationException, CoreException {
 		// perform the changes
 		LinkedModeModel.closeAllModels(document);
-		UndoEdit redo= fUndo.apply(document, TextEdit.CREATE_UNDO);
+		UndoEdit redo= fUndo.getEdit().apply(document, TextEdit.CREATE_UNDO);
 
 		// try to restore the document content stamp
 		setContentStampSuccess[0]= ContentStamps.set(document, fContentStampToRestore);
@@ -279,6 +280,7 @@ public class UndoTextFileChange extends Change {
 		if (fValidationState != null) {
 			fValidationState.dispose();
 		}
+		fUndo.dispose();
 	}
 
 	private boolean needsSaving() {
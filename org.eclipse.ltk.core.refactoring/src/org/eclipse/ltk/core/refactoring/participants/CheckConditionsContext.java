@@ -66,7 +66,7 @@ public class CheckConditionsContext {
 	 * @return the condition checker or <code>null</code> if
 	 *  no checker is registered for the given type
 	 */
-	public <T extends IConditionChecker> T getChecker(Class<T> clazz) {
+	public synchronized <T extends IConditionChecker> T getChecker(Class<T> clazz) {
 		return clazz.cast(fCheckers.get(clazz));
 	}
 
@@ -79,7 +79,7 @@ public class CheckConditionsContext {
 	 * @throws CoreException if a checker of the same type already
 	 *  exists
 	 */
-	public void add(IConditionChecker checker) throws CoreException {
+	public synchronized void add(IConditionChecker checker) throws CoreException {
 		IConditionChecker old= fCheckers.put(checker.getClass(), checker);
 		if (old != null) {
 			fCheckers.put(checker.getClass(), old);
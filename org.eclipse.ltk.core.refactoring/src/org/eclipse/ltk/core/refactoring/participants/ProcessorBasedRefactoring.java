@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -31,6 +35,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -64,6 +69,7 @@ public class ProcessorBasedRefactoring extends Refactoring {
 
 	private static final String PERF_CHECK_CONDITIONS= "org.eclipse.ltk.core.refactoring/perf/participants/checkConditions"; //$NON-NLS-1$
 	private static final String PERF_CREATE_CHANGES= "org.eclipse.ltk.core.refactoring/perf/participants/createChanges"; //$NON-NLS-1$
+	private static final String PERF_LOAD_PARTICIPANTS= "org.eclipse.ltk.core.refactoring/perf/participants/loadParticipants"; //$NON-NLS-1$
 
 	private RefactoringProcessor fProcessor;
 
@@ -232,7 +238,14 @@ public class ProcessorBasedRefactoring extends Refactoring {
 			throw new OperationCanceledException();
 
 		SharableParticipants sharableParticipants= new SharableParticipants(); // must not be shared when checkFinalConditions is called again
-		RefactoringParticipant[] loadedParticipants= getProcessor().loadParticipants(result, sharableParticipants);
+		RefactoringParticipant[] loadedParticipants;
+		final PerformanceStats loadStats= PerformanceStats.getStats(PERF_LOAD_PARTICIPANTS, getName());
+		loadStats.startRun();
+		try {
+			loadedParticipants= getProcessor().loadParticipants(result, sharableParticipants);
+		} finally {
+			loadStats.endRun();
+		}
 		if (loadedParticipants == null || loadedParticipants.length == 0) {
 			fParticipants= EMPTY_PARTICIPANTS;
 		} else {
@@ -246,30 +259,46 @@ public class ProcessorBasedRefactoring extends Refactoring {
 		IProgressMonitor sm= new SubProgressMonitor(pm, 2);
 
 		sm.beginTask("", fParticipants.size()); //$NON-NLS-1$
-		for (Iterator<RefactoringParticipant> iter= fParticipants.iterator(); iter.hasNext() && !result.hasFatalError(); ) {
-
-			RefactoringParticipant participant= iter.next();
-
-			final PerformanceStats stats= PerformanceStats.getStats(PERF_CHECK_CONDITIONS, getName() + ", " + participant.getName()); //$NON-NLS-1$
-			stats.startRun();
-
-			try {
-				result.merge(participant.checkConditions(new SubProgressMonitor(sm, 1), context));
-			} catch (OperationCanceledException e) {
-				throw e;
-			} catch (RuntimeException e) {
-				// remove the participant so that it will be ignored during change execution.
-				RefactoringCorePlugin.log(e);
-				result.merge(RefactoringStatus.createErrorStatus(Messages.format(
-					RefactoringCoreMessages.ProcessorBasedRefactoring_check_condition_participant_failed,
-					participant.getName())));
-				iter.remove();
+		RefactoringParticipant[] participants= fParticipants.toArray(new RefactoringParticipant[fParticipants.size()]);
+		for (int start= 0; start < participants.length && !result.hasFatalError(); ) {
+			// consecutive thread safe participants are checked concurrently
+			int end= start + 1;
+			if (isThreadSafe(participants[start])) {
+				while (end < participants.length && isThreadSafe(participants[end]))
+					end++;
 			}
+			ConcurrentCheck[] concurrentChecks= end - start > 1 ? runConcurrentChecks(participants, start, end, context, sm) : null;
+
+			for (int i= start; i < end && !result.hasFatalError(); i++) {
+				RefactoringParticipant participant= participants[i];
+				try {
+					if (concurrentChecks != null) {
+						result.merge(concurrentChecks[i - start].getResult());
+						sm.worked(1);
+					} else {
+						final PerformanceStats stats= PerformanceStats.getStats(PERF_CHECK_CONDITIONS, getName() + ", " + participant.getName()); //$NON-NLS-1$
+						stats.startRun();
+						try {
+							result.merge(participant.checkConditions(new SubProgressMonitor(sm, 1), context));
+						} finally {
+							stats.endRun();
+						}
+					}
+				} catch (OperationCanceledException e) {
+					throw e;
+				} catch (RuntimeException e) {
+					// remove the participant so that it will be ignored during change execution.
+					RefactoringCorePlugin.log(e);
+					result.merge(RefactoringStatus.createErrorStatus(Messages.format(
+						RefactoringCoreMessages.ProcessorBasedRefactoring_check_condition_participant_failed,
+						participant.getName())));
+					fParticipants.remove(participant);
+				}
 
-			stats.endRun();
-
-			if (sm.isCanceled())
-				throw new OperationCanceledException();
+				if (sm.isCanceled())
+					throw new OperationCanceledException();
+			}
+			start= end;
 		}
 		sm.done();
 		if (result.hasFatalError()) {
@@ -281,6 +310,133 @@ public class ProcessorBasedRefactoring extends Refactoring {
 		return result;
 	}
 
+	private static boolean isThreadSafe(RefactoringParticipant participant) {
+		ParticipantDescriptor descriptor= participant.getDescriptor();
+		return descriptor != null && descriptor.isThreadSafe();
+	}
+
+	/**
+	 * The outcome of a condition check performed by a job.
+	 */
+	private static final class ConcurrentCheck {
+		private RefactoringStatus fStatus;
+		private Throwable fException;
+
+		void run(RefactoringParticipant participant, IProgressMonitor pm, CheckConditionsContext context, String refactoringName) {
+			final PerformanceStats stats= PerformanceStats.getStats(PERF_CHECK_CONDITIONS, refactoringName + ", " + participant.getName()); //$NON-NLS-1$
+			stats.startRun();
+			try {
+				fStatus= participant.checkConditions(pm, context);
+			} catch (OperationCanceledException e) {
+				throw e;
+			} catch (RuntimeException | Error e) {
+				fException= e;
+			} finally {
+				stats.endRun();
+			}
+		}
+
+		boolean isFatal() {
+			return fStatus != null && fStatus.hasFatalError();
+		}
+
+		RefactoringStatus getResult() {
+			if (fException instanceof RuntimeException)
+				throw (RuntimeException) fException;
+			if (fException instanceof Error)
+				throw (Error) fException;
+			return fStatus;
+		}
+	}
+
+	/**
+	 * Performs the condition checks of the given thread safe participants in jobs. The
+	 * checks are started in the order of the participants, and participants that have not
+	 * been started when a check reports a fatal error are skipped, like the sequential loop
+	 * stops at the first fatal error. All jobs have finished when this method returns, so
+	 * the remaining participants are checked in the calling thread without sharing the
+	 * context with running checks.
+	 *
+	 * @param participants the participants
+	 * @param start the index of the first participant to check
+	 * @param end the index after the last participant to check
+	 * @param context the check conditions context
+	 * @param pm the progress monitor to forward cancellation from, only accessed from the calling thread
+	 * @return the checks in the order of the participants
+	 */
+	private ConcurrentCheck[] runConcurrentChecks(RefactoringParticipant[] participants, int start, int end, CheckConditionsContext context, IProgressMonitor pm) {
+		int count= end - start;
+		ConcurrentCheck[] checks= new ConcurrentCheck[count];
+		for (int i= 0; i < count; i++)
+			checks[i]= new ConcurrentCheck();
+
+		AtomicInteger nextCheck= new AtomicInteger();
+		AtomicBoolean canceled= new AtomicBoolean();
+		AtomicBoolean fatal= new AtomicBoolean();
+		IProgressMonitor checkMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return canceled.get();
+			}
+			@Override
+			public void setCanceled(boolean value) {
+				if (value)
+					canceled.set(true);
+			}
+		};
+		String name= getName();
+		int workers= Math.min(count, Runtime.getRuntime().availableProcessors());
+		CountDownLatch finished= new CountDownLatch(workers);
+		for (int w= 0; w < workers; w++) {
+			Job job= new Job(RefactoringCoreMessages.ProcessorBasedRefactoring_final_conditions) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						int i;
+						while ((i= nextCheck.getAndIncrement()) < count) {
+							if (canceled.get() || fatal.get())
+								continue;
+							ConcurrentCheck check= checks[i];
+							try {
+								check.run(participants[start + i], checkMonitor, context, name);
+							} catch (OperationCanceledException e) {
+								canceled.set(true);
+							}
+							if (check.isFatal())
+								fatal.set(true);
+						}
+					} finally {
+						finished.countDown();
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+
+		boolean interrupted= false;
+		while (true) {
+			try {
+				if (finished.await(100, TimeUnit.MILLISECONDS))
+					break;
+			} catch (InterruptedException e) {
+				// keep waiting, the checks must not access the context after this call
+				interrupted= true;
+				canceled.set(true);
+			}
+			if (pm.isCanceled())
+				canceled.set(true);
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+		if (canceled.get() || pm.isCanceled()) {
+			pm.setCanceled(true);
+			throw new OperationCanceledException();
+		}
+		return checks;
+	}
+
 	@Override
 	public Change createChange(IProgressMonitor pm) throws CoreException {
 		if (pm == null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.ltk.internal.core.refactoring;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.core.expressions.EvaluationResult;
 import org.eclipse.core.expressions.Expression;
 import org.eclipse.core.expressions.ExpressionConverter;
@@ -34,10 +38,56 @@ public class ParticipantDescriptor {
 	private IConfigurationElement fConfigurationElement;
 	private boolean fEnabled;
 
+	/** The enablement expression, converted on first use */
+	private Expression fExpression;
+	/**
+	 * Results of the enablement expression, or <code>null</code> if the expression
+	 * depends on more than the keys of {@link EvaluationKey}
+	 */
+	private Map<EvaluationKey, Boolean> fEvaluationCache;
+
 	private static final String ID= "id"; //$NON-NLS-1$
 	private static final String NAME= "name";  //$NON-NLS-1$
 	private static final String CLASS= "class"; //$NON-NLS-1$
 	private static final String PROCESS_ON_CANCEL= "processOnCancel";  //$NON-NLS-1$
+	private static final String THREAD_SAFE= "threadSafe";  //$NON-NLS-1$
+
+	private static final String VARIABLE_ELEMENT= "element"; //$NON-NLS-1$
+	private static final String VARIABLE_AFFECTED_NATURES= "affectedNatures"; //$NON-NLS-1$
+	private static final String VARIABLE_PROCESSOR_IDENTIFIER= "processorIdentifier"; //$NON-NLS-1$
+
+	/**
+	 * The values an enablement expression can depend on, if its result is cached:
+	 * the type of the element, the affected natures and the processor.
+	 */
+	private static final class EvaluationKey {
+
+		private final Class<?> fElementType;
+		private final Object fAffectedNatures;
+		private final Object fProcessorIdentifier;
+
+		EvaluationKey(IEvaluationContext context) {
+			Object element= context.getVariable(VARIABLE_ELEMENT);
+			fElementType= element != null ? element.getClass() : null;
+			fAffectedNatures= context.getVariable(VARIABLE_AFFECTED_NATURES);
+			fProcessorIdentifier= context.getVariable(VARIABLE_PROCESSOR_IDENTIFIER);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fElementType, fAffectedNatures, fProcessorIdentifier);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof EvaluationKey))
+				return false;
+			EvaluationKey other= (EvaluationKey) obj;
+			return fElementType == other.fElementType
+					&& Objects.equals(fAffectedNatures, other.fAffectedNatures)
+					&& Objects.equals(fProcessorIdentifier, other.fProcessorIdentifier);
+		}
+	}
 
 	public ParticipantDescriptor(IConfigurationElement element) {
 		fConfigurationElement= element;
@@ -71,12 +121,16 @@ public class ParticipantDescriptor {
 	}
 
 	public boolean matches(IEvaluationContext context, IParticipantDescriptorFilter filter, RefactoringStatus status) throws CoreException {
-		IConfigurationElement[] elements= fConfigurationElement.getChildren(ExpressionTagNames.ENABLEMENT);
-		if (elements.length == 0)
-			return false;
-		Assert.isTrue(elements.length == 1);
-		Expression exp= ExpressionConverter.getDefault().perform(elements[0]);
-		if (!convert(exp.evaluate(context)))
+		if (fExpression == null) {
+			IConfigurationElement[] elements= fConfigurationElement.getChildren(ExpressionTagNames.ENABLEMENT);
+			if (elements.length == 0)
+				return false;
+			Assert.isTrue(elements.length == 1);
+			fExpression= ExpressionConverter.getDefault().perform(elements[0]);
+			if (isCacheable(elements[0], VARIABLE_ELEMENT))
+				fEvaluationCache= new ConcurrentHashMap<>();
+		}
+		if (!evaluate(context))
 			return false;
 		if (filter != null && !filter.select(fConfigurationElement, status))
 			return false;
@@ -84,6 +138,62 @@ public class ParticipantDescriptor {
 		return true;
 	}
 
+	private boolean evaluate(IEvaluationContext context) throws CoreException {
+		if (fEvaluationCache == null)
+			return convert(fExpression.evaluate(context));
+
+		EvaluationKey key= new EvaluationKey(context);
+		Boolean result= fEvaluationCache.get(key);
+		if (result == null) {
+			result= Boolean.valueOf(convert(fExpression.evaluate(context)));
+			fEvaluationCache.put(key, result);
+		}
+		return result.booleanValue();
+	}
+
+	/**
+	 * Checks whether the result of the given expression only depends on the type of the
+	 * element, the affected natures and the processor identifier. This is the case if
+	 * the expression only combines <code>instanceof</code> tests, and tests on the
+	 * values of the natures and the processor. Property testers, adaptations and
+	 * tests of the element's value are evaluated each time.
+	 *
+	 * @param element the configuration element of the expression
+	 * @param variable the name of the variable the expression is evaluated on
+	 * @return <code>true</code> if the result of the expression can be cached
+	 */
+	private static boolean isCacheable(IConfigurationElement element, String variable) {
+		String name= element.getName();
+		String childVariable= variable;
+		switch (name) {
+			case ExpressionTagNames.ENABLEMENT:
+			case ExpressionTagNames.AND:
+			case ExpressionTagNames.OR:
+			case ExpressionTagNames.NOT:
+				break;
+			case ExpressionTagNames.WITH:
+				childVariable= element.getAttribute("variable"); //$NON-NLS-1$
+				if (!VARIABLE_ELEMENT.equals(childVariable) && !VARIABLE_AFFECTED_NATURES.equals(childVariable) && !VARIABLE_PROCESSOR_IDENTIFIER.equals(childVariable))
+					return false;
+				break;
+			case ExpressionTagNames.INSTANCEOF:
+				return true;
+			case ExpressionTagNames.ITERATE:
+			case ExpressionTagNames.COUNT:
+			case ExpressionTagNames.EQUALS:
+				if (VARIABLE_ELEMENT.equals(variable))
+					return false;
+				break;
+			default:
+				return false;
+		}
+		for (IConfigurationElement child : element.getChildren()) {
+			if (!isCacheable(child, childVariable))
+				return false;
+		}
+		return true;
+	}
+
 	public RefactoringParticipant createParticipant() throws CoreException {
 		return (RefactoringParticipant)fConfigurationElement.createExecutableExtension(CLASS);
 	}
@@ -103,6 +213,13 @@ public class ParticipantDescriptor {
 		return Boolean.parseBoolean(attr);
 	}
 
+	public boolean isThreadSafe() {
+		String attr= fConfigurationElement.getAttribute(THREAD_SAFE);
+		if (attr == null)
+			return false;
+		return Boolean.parseBoolean(attr);
+	}
+
 	private boolean convert(EvaluationResult eval) {
 		if (eval == EvaluationResult.FALSE)
 			return false;
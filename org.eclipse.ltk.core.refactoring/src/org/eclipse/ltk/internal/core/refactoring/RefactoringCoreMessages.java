@@ -273,6 +273,8 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String UndoableOperation2ChangeAdapter_no_undo_available;
 
+	public static String UndoEditStore_cannot_read;
+
 	public static String UndoManager2_no_change;
 
 	public static String UnknownRefactoringDescriptor_cannot_create_refactoring;
@@ -121,6 +121,8 @@ public class RefactoringCorePlugin extends Plugin {
 		service.connect();
 		fRefactoringHistoryListener= new RefactoringHistorySerializer();
 		service.addHistoryListener(fRefactoringHistoryListener);
+		// undo edits spilled by a previous session are not reachable anymore
+		UndoEditStore.getInstance().clear();
 	}
 
 	@Override
@@ -133,6 +135,7 @@ public class RefactoringCorePlugin extends Plugin {
 		}
 		if (fgUndoManager != null)
 			fgUndoManager.shutdown();
+		UndoEditStore.getInstance().clear();
 		final RefactoringHistoryService service= RefactoringHistoryService.getInstance();
 		service.disconnect();
 		if (fRefactoringHistoryListener != null)
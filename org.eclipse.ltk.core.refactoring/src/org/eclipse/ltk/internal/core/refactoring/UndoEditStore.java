@@ -0,0 +1,419 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.internal.core.refactoring;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.UndoEdit;
+
+/**
+ * Size-bounded storage for the undo edits of text file changes.
+ * <p>
+ * Undo edits are kept in memory until the retained size of all stored edits
+ * exceeds the memory budget. The oldest edits are then written to a compact
+ * file in the plug-in state location and loaded again when the undo is
+ * performed. The budget is read from the preference
+ * {@link RefactoringPreferenceConstants#PREFERENCE_UNDO_MEMORY_BUDGET} in KB.
+ * </p>
+ */
+public final class UndoEditStore {
+
+	/** Name of the undo folder in the state location */
+	private static final String NAME_UNDO_FOLDER= ".undo"; //$NON-NLS-1$
+
+	/** The default memory budget in KB */
+	private static final int DEFAULT_MEMORY_BUDGET= 32 * 1024;
+
+	/** Edits smaller than this are never written to disk */
+	private static final long MINIMAL_SPILL_SIZE= 4 * 1024;
+
+	private static final int FILE_MAGIC= 0x4C544B55;
+
+	private static final int FILE_VERSION= 2;
+
+	private static final long CHILD_OVERHEAD= 64;
+
+	/**
+	 * A stored undo edit.
+	 */
+	public final class Entry {
+
+		private TextEdit fEdit;
+		private final EntryReference fReference;
+		private final boolean fSpillable;
+
+		private Entry(UndoEdit edit) {
+			fEdit= edit;
+			long size= computeSize(edit);
+			fSpillable= size >= MINIMAL_SPILL_SIZE && isSpillable(edit);
+			fReference= new EntryReference(this, size, fQueue);
+		}
+
+		/**
+		 * Returns the stored edit, loading it from disk if it has been spilled.
+		 * An edit loaded from disk is a {@link MultiTextEdit} with the replace
+		 * edits of the original undo edit.
+		 *
+		 * @return the stored edit
+		 * @throws CoreException if the edit cannot be read
+		 */
+		public TextEdit getEdit() throws CoreException {
+			synchronized (UndoEditStore.this) {
+				if (fEdit == null && fReference.fFile != null) {
+					fEdit= read(fReference.fFile);
+					fLoadCount++;
+					reload(fReference);
+				}
+				return fEdit;
+			}
+		}
+
+		/**
+		 * Returns whether the edit currently lives on disk only.
+		 *
+		 * @return <code>true</code> if the edit has been spilled
+		 */
+		public boolean isSpilled() {
+			synchronized (UndoEditStore.this) {
+				return fEdit == null;
+			}
+		}
+
+		/**
+		 * Returns the estimated retained size of the edit in bytes.
+		 *
+		 * @return the estimated size
+		 */
+		public long getSize() {
+			return fReference.fSize;
+		}
+
+		/**
+		 * Releases the edit and deletes its file, if any.
+		 */
+		public void dispose() {
+			synchronized (UndoEditStore.this) {
+				fReference.clear();
+				release(fReference);
+				fEdit= null;
+			}
+		}
+	}
+
+	/*
+	 * Entries are only weakly referenced, so undo changes that are dropped without
+	 * being disposed don't keep their edits alive.
+	 */
+	private static final class EntryReference extends WeakReference<Entry> {
+		private final long fSize;
+		private File fFile;
+		private boolean fReleased;
+
+		EntryReference(Entry entry, long size, ReferenceQueue<Entry> queue) {
+			super(entry, queue);
+			fSize= size;
+		}
+	}
+
+	private static UndoEditStore fgInstance;
+
+	private final Set<EntryReference> fResident= new LinkedHashSet<>();
+	/*
+	 * Spilled entries are not referenced by their edits, keep their references
+	 * reachable until they are enqueued, so their files get deleted.
+	 */
+	private final Set<EntryReference> fSpilled= new HashSet<>();
+	private final ReferenceQueue<Entry> fQueue= new ReferenceQueue<>();
+	private long fRetainedSize;
+	private long fSpilledSize;
+	private int fSpillCount;
+	private int fLoadCount;
+	private long fMemoryBudget= -1;
+	private File fFolder;
+	private int fNextFileId;
+
+	public static synchronized UndoEditStore getInstance() {
+		if (fgInstance == null)
+			fgInstance= new UndoEditStore();
+		return fgInstance;
+	}
+
+	private UndoEditStore() {
+	}
+
+	/**
+	 * Adds an undo edit to the store, spilling older edits to disk if the
+	 * memory budget is exceeded.
+	 *
+	 * @param edit the edit to store
+	 * @return the entry representing the stored edit
+	 */
+	public synchronized Entry add(UndoEdit edit) {
+		purge();
+		Entry entry= new Entry(edit);
+		fResident.add(entry.fReference);
+		fRetainedSize+= entry.fReference.fSize;
+		trim();
+		return entry;
+	}
+
+	/**
+	 * Sets the memory budget. A negative value restores the budget from the preferences.
+	 *
+	 * @param budget the budget in bytes
+	 */
+	public synchronized void setMemoryBudget(long budget) {
+		fMemoryBudget= budget;
+		trim();
+	}
+
+	public synchronized long getMemoryBudget() {
+		if (fMemoryBudget < 0) {
+			int budget= Platform.getPreferencesService().getInt(RefactoringCorePlugin.getPluginId(), RefactoringPreferenceConstants.PREFERENCE_UNDO_MEMORY_BUDGET, DEFAULT_MEMORY_BUDGET, null);
+			return budget * 1024L;
+		}
+		return fMemoryBudget;
+	}
+
+	/**
+	 * Returns the estimated size in bytes of all edits held in memory.
+	 *
+	 * @return the retained size
+	 */
+	public synchronized long getRetainedSize() {
+		purge();
+		return fRetainedSize;
+	}
+
+	/**
+	 * Returns the estimated size in bytes of all edits that live on disk.
+	 *
+	 * @return the spilled size
+	 */
+	public synchronized long getSpilledSize() {
+		purge();
+		return fSpilledSize;
+	}
+
+	/**
+	 * Returns how many edits have been written to disk.
+	 *
+	 * @return the number of spilled edits
+	 */
+	public synchronized int getSpillCount() {
+		return fSpillCount;
+	}
+
+	/**
+	 * Returns how many edits have been loaded back from disk.
+	 *
+	 * @return the number of loaded edits
+	 */
+	public synchronized int getLoadCount() {
+		return fLoadCount;
+	}
+
+	/**
+	 * Deletes all files written by this store.
+	 */
+	public synchronized void clear() {
+		File folder= getFolder();
+		if (folder == null)
+			return;
+		File[] files= folder.listFiles();
+		if (files != null) {
+			for (File file : files)
+				file.delete();
+		}
+	}
+
+	private void trim() {
+		long budget= getMemoryBudget();
+		for (Iterator<EntryReference> iter= fResident.iterator(); iter.hasNext() && fRetainedSize > budget;) {
+			EntryReference reference= iter.next();
+			Entry entry= reference.get();
+			if (entry == null || !entry.fSpillable)
+				continue;
+			try {
+				File file= write(entry.fEdit);
+				if (file == null)
+					return;
+				reference.fFile= file;
+				entry.fEdit= null;
+				iter.remove();
+				fSpilled.add(reference);
+				fRetainedSize-= reference.fSize;
+				fSpilledSize+= reference.fSize;
+				fSpillCount++;
+			} catch (IOException e) {
+				RefactoringCorePlugin.log(e);
+				return;
+			}
+		}
+	}
+
+	private void purge() {
+		Reference<? extends Entry> reference;
+		while ((reference= fQueue.poll()) != null) {
+			release((EntryReference) reference);
+		}
+	}
+
+	private void release(EntryReference reference) {
+		if (reference.fReleased)
+			return;
+		reference.fReleased= true;
+		if (fResident.remove(reference)) {
+			fRetainedSize-= reference.fSize;
+		} else if (fSpilled.remove(reference)) {
+			fSpilledSize-= reference.fSize;
+			reference.fFile.delete();
+			reference.fFile= null;
+		}
+	}
+
+	/*
+	 * Moves an entry whose edit has been loaded back under the memory budget. The
+	 * budget is enforced on the next addition, so the loaded edit is not spilled
+	 * again before it is applied.
+	 */
+	private void reload(EntryReference reference) {
+		if (!fSpilled.remove(reference))
+			return;
+		fSpilledSize-= reference.fSize;
+		reference.fFile.delete();
+		reference.fFile= null;
+		fResident.add(reference);
+		fRetainedSize+= reference.fSize;
+	}
+
+	private File getFolder() {
+		if (fFolder == null) {
+			RefactoringCorePlugin plugin= RefactoringCorePlugin.getDefault();
+			if (plugin == null)
+				return null;
+			File folder= plugin.getStateLocation().append(NAME_UNDO_FOLDER).toFile();
+			if (!folder.isDirectory() && !folder.mkdirs())
+				return null;
+			fFolder= folder;
+		}
+		return fFolder;
+	}
+
+	private File write(TextEdit edit) throws IOException {
+		File folder= getFolder();
+		if (folder == null)
+			return null;
+		File file= new File(folder, "undo" + fNextFileId++ + ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		TextEdit[] children= getSortedChildren(edit);
+		try (DataOutputStream stream= new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(new FileOutputStream(file))))) {
+			stream.writeInt(FILE_MAGIC);
+			stream.writeInt(FILE_VERSION);
+			stream.writeInt(children.length);
+			for (TextEdit child : children) {
+				ReplaceEdit replace= (ReplaceEdit) child;
+				// write the chars, edit texts may contain unpaired surrogates
+				String text= replace.getText();
+				stream.writeInt(replace.getOffset());
+				stream.writeInt(replace.getLength());
+				stream.writeInt(text.length());
+				stream.writeChars(text);
+			}
+		} catch (IOException e) {
+			file.delete();
+			throw e;
+		}
+		return file;
+	}
+
+	private static TextEdit read(File file) throws CoreException {
+		try (DataInputStream stream= new DataInputStream(new BufferedInputStream(new InflaterInputStream(new FileInputStream(file))))) {
+			if (stream.readInt() != FILE_MAGIC || stream.readInt() != FILE_VERSION)
+				throw new IOException("Unknown undo file format: " + file); //$NON-NLS-1$
+			int count= stream.readInt();
+			MultiTextEdit result= new MultiTextEdit();
+			for (int i= 0; i < count; i++) {
+				int offset= stream.readInt();
+				int length= stream.readInt();
+				char[] text= new char[stream.readInt()];
+				for (int k= 0; k < text.length; k++)
+					text[k]= stream.readChar();
+				result.addChild(new ReplaceEdit(offset, length, new String(text)));
+			}
+			return result;
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), IStatus.ERROR,
+				Messages.format(RefactoringCoreMessages.UndoEditStore_cannot_read, file.getAbsolutePath()), e));
+		}
+	}
+
+	private static long computeSize(TextEdit edit) {
+		long size= CHILD_OVERHEAD;
+		for (TextEdit child : edit.getChildren()) {
+			size+= CHILD_OVERHEAD;
+			if (child instanceof ReplaceEdit)
+				size+= 2L * ((ReplaceEdit) child).getText().length();
+		}
+		return size;
+	}
+
+	/*
+	 * Spilled edits are restored as a multi text edit, which orders its children by offset.
+	 * This is only equivalent to the undo edit if no two children start at the same offset.
+	 */
+	private static boolean isSpillable(TextEdit edit) {
+		TextEdit[] children= getSortedChildren(edit);
+		for (int i= 0; i < children.length; i++) {
+			if (!(children[i] instanceof ReplaceEdit) || children[i].hasChildren())
+				return false;
+			if (i > 0 && children[i - 1].getExclusiveEnd() > children[i].getOffset())
+				return false;
+			if (i > 0 && children[i - 1].getOffset() == children[i].getOffset())
+				return false;
+		}
+		return true;
+	}
+
+	private static TextEdit[] getSortedChildren(TextEdit edit) {
+		TextEdit[] children= edit.getChildren();
+		Arrays.sort(children, Comparator.comparingInt(TextEdit::getOffset));
+		return children;
+	}
+}